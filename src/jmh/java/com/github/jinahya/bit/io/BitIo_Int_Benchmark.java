@@ -0,0 +1,115 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BitOutput#writeInt(boolean, int, int)} and {@link BitInput#readInt(boolean, int)} methods, of both
+ * byte adapters, for all sizes.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class BitIo_Int_Benchmark {
+
+    static final int COUNT = 1024;
+
+    static BitOutput output(final String adapter, final ByteBuffer buffer) {
+        final ByteOutput output = new BufferByteOutput(buffer);
+        return "64".equals(adapter) ? new ByteOutputAdapter64(output) : new ByteOutputAdapter(output);
+    }
+
+    static BitInput input(final String adapter, final ByteBuffer buffer) {
+        final ByteInput input = new BufferByteInput(buffer);
+        return "64".equals(adapter) ? new ByteInputAdapter64(input) : new ByteInputAdapter(input);
+    }
+
+    @Param({"8", "64"})
+    public String adapter;
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16", "17", "18", "19",
+            "20", "21", "22", "23", "24", "25", "26", "27", "28", "29", "30", "31", "32"})
+    public int size;
+
+    private final int[] values = new int[COUNT];
+
+    private ByteBuffer target;
+
+    private ByteBuffer source;
+
+    @Setup
+    public void setup() throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ThreadLocalRandom.current().nextInt() >> (Integer.SIZE - size);
+        }
+        target = ByteBuffer.allocate(COUNT * Integer.BYTES + Long.BYTES);
+        source = ByteBuffer.allocate(target.capacity());
+        final BitOutput output = output(adapter, source);
+        for (final int value : values) {
+            output.writeInt(false, size, value);
+        }
+        output.align(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long writeInt() throws IOException {
+        target.clear();
+        final BitOutput output = output(adapter, target);
+        for (final int value : values) {
+            output.writeInt(false, size, value);
+        }
+        return output.align(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void readInt(final Blackhole blackhole) throws IOException {
+        source.clear();
+        final BitInput input = input(adapter, source);
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(input.readInt(false, size));
+        }
+    }
+}
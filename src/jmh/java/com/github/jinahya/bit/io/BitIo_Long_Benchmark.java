@@ -0,0 +1,107 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BitOutput#writeLong(boolean, int, long)} and {@link BitInput#readLong(boolean, int)} methods, of
+ * both byte adapters, for all sizes.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class BitIo_Long_Benchmark {
+
+    private static final int COUNT = BitIo_Int_Benchmark.COUNT;
+
+    @Param({"8", "64"})
+    public String adapter;
+
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16", "17", "18", "19",
+            "20", "21", "22", "23", "24", "25", "26", "27", "28", "29", "30", "31", "32", "33", "34", "35", "36", "37",
+            "38", "39", "40", "41", "42", "43", "44", "45", "46", "47", "48", "49", "50", "51", "52", "53", "54", "55",
+            "56", "57", "58", "59", "60", "61", "62", "63", "64"})
+    public int size;
+
+    private final long[] values = new long[COUNT];
+
+    private ByteBuffer target;
+
+    private ByteBuffer source;
+
+    @Setup
+    public void setup() throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ThreadLocalRandom.current().nextLong() >> (Long.SIZE - size);
+        }
+        target = ByteBuffer.allocate(COUNT * Long.BYTES + Long.BYTES);
+        source = ByteBuffer.allocate(target.capacity());
+        final BitOutput output = BitIo_Int_Benchmark.output(adapter, source);
+        for (final long value : values) {
+            output.writeLong(false, size, value);
+        }
+        output.align(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long writeLong() throws IOException {
+        target.clear();
+        final BitOutput output = BitIo_Int_Benchmark.output(adapter, target);
+        for (final long value : values) {
+            output.writeLong(false, size, value);
+        }
+        return output.align(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void readLong(final Blackhole blackhole) throws IOException {
+        source.clear();
+        final BitInput input = BitIo_Int_Benchmark.input(adapter, source);
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(input.readLong(false, size));
+        }
+    }
+}
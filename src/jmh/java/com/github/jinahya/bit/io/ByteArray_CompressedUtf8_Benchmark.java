@@ -0,0 +1,119 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ByteArrayWriter#compressedUtf8()} and {@link ByteArrayReader#compressedUtf8()}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class ByteArray_CompressedUtf8_Benchmark {
+
+    private static final int COUNT = 64;
+
+    private static final int LENGTH = 64;
+
+    /**
+     * The percentage of non-ASCII characters.
+     */
+    @Param({"0", "10", "50", "100"})
+    public int nonAscii;
+
+    private final byte[][] values = new byte[COUNT][];
+
+    private final BitWriter<byte[]> writer = ByteArrayWriter.compressedUtf8();
+
+    private final BitReader<byte[]> reader = ByteArrayReader.compressedUtf8();
+
+    private ByteBuffer target;
+
+    private ByteBuffer source;
+
+    @Setup
+    public void setup() throws IOException {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < values.length; i++) {
+            final StringBuilder builder = new StringBuilder(LENGTH);
+            for (int j = 0; j < LENGTH; j++) {
+                if (random.nextInt(100) < nonAscii) {
+                    builder.append((char) random.nextInt(0xAC00, 0xD7A4)); // Hangul syllables
+                } else {
+                    builder.append((char) random.nextInt(0x20, 0x7F));
+                }
+            }
+            values[i] = builder.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        target = ByteBuffer.allocate(COUNT * LENGTH * 4);
+        source = ByteBuffer.allocate(target.capacity());
+        final BitOutput output = new ByteOutputAdapter(new BufferByteOutput(source));
+        for (final byte[] value : values) {
+            writer.write(output, value);
+        }
+        output.align(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long write() throws IOException {
+        target.clear();
+        final BitOutput output = new ByteOutputAdapter(new BufferByteOutput(target));
+        for (final byte[] value : values) {
+            writer.write(output, value);
+        }
+        return output.align(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void read(final Blackhole blackhole) throws IOException {
+        source.clear();
+        final BitInput input = new ByteInputAdapter(new BufferByteInput(source));
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(reader.read(input));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures single and bulk transfers of all {@link ByteInput} and {@link ByteOutput} backends.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class ByteIo_Backend_Benchmark {
+
+    private static final int COUNT = 8192;
+
+    private static final int CAPACITY = 1024;
+
+    @Param({"stream", "data", "randomAccessFile", "buffer", "channel", "channelBuffered"})
+    public String backend;
+
+    private final byte[] bytes = new byte[COUNT];
+
+    private final ByteArrayOutputStream sink = new ByteArrayOutputStream(COUNT);
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(COUNT);
+
+    private File file;
+
+    private RandomAccessFile randomAccessFile;
+
+    @Setup
+    public void setup() throws IOException {
+        ThreadLocalRandom.current().nextBytes(bytes);
+        buffer.put(bytes);
+        file = File.createTempFile("bit-io2", null);
+        randomAccessFile = new RandomAccessFile(file, "rw");
+        randomAccessFile.write(bytes);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        randomAccessFile.close();
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+
+    private ByteOutput output() throws IOException {
+        sink.reset();
+        switch (backend) {
+            case "stream":
+                return new StreamByteOutput(sink);
+            case "data":
+                return new DataByteOutput(new DataOutputStream(sink));
+            case "randomAccessFile":
+                randomAccessFile.seek(0L);
+                return new RandomAccessByteOutput(randomAccessFile);
+            case "buffer":
+                buffer.clear();
+                return new BufferByteOutput(buffer);
+            case "channel":
+                return new ChannelByteOutput(Channels.newChannel(sink));
+            case "channelBuffered":
+                return new ChannelByteOutput(Channels.newChannel(sink), CAPACITY, false);
+            default:
+                throw new IllegalStateException("unknown backend: " + backend);
+        }
+    }
+
+    private ByteInput input() throws IOException {
+        switch (backend) {
+            case "stream":
+                return new StreamByteInput(new ByteArrayInputStream(bytes));
+            case "data":
+                return new DataByteInput(new DataInputStream(new ByteArrayInputStream(bytes)));
+            case "randomAccessFile":
+                randomAccessFile.seek(0L);
+                return new RandomAccessByteInput(randomAccessFile);
+            case "buffer":
+                buffer.clear();
+                return new BufferByteInput(buffer);
+            case "channel":
+                return new ChannelByteInput(Channels.newChannel(new ByteArrayInputStream(bytes)));
+            case "channelBuffered":
+                return new ChannelByteInput(Channels.newChannel(new ByteArrayInputStream(bytes)), CAPACITY, false);
+            default:
+                throw new IllegalStateException("unknown backend: " + backend);
+        }
+    }
+
+    private static void flush(final ByteOutput output) throws IOException {
+        if (output instanceof ChannelByteOutput) {
+            ((ChannelByteOutput) output).flush();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void write() throws IOException {
+        final ByteOutput output = output();
+        for (final byte b : bytes) {
+            output.write(b);
+        }
+        flush(output);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void read(final Blackhole blackhole) throws IOException {
+        final ByteInput input = input();
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(input.read());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void writeBulk() throws IOException {
+        final ByteOutput output = output();
+        output.write(bytes, 0, bytes.length);
+        flush(output);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public byte[] readBulk() throws IOException {
+        final byte[] dst = new byte[COUNT];
+        input().read(dst, 0, dst.length);
+        return dst;
+    }
+}
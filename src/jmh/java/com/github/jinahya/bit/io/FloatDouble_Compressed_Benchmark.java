@@ -0,0 +1,191 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures compressed variants of {@link FloatWriter}/{@link FloatReader} and {@link DoubleWriter}/{@link
+ * DoubleReader}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class FloatDouble_Compressed_Benchmark {
+
+    private static final int COUNT = 1024;
+
+    @Param({"zero", "infinity", "subnormal", "nan"})
+    public String variant;
+
+    private final float[] floats = new float[COUNT];
+
+    private final double[] doubles = new double[COUNT];
+
+    private BitWriter<Float> floatWriter;
+
+    private BitReader<Float> floatReader;
+
+    private BitWriter<Double> doubleWriter;
+
+    private BitReader<Double> doubleReader;
+
+    private ByteBuffer target;
+
+    private ByteBuffer floatSource;
+
+    private ByteBuffer doubleSource;
+
+    @Setup
+    public void setup() throws IOException {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < COUNT; i++) {
+            final boolean negative = random.nextBoolean();
+            switch (variant) {
+                case "zero":
+                    floats[i] = negative ? -.0f : .0f;
+                    doubles[i] = negative ? -.0d : .0d;
+                    break;
+                case "infinity":
+                    floats[i] = negative ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+                    doubles[i] = negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+                    break;
+                case "subnormal":
+                    floats[i] = Float.intBitsToFloat(
+                            (negative ? Integer.MIN_VALUE : 0) | random.nextInt(1, 1 << 23));
+                    doubles[i] = Double.longBitsToDouble(
+                            (negative ? Long.MIN_VALUE : 0L) | random.nextLong(1L, 1L << 52));
+                    break;
+                case "nan":
+                    floats[i] = Float.intBitsToFloat(
+                            FloatConstants.MASK_EXPONENT | random.nextInt(1, 1 << 23));
+                    doubles[i] = Double.longBitsToDouble(
+                            DoubleConstants.MASK_EXPONENT | random.nextLong(1L, 1L << 52));
+                    break;
+                default:
+                    throw new IllegalStateException("unknown variant: " + variant);
+            }
+        }
+        switch (variant) {
+            case "zero":
+                floatWriter = FloatWriter.CompressedZero.getInstance();
+                floatReader = FloatReader.CompressedZero.getInstance();
+                doubleWriter = DoubleWriter.CompressedZero.getInstance();
+                doubleReader = DoubleReader.CompressedZero.getInstance();
+                break;
+            case "infinity":
+                floatWriter = FloatWriter.CompressedInfinity.getInstance();
+                floatReader = FloatReader.CompressedInfinity.getInstance();
+                doubleWriter = DoubleWriter.CompressedInfinity.getInstance();
+                doubleReader = DoubleReader.CompressedInfinity.getInstance();
+                break;
+            case "subnormal":
+                floatWriter = new FloatWriter.CompressedSubnormal(FloatConstants.SIZE_SIGNIFICAND);
+                floatReader = new FloatReader.CompressedSubnormal(FloatConstants.SIZE_SIGNIFICAND);
+                doubleWriter = new DoubleWriter.CompressedSubnormal(DoubleConstants.SIZE_SIGNIFICAND);
+                doubleReader = new DoubleReader.CompressedSubnormal(DoubleConstants.SIZE_SIGNIFICAND);
+                break;
+            default:
+                floatWriter = new FloatWriter.CompressedNaN(FloatConstants.SIZE_SIGNIFICAND);
+                floatReader = new FloatReader.CompressedNaN(FloatConstants.SIZE_SIGNIFICAND);
+                doubleWriter = new DoubleWriter.CompressedNaN(DoubleConstants.SIZE_SIGNIFICAND);
+                doubleReader = new DoubleReader.CompressedNaN(DoubleConstants.SIZE_SIGNIFICAND);
+                break;
+        }
+        target = ByteBuffer.allocate(COUNT * Long.BYTES + Long.BYTES);
+        floatSource = ByteBuffer.allocate(target.capacity());
+        BitOutput output = new ByteOutputAdapter(new BufferByteOutput(floatSource));
+        for (final float value : floats) {
+            floatWriter.write(output, value);
+        }
+        output.align(1);
+        doubleSource = ByteBuffer.allocate(target.capacity());
+        output = new ByteOutputAdapter(new BufferByteOutput(doubleSource));
+        for (final double value : doubles) {
+            doubleWriter.write(output, value);
+        }
+        output.align(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long writeFloat() throws IOException {
+        target.clear();
+        final BitOutput output = new ByteOutputAdapter(new BufferByteOutput(target));
+        for (final float value : floats) {
+            floatWriter.write(output, value);
+        }
+        return output.align(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void readFloat(final Blackhole blackhole) throws IOException {
+        floatSource.clear();
+        final BitInput input = new ByteInputAdapter(new BufferByteInput(floatSource));
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(floatReader.read(input));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long writeDouble() throws IOException {
+        target.clear();
+        final BitOutput output = new ByteOutputAdapter(new BufferByteOutput(target));
+        for (final double value : doubles) {
+            doubleWriter.write(output, value);
+        }
+        return output.align(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void readDouble(final Blackhole blackhole) throws IOException {
+        doubleSource.clear();
+        final BitInput input = new ByteInputAdapter(new BufferByteInput(doubleSource));
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(doubleReader.read(input));
+        }
+    }
+}
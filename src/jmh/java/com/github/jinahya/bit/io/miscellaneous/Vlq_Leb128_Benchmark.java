@@ -0,0 +1,133 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitInput;
+import com.github.jinahya.bit.io.BitInputFactory;
+import com.github.jinahya.bit.io.BitOutput;
+import com.github.jinahya.bit.io.BitOutputFactory;
+import com.github.jinahya.bit.io.LongReader;
+import com.github.jinahya.bit.io.LongWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link VlqWriter}/{@link VlqReader} and {@link Leb128Writer}/{@link Leb128Reader}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+@State(Scope.Thread)
+public class Vlq_Leb128_Benchmark {
+
+    private static final int COUNT = 1024;
+
+    @Param({"vlq", "leb128Unsigned", "leb128Signed"})
+    public String codec;
+
+    /**
+     * The maximum number of significant bits of values.
+     */
+    @Param({"7", "21", "63"})
+    public int bits;
+
+    private final long[] values = new long[COUNT];
+
+    private LongWriter writer;
+
+    private LongReader reader;
+
+    private ByteBuffer target;
+
+    private ByteBuffer source;
+
+    @Setup
+    public void setup() throws IOException {
+        switch (codec) {
+            case "vlq":
+                writer = VlqWriter.getInstance();
+                reader = VlqReader.getInstance();
+                break;
+            case "leb128Unsigned":
+                writer = Leb128Writer.getInstanceUnsigned();
+                reader = Leb128Reader.getInstanceUnsigned();
+                break;
+            case "leb128Signed":
+                writer = Leb128Writer.getInstanceSigned();
+                reader = Leb128Reader.getInstanceSigned();
+                break;
+            default:
+                throw new IllegalStateException("unknown codec: " + codec);
+        }
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong() >>> (Long.SIZE - random.nextInt(1, bits + 1));
+        }
+        target = ByteBuffer.allocate(COUNT * (Long.BYTES + 2));
+        source = ByteBuffer.allocate(target.capacity());
+        final BitOutput output = BitOutputFactory.from(source);
+        for (final long value : values) {
+            writer.writeLong(output, value);
+        }
+        output.align(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long write() throws IOException {
+        target.clear();
+        final BitOutput output = BitOutputFactory.from(target);
+        for (final long value : values) {
+            writer.writeLong(output, value);
+        }
+        return output.align(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public void read(final Blackhole blackhole) throws IOException {
+        source.clear();
+        final BitInput input = BitInputFactory.from(source);
+        for (int i = 0; i < COUNT; i++) {
+            blackhole.consume(reader.readLong(input));
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+/**
+ * An abstract bit input takes values out of {@value java.lang.Long#SIZE}-bit words with a single shift-and-mask for
+ * each.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ByteInputAdapter64
+ * @see AbstractSeekableBitInput
+ */
+abstract class AbstractBitInput64
+        implements UncheckedBitInput {
+
+    /**
+     * The maximum number of bits which can be taken, at once, from a single word. The value is {@value}.
+     */
+    static final int SIZE_MAX = Long.SIZE - Byte.SIZE + 1;
+
+    /**
+     * Creates a new instance.
+     */
+    AbstractBitInput64() {
+        super();
+    }
+
+    @Override
+    public int readInt(final boolean unsigned, final int size) throws IOException {
+        BitIoConstraints.requireValidSizeForInt(unsigned, size);
+        final int value = (int) unsigned57(size);
+        if (unsigned) {
+            return value;
+        }
+        final int shift = Integer.SIZE - size;
+        return value << shift >> shift;
+    }
+
+    @Override
+    public long readLong(final boolean unsigned, final int size) throws IOException {
+        BitIoConstraints.requireValidSizeForLong(unsigned, size);
+        return readUnchecked(unsigned, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param dst      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once, reads values, in chunks, as
+     * {@link #readLongs(boolean, int, long[], int, int)} does, and narrows them.
+     */
+    @Override
+    public void readBytes(final boolean unsigned, final int size, final byte[] dst, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForByte(unsigned, size);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        for (int i = off, end = off + len; i < end; ) {
+            final int n = Math.min(end - i, values().length);
+            longs(unsigned, size, values, 0, n);
+            for (int j = 0; j < n; j++) {
+                dst[i++] = (byte) values[j];
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param dst      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once, reads values, in chunks, as
+     * {@link #readLongs(boolean, int, long[], int, int)} does, and narrows them.
+     */
+    @Override
+    public void readInts(final boolean unsigned, final int size, final int[] dst, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForInt(unsigned, size);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        for (int i = off, end = off + len; i < end; ) {
+            final int n = Math.min(end - i, values().length);
+            longs(unsigned, size, values, 0, n);
+            for (int j = 0; j < n; j++) {
+                dst[i++] = (int) values[j];
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param dst      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once.
+     */
+    @Override
+    public void readLongs(final boolean unsigned, final int size, final long[] dst, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForLong(unsigned, size);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        longs(unsigned, size, dst, off, len);
+    }
+
+    @Override
+    public void skip(int bits) throws IOException {
+        if (bits <= 0) {
+            throw new IllegalArgumentException("not positive; bits: " + bits);
+        }
+        for (; bits > SIZE_MAX; bits -= Integer.SIZE) {
+            unsigned57(Integer.SIZE);
+        }
+        unsigned57(bits);
+    }
+
+    @Override
+    public long readUnchecked(final boolean unsigned, final int size) throws IOException {
+        final long value;
+        if (size <= SIZE_MAX) {
+            value = unsigned57(size);
+        } else {
+            value = (unsigned57(size - Integer.SIZE) << Integer.SIZE) | unsigned57(Integer.SIZE);
+        }
+        if (unsigned) {
+            return value;
+        }
+        final int shift = Long.SIZE - size;
+        return value << shift >> shift;
+    }
+
+    /**
+     * Reads an unsigned {@code long} value of specified number of bits.
+     *
+     * @param size the number of bits to read; between {@code 1} and {@value #SIZE_MAX}, both inclusive.
+     * @return an unsigned {@code long} value.
+     * @throws IOException if an I/O error occurs.
+     */
+    abstract long unsigned57(int size) throws IOException;
+
+    /**
+     * Returns the array for narrowing values in bulk.
+     *
+     * @return the array for narrowing values in bulk.
+     */
+    private long[] values() {
+        if (values == null) {
+            values = new long[BitIoConstants.BULK_CHUNK_SIZE];
+        }
+        return values;
+    }
+
+    /**
+     * Returns the array for reading packed octets in bulk.
+     *
+     * @return the array for reading packed octets in bulk.
+     */
+    private byte[] packed() {
+        if (packed == null) {
+            packed = new byte[BitIoConstants.BULK_CHUNK_SIZE];
+        }
+        return packed;
+    }
+
+    /**
+     * Reads values of specified number of bits into specified range of specified array without checking arguments.
+     * Values are read, in blocks, as packed octets with {@link #readBytes(byte[], int, int)}, and unpacked with
+     * {@link BitPacker}; those remaining values are read one by one.
+     *
+     * @param unsigned a flag for indicating unsigned values.
+     * @param size     the number of bits for each value.
+     * @param dst      the array into which values are read.
+     * @param off      the offset in the {@code dst}.
+     * @param len      the number of values to read.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void longs(final boolean unsigned, final int size, final long[] dst, int off, final int len)
+            throws IOException {
+        final int end = off + len;
+        final int blocks = len / BitPacker.BLOCK_SIZE;
+        if (blocks > 0) {
+            final int chunk = packed().length / size;
+            final int shift = Long.SIZE - size;
+            for (int remaining = blocks; remaining > 0; ) {
+                final int n = Math.min(remaining, chunk);
+                readBytes(packed, 0, n * size);
+                BitPacker.unpack(size, packed, 0, dst, off, n);
+                if (!unsigned) {
+                    for (int i = off, e = off + n * BitPacker.BLOCK_SIZE; i < e; i++) {
+                        dst[i] = dst[i] << shift >> shift;
+                    }
+                }
+                off += n * BitPacker.BLOCK_SIZE;
+                remaining -= n;
+            }
+        }
+        for (; off < end; off++) {
+            dst[off] = readUnchecked(unsigned, size);
+        }
+    }
+
+    /**
+     * An array for narrowing values in bulk; lazily initialized.
+     */
+    private long[] values;
+
+    /**
+     * An array for reading packed octets in bulk; lazily initialized.
+     */
+    private byte[] packed;
+}
@@ -0,0 +1,391 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+/**
+ * An abstract bit output packs bits into a {@value java.lang.Long#SIZE}-bit buffer and flushes them, as big-endian
+ * octets, to a sink.
+ * <p>
+ * The buffer is flushed, as a whole, only when it fills up. Those octets remaining in the buffer are flushed when
+ * {@link #align(int)} method is invoked, which is also the point where this class pads exactly the same bits, and
+ * reports exactly the same result, as {@link ByteOutputAdapter} does.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ByteOutputAdapter64
+ * @see MappedBitOutput
+ */
+abstract class AbstractBitOutput64
+        implements UncheckedBitOutput {
+
+    /**
+     * Returns a mask for lower specified number of bits.
+     *
+     * @param size the number of bits; between {@code 0} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @return a mask for lower {@code size} bits.
+     */
+    private static long mask(final int size) {
+        return size == 0 ? 0L : -1L >>> (Long.SIZE - size);
+    }
+
+    /**
+     * Creates a new instance.
+     */
+    AbstractBitOutput64() {
+        super();
+    }
+
+    @Override
+    public void writeInt(final boolean unsigned, final int size, final int value) throws IOException {
+        BitIoConstraints.requireValidSizeForInt(unsigned, size);
+        if (unsigned) {
+            unsigned64(size, value & mask(size));
+            return;
+        }
+        unsigned64(size, ((value < 0 ? 1L : 0L) << (size - 1)) | (value & mask(size - 1)));
+    }
+
+    @Override
+    public void writeLong(final boolean unsigned, final int size, final long value) throws IOException {
+        BitIoConstraints.requireValidSizeForLong(unsigned, size);
+        if (unsigned) {
+            unsigned64(size, value & mask(size));
+            return;
+        }
+        unsigned64(size, ((value < 0L ? 1L : 0L) << (size - 1)) | (value & mask(size - 1)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param src      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once, widens values, in chunks, to {@code long}s, and writes them
+     * as {@link #writeLongs(boolean, int, long[], int, int)} does.
+     */
+    @Override
+    public void writeBytes(final boolean unsigned, final int size, final byte[] src, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForByte(unsigned, size);
+        ByteIoUtils.requireValidRange(src, off, len);
+        for (int i = off, end = off + len; i < end; ) {
+            final int n = Math.min(end - i, values().length);
+            for (int j = 0; j < n; j++) {
+                values[j] = src[i++];
+            }
+            longs(size, values, 0, n);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param src      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once, widens values, in chunks, to {@code long}s, and writes them
+     * as {@link #writeLongs(boolean, int, long[], int, int)} does.
+     */
+    @Override
+    public void writeInts(final boolean unsigned, final int size, final int[] src, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForInt(unsigned, size);
+        ByteIoUtils.requireValidRange(src, off, len);
+        for (int i = off, end = off + len; i < end; ) {
+            final int n = Math.min(end - i, values().length);
+            for (int j = 0; j < n; j++) {
+                values[j] = src[i++];
+            }
+            longs(size, values, 0, n);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param src      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once.
+     */
+    @Override
+    public void writeLongs(final boolean unsigned, final int size, final long[] src, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForLong(unsigned, size);
+        ByteIoUtils.requireValidRange(src, off, len);
+        longs(size, src, off, len);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method flushes octets remaining in the buffer, and then, when this output is aligned, flushes all
+     * {@code len} bytes with a single {@link #flush(byte[], int, int)} call. When this output is not aligned, the
+     * bytes are shifted, and flushed, in chunks of a lazily allocated array.
+     */
+    @Override
+    public void writeBytes(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        final int partial = used & 0x07;
+        if (partial == 0) {
+            drain();
+            flush(src, off, len);
+            count += len;
+            return;
+        }
+        int carry = (int) buffer & ((1 << partial) - 1);
+        buffer >>>= partial;
+        used -= partial;
+        drain();
+        final int shift = Byte.SIZE - partial;
+        final byte[] shifted = chunk();
+        for (int i = off, end = off + len; i < end; ) {
+            final int n = Math.min(end - i, shifted.length);
+            for (int j = 0; j < n; j++) {
+                final int b = src[i++] & 0xFF;
+                shifted[j] = (byte) ((carry << shift) | (b >> partial));
+                carry = b & ((1 << partial) - 1);
+            }
+            flush(shifted, 0, n);
+            count += n;
+        }
+        buffer = carry;
+        used = partial;
+    }
+
+    @Override
+    public void skip(int bits) throws IOException {
+        if (bits <= 0) {
+            throw new IllegalArgumentException("not positive; bits: " + bits);
+        }
+        for (; bits > Long.SIZE; bits -= Long.SIZE) {
+            unsigned64(Long.SIZE, 0L);
+        }
+        unsigned64(bits, 0L);
+    }
+
+    @Override
+    public long align(final int bytes) throws IOException {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("bytes(" + bytes + ") is not positive");
+        }
+        long bits = 0L; // the number of padded bits
+        final int partial = used & 0x07;
+        if (partial > 0) {
+            bits += Byte.SIZE - partial;
+            unsigned64(Byte.SIZE - partial, 0L);
+        }
+        if (bytes > 1) {
+            for (int i = (bytes - (int) ((count + (used >> 3)) % bytes)); i > 0; i--) {
+                unsigned64(Byte.SIZE, 0L);
+                bits += Byte.SIZE;
+            }
+        }
+        drain();
+        return bits;
+    }
+
+    @Override
+    public void reset() {
+        if ((used & 0x07) > 0) {
+            throw new IllegalStateException("not aligned yet");
+        }
+        count = -(used >> 3); // those octets, still in the buffer, will be counted when they are flushed
+    }
+
+    @Override
+    public void writeUnchecked(final int size, final long value) throws IOException {
+        unsigned64(size, value & mask(size));
+    }
+
+    /**
+     * Flushes a whole buffer, as {@value java.lang.Long#BYTES} big-endian octets, to the sink.
+     *
+     * @param word the buffer to flush.
+     * @throws IOException if an I/O error occurs.
+     */
+    abstract void flush(long word) throws IOException;
+
+    /**
+     * Flushes specified range of specified array to the sink.
+     *
+     * @param src the array of octets to flush.
+     * @param off the offset in the {@code src}.
+     * @param len the number of octets to flush.
+     * @throws IOException if an I/O error occurs.
+     */
+    abstract void flush(byte[] src, int off, int len) throws IOException;
+
+    /**
+     * Returns the array for widening values in bulk.
+     *
+     * @return the array for widening values in bulk.
+     */
+    private long[] values() {
+        if (values == null) {
+            values = new long[BitIoConstants.BULK_CHUNK_SIZE];
+        }
+        return values;
+    }
+
+    /**
+     * Returns the array for writing packed octets in bulk.
+     *
+     * @return the array for writing packed octets in bulk.
+     */
+    private byte[] packed() {
+        if (packed == null) {
+            packed = new byte[BitIoConstants.BULK_CHUNK_SIZE];
+        }
+        return packed;
+    }
+
+    /**
+     * Writes lower specified number of bits of values in specified range of specified array without checking
+     * arguments. Values are packed, in blocks, with {@link BitPacker} and written with
+     * {@link #writeBytes(byte[], int, int)}; those remaining values are written one by one.
+     *
+     * @param size the number of bits for each value.
+     * @param src  the array of values.
+     * @param off  the offset in the {@code src}.
+     * @param len  the number of values to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void longs(final int size, final long[] src, int off, final int len) throws IOException {
+        final int end = off + len;
+        final int blocks = len / BitPacker.BLOCK_SIZE;
+        if (blocks > 0) {
+            final int chunk = packed().length / size;
+            for (int remaining = blocks; remaining > 0; ) {
+                final int n = Math.min(remaining, chunk);
+                BitPacker.pack(size, src, off, packed, 0, n);
+                writeBytes(packed, 0, n * size);
+                off += n * BitPacker.BLOCK_SIZE;
+                remaining -= n;
+            }
+        }
+        final long mask = mask(size);
+        for (; off < end; off++) {
+            unsigned64(size, src[off] & mask);
+        }
+    }
+
+    /**
+     * Returns the array for flushing shifted octets in bulk.
+     *
+     * @return the array for flushing shifted octets in bulk.
+     */
+    private byte[] chunk() {
+        if (chunk == null) {
+            chunk = new byte[BitIoConstants.BULK_CHUNK_SIZE];
+        }
+        return chunk;
+    }
+
+    /**
+     * Flushes all octets remaining in the buffer.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void drain() throws IOException {
+        assert (used & 0x07) == 0;
+        final int length = used >> 3;
+        if (length == 0) {
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            octets[i] = (byte) (buffer >>> (used -= Byte.SIZE));
+        }
+        flush(octets, 0, length);
+        count += length;
+    }
+
+    /**
+     * Writes specified unsigned value of specified number of bits.
+     *
+     * @param size  the number of bits to write; between {@code 1} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @param value the value to write; must not have any bit set above lower {@code size} bits.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void unsigned64(final int size, final long value) throws IOException {
+        final int free = Long.SIZE - used;
+        if (size < free) {
+            buffer = (buffer << size) | value;
+            used += size;
+            return;
+        }
+        final int remaining = size - free;
+        flush(free == Long.SIZE ? value : (buffer << free) | (value >>> remaining));
+        count += Long.BYTES;
+        buffer = value; // bits above lower 'remaining' bits are shifted out by the following writes
+        used = remaining;
+    }
+
+    /**
+     * An array for flushing octets remaining in the {@link #buffer}.
+     */
+    private final byte[] octets = new byte[Long.BYTES];
+
+    /**
+     * An array for flushing shifted octets in bulk; lazily initialized.
+     */
+    private byte[] chunk;
+
+    /**
+     * An array for writing packed octets in bulk; lazily initialized.
+     */
+    private byte[] packed;
+
+    /**
+     * An array for widening values in bulk; lazily initialized.
+     */
+    private long[] values;
+
+    /**
+     * The buffer whose lower {@link #used} bits are not flushed yet.
+     */
+    private long buffer;
+
+    /**
+     * The number of bits in {@link #buffer} which are not flushed yet.
+     */
+    private int used = 0;
+
+    /**
+     * The number of bytes flushed, since the last {@link #reset()}, so far.
+     */
+    private long count;
+}
@@ -0,0 +1,247 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * An abstract seekable bit input reads bits out of {@value java.lang.Long#SIZE}-bit words of a random-accessible
+ * source of a fixed number of bytes.
+ * <p>
+ * Instances of this class report the same results from {@link #align(int)} as instances of {@link ByteInputAdapter}
+ * do.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public abstract class AbstractSeekableBitInput
+        extends AbstractBitInput64
+        implements SeekableBitInput {
+
+    /**
+     * Creates a new instance with specified length.
+     *
+     * @param length the length of the source, in bytes; must be non-negative.
+     */
+    protected AbstractSeekableBitInput(final long length) {
+        super();
+        if (length < 0L) {
+            throw new IllegalArgumentException("length(" + length + ") is negative");
+        }
+        this.length = length;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method peeks a whole word at the current position and counts zeros in it at once with
+     * {@link Long#numberOfLeadingZeros(long)}.
+     */
+    @Override
+    public int readLeadingZeros() throws IOException {
+        for (int zeros = 0; ; ) {
+            final long remaining = size() - bits;
+            if (remaining <= 0L) {
+                throw new EOFException("reached to an end");
+            }
+            final int shift = (int) (bits & 7L);
+            final int valid = (int) Math.min(Long.SIZE - shift, remaining);
+            final int run = Long.numberOfLeadingZeros(word(bits >>> 3) << shift);
+            if (run < valid) {
+                bits += run + 1;
+                return zeros + run;
+            }
+            zeros += valid;
+            bits += valid;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param size {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method peeks a whole word at the current position without moving the cursor.
+     */
+    @Override
+    public int peekInt(final int size) throws IOException {
+        BitIoConstraints.requireValidSizeForInt(true, size);
+        if (bits >= size()) {
+            return 0;
+        }
+        return (int) ((word(bits >>> 3) << (bits & 7L)) >>> (Long.SIZE - size));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method copies bytes with {@link #read(long, byte[], int, int)}. When this input is not aligned,
+     * the bytes are shifted in place.
+     */
+    @Override
+    public void readBytes(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        require((long) len << 3);
+        if (len == 0) {
+            return;
+        }
+        final long index = bits >>> 3;
+        read(index, dst, off, len);
+        final int shift = (int) (bits & 7L);
+        bits += (long) len << 3;
+        if (shift == 0) {
+            return;
+        }
+        final int end = off + len - 1;
+        for (int i = off; i < end; i++) {
+            dst[i] = (byte) ((dst[i] << shift) | ((dst[i + 1] & 0xFF) >> (Byte.SIZE - shift)));
+        }
+        dst[end] = (byte) ((dst[end] << shift) | (int) (word(index + len) >>> (Long.SIZE - shift)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param bits {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method merely moves the cursor without reading any bit.
+     */
+    @Override
+    public void skip(final int bits) throws IOException {
+        if (bits <= 0) {
+            throw new IllegalArgumentException("not positive; bits: " + bits);
+        }
+        require(bits);
+        this.bits += bits;
+    }
+
+    @Override
+    public long align(final int bytes) throws IOException {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("bytes(" + bytes + ") is not positive");
+        }
+        final long discarded = (Byte.SIZE - (bits & 7L)) & 7L;
+        bits += discarded;
+        if (bytes == 1) {
+            return discarded;
+        }
+        final long count = (bits >>> 3) - base; // may be negative when moved before the base
+        final long skipped = (bytes - Math.floorMod(count, (long) bytes)) << 3;
+        require(skipped);
+        bits += skipped;
+        return discarded + skipped;
+    }
+
+    @Override
+    public void reset() {
+        if ((bits & 7L) != 0L) {
+            throw new IllegalStateException("not aligned yet");
+        }
+        base = bits >>> 3;
+    }
+
+    @Override
+    public long size() {
+        return length << 3;
+    }
+
+    @Override
+    public long position() {
+        return bits;
+    }
+
+    @Override
+    public SeekableBitInput position(final long position) throws IOException {
+        if (position < 0L) {
+            throw new IllegalArgumentException("position(" + position + ") is negative");
+        }
+        if (position > size()) {
+            throw new IllegalArgumentException("position(" + position + ") > size(" + size() + ")");
+        }
+        bits = position;
+        return this;
+    }
+
+    /**
+     * Reads a big-endian word of {@value java.lang.Long#BYTES} bytes starting at specified index. Those bytes beyond
+     * the end of the source should be read as zeros.
+     *
+     * @param index the index of the first byte of the word; between {@code 0} (inclusive) and the length of the
+     *              source (exclusive).
+     * @return a word read.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected abstract long word(long index) throws IOException;
+
+    /**
+     * Reads specified number of bytes starting at specified index into specified array.
+     *
+     * @param index the index of the first byte to read; all {@code len} bytes are guaranteed to exist in the source.
+     * @param dst   the array to which bytes are read.
+     * @param off   the offset in the {@code dst}.
+     * @param len   the number of bytes to read.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected abstract void read(long index, byte[] dst, int off, int len) throws IOException;
+
+    /**
+     * Checks whether specified number of bits can be read from the current position.
+     *
+     * @param size the number of bits to read.
+     * @throws EOFException if this input has fewer than {@code size} bits remaining.
+     */
+    private void require(final long size) throws EOFException {
+        if (size > size() - bits) {
+            throw new EOFException("reached to an end");
+        }
+    }
+
+    @Override
+    final long unsigned57(final int size) throws IOException {
+        require(size);
+        final long word = word(bits >>> 3);
+        final int shift = (int) (bits & 7L);
+        bits += size;
+        return (word << shift) >>> (Long.SIZE - size);
+    }
+
+    /**
+     * The length of the source, in bytes.
+     */
+    protected final long length;
+
+    /**
+     * The current position, in bits.
+     */
+    private long bits;
+
+    /**
+     * The index of the byte at which this input has been {@link #reset()}.
+     */
+    private long base;
+}
@@ -183,6 +183,280 @@ public interface BitInput {
         );
     }
 
+    /**
+     * Reads specified number of {@value java.lang.Byte#SIZE}-bit bytes into specified array.
+     *
+     * @param dst the array into which bytes are read.
+     * @param off the offset in the {@code dst} at which the first byte is stored.
+     * @param len the number of bytes to read; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code dst}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation invokes {@link #readByte(boolean, int)} method with {@code false} and
+     * {@value java.lang.Byte#SIZE}, {@code len} times, and stores each result into the {@code dst} starting at the
+     * {@code off}.
+     * @see BitOutput#writeBytes(byte[], int, int)
+     */
+    default void readBytes(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = readByte(false, Byte.SIZE);
+        }
+    }
+
+    /**
+     * Reads a run of {@code 0} bits terminated by a {@code 1} bit, and returns the length of the run. The terminating
+     * {@code 1} bit is consumed as well.
+     *
+     * @return the number of {@code 0} bits read before the {@code 1} bit.
+     * @throws IOException if an I/O error occurs.
+     * @implSpec The default implementation invokes {@link #readInt(boolean, int) readInt(true, 1)} until it returns
+     * {@code 1}.
+     */
+    default int readLeadingZeros() throws IOException {
+        int zeros = 0;
+        while (readInt(true, 1) == 0) {
+            zeros++;
+        }
+        return zeros;
+    }
+
+    /**
+     * Reads specified number of {@code boolean} values into specified array.
+     *
+     * @param dst the array into which values are read.
+     * @param off the offset in the {@code dst} at which the first value is stored.
+     * @param len the number of values to read; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code dst}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation invokes {@link #readBoolean()} method {@code len} times, and stores each
+     * result into the {@code dst} starting at the {@code off}.
+     * @see BitOutput#writeBooleans(boolean[], int, int)
+     */
+    default void readBooleans(final boolean[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = readBoolean();
+        }
+    }
+
+    /**
+     * Reads specified number of {@code byte} values of specified number of bits into specified array.
+     *
+     * @param unsigned a flag for indicating unsigned values; {@code true} for unsigned, {@code false} for signed.
+     * @param size     the number of bits to read for each value; between {@code 1} and ({@value java.lang.Byte#SIZE}
+     *                 - ({@code unsigned ? 1 : 0})), both inclusive.
+     * @param dst      the array into which values are read.
+     * @param off      the offset in the {@code dst} at which the first value is stored.
+     * @param len      the number of values to read; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code dst}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and invokes {@link #readInt(boolean, int)} method with
+     * {@code unsigned} and {@code size}, {@code len} times, and stores each result, cast as a {@code byte}, into the
+     * {@code dst} starting at the {@code off}.
+     * @implNote The default implementation, for those inputs in this package, reads each value without checking
+     * arguments again.
+     * @see BitOutput#writeBytes(boolean, int, byte[], int, int)
+     */
+    default void readBytes(final boolean unsigned, final int size, final byte[] dst, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForByte(unsigned, size);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        if (this instanceof UncheckedBitInput) {
+            final UncheckedBitInput input = (UncheckedBitInput) this;
+            for (int i = off, end = off + len; i < end; i++) {
+                dst[i] = (byte) input.readUnchecked(unsigned, size);
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = (byte) readInt(unsigned, size);
+        }
+    }
+
+    /**
+     * Reads specified number of {@code short} values of specified number of bits into specified array.
+     *
+     * @param unsigned a flag for indicating unsigned values; {@code true} for unsigned, {@code false} for signed.
+     * @param size     the number of bits to read for each value; between {@code 1} and
+     *                 ({@value java.lang.Short#SIZE} - ({@code unsigned ? 1 : 0})), both inclusive.
+     * @param dst      the array into which values are read.
+     * @param off      the offset in the {@code dst} at which the first value is stored.
+     * @param len      the number of values to read; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code dst}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and invokes {@link #readInt(boolean, int)} method with
+     * {@code unsigned} and {@code size}, {@code len} times, and stores each result, cast as a {@code short}, into the
+     * {@code dst} starting at the {@code off}.
+     * @implNote The default implementation, for those inputs in this package, reads each value without checking
+     * arguments again.
+     * @see BitOutput#writeShorts(boolean, int, short[], int, int)
+     */
+    default void readShorts(final boolean unsigned, final int size, final short[] dst, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForShort(unsigned, size);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        if (this instanceof UncheckedBitInput) {
+            final UncheckedBitInput input = (UncheckedBitInput) this;
+            for (int i = off, end = off + len; i < end; i++) {
+                dst[i] = (short) input.readUnchecked(unsigned, size);
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = (short) readInt(unsigned, size);
+        }
+    }
+
+    /**
+     * Reads specified number of {@code int} values of specified number of bits into specified array.
+     *
+     * @param unsigned a flag for indicating unsigned values; {@code true} for unsigned, {@code false} for signed.
+     * @param size     the number of bits to read for each value; between {@code 1} and
+     *                 ({@value java.lang.Integer#SIZE} - ({@code unsigned ? 1 : 0})), both inclusive.
+     * @param dst      the array into which values are read.
+     * @param off      the offset in the {@code dst} at which the first value is stored.
+     * @param len      the number of values to read; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code dst}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and invokes {@link #readInt(boolean, int)} method with
+     * {@code unsigned} and {@code size}, {@code len} times, and stores each result into the {@code dst} starting at
+     * the {@code off}.
+     * @implNote The default implementation, for those inputs in this package, reads each value without checking
+     * arguments again.
+     * @see BitOutput#writeInts(boolean, int, int[], int, int)
+     */
+    default void readInts(final boolean unsigned, final int size, final int[] dst, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForInt(unsigned, size);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        if (this instanceof UncheckedBitInput) {
+            final UncheckedBitInput input = (UncheckedBitInput) this;
+            for (int i = off, end = off + len; i < end; i++) {
+                dst[i] = (int) input.readUnchecked(unsigned, size);
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = readInt(unsigned, size);
+        }
+    }
+
+    /**
+     * Reads specified number of {@code long} values of specified number of bits into specified array.
+     *
+     * @param unsigned a flag for indicating unsigned values; {@code true} for unsigned, {@code false} for signed.
+     * @param size     the number of bits to read for each value; between {@code 1} and
+     *                 ({@value java.lang.Long#SIZE} - ({@code unsigned ? 1 : 0})), both inclusive.
+     * @param dst      the array into which values are read.
+     * @param off      the offset in the {@code dst} at which the first value is stored.
+     * @param len      the number of values to read; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code dst}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and invokes {@link #readLong(boolean, int)} method with
+     * {@code unsigned} and {@code size}, {@code len} times, and stores each result into the {@code dst} starting at
+     * the {@code off}.
+     * @implNote The default implementation, for those inputs in this package, reads each value without checking
+     * arguments again.
+     * @see BitOutput#writeLongs(boolean, int, long[], int, int)
+     */
+    default void readLongs(final boolean unsigned, final int size, final long[] dst, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForLong(unsigned, size);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        if (this instanceof UncheckedBitInput) {
+            final UncheckedBitInput input = (UncheckedBitInput) this;
+            for (int i = off, end = off + len; i < end; i++) {
+                dst[i] = input.readUnchecked(unsigned, size);
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = readLong(unsigned, size);
+        }
+    }
+
+    /**
+     * Reads specified number of {@code float} values into specified array.
+     *
+     * @param exponentSize    the number of lower exponent bits to read for each value; between
+     *                        {@value FloatConstants#SIZE_MIN_EXPONENT} and {@value FloatConstants#SIZE_EXPONENT}, both
+     *                        inclusive.
+     * @param significandSize the number of left-most significand bits to read for each value; between
+     *                        {@value FloatConstants#SIZE_MIN_SIGNIFICAND} and {@value FloatConstants#SIZE_SIGNIFICAND},
+     *                        both inclusive.
+     * @param dst             the array into which values are read.
+     * @param off             the offset in the {@code dst} at which the first value is stored.
+     * @param len             the number of values to read; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code dst}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and, for full-sized values, reads raw bits with
+     * {@link #readInts(boolean, int, int[], int, int)} method, or, otherwise, invokes
+     * {@link #readFloat(int, int)} method {@code len} times.
+     * @see BitOutput#writeFloats(int, int, float[], int, int)
+     */
+    default void readFloats(final int exponentSize, final int significandSize, final float[] dst, final int off,
+                            final int len)
+            throws IOException {
+        FloatConstraints.requireValidExponentSize(exponentSize);
+        FloatConstraints.requireValidSignificandSize(significandSize);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        if (exponentSize == FloatConstants.SIZE_EXPONENT && significandSize == FloatConstants.SIZE_SIGNIFICAND) {
+            final int[] bits = new int[Math.min(len, BitIoConstants.BULK_CHUNK_SIZE)];
+            for (int i = off, end = off + len; i < end; ) {
+                final int n = Math.min(bits.length, end - i);
+                readInts(false, Integer.SIZE, bits, 0, n);
+                for (int j = 0; j < n; j++) {
+                    dst[i++] = Float.intBitsToFloat(bits[j]);
+                }
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = readFloat(exponentSize, significandSize);
+        }
+    }
+
+    /**
+     * Reads specified number of {@code double} values into specified array.
+     *
+     * @param exponentSize    the number of lower exponent bits to read for each value; between
+     *                        {@value DoubleConstants#SIZE_MIN_EXPONENT} and {@value DoubleConstants#SIZE_EXPONENT},
+     *                        both inclusive.
+     * @param significandSize the number of left-most significand bits to read for each value; between
+     *                        {@value DoubleConstants#SIZE_MIN_SIGNIFICAND} and
+     *                        {@value DoubleConstants#SIZE_SIGNIFICAND}, both inclusive.
+     * @param dst             the array into which values are read.
+     * @param off             the offset in the {@code dst} at which the first value is stored.
+     * @param len             the number of values to read; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code dst}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and, for full-sized values, reads raw bits with
+     * {@link #readLongs(boolean, int, long[], int, int)} method, or, otherwise, invokes
+     * {@link #readDouble(int, int)} method {@code len} times.
+     * @see BitOutput#writeDoubles(int, int, double[], int, int)
+     */
+    default void readDoubles(final int exponentSize, final int significandSize, final double[] dst, final int off,
+                             final int len)
+            throws IOException {
+        DoubleConstraints.requireValidExponentSize(exponentSize);
+        DoubleConstraints.requireValidSignificandSize(significandSize);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        if (exponentSize == DoubleConstants.SIZE_EXPONENT && significandSize == DoubleConstants.SIZE_SIGNIFICAND) {
+            final long[] bits = new long[Math.min(len, BitIoConstants.BULK_CHUNK_SIZE)];
+            for (int i = off, end = off + len; i < end; ) {
+                final int n = Math.min(bits.length, end - i);
+                readLongs(false, Long.SIZE, bits, 0, n);
+                for (int j = 0; j < n; j++) {
+                    dst[i++] = Double.longBitsToDouble(bits[j]);
+                }
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = readDouble(exponentSize, significandSize);
+        }
+    }
+
     /**
      * Reads a value using specified reader.
      *
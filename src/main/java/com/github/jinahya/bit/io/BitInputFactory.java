@@ -21,10 +21,14 @@ package com.github.jinahya.bit.io;
  */
 
 import java.io.DataInput;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 
 /**
@@ -90,6 +94,132 @@ public final class BitInputFactory {
         return new ByteInputAdapter(ByteInputFactory.from(channel));
     }
 
+    /**
+     * Creates a new instance, which reads bits through a {@value java.lang.Long#SIZE}-bit buffer, on top of specified
+     * stream.
+     *
+     * @param stream the stream from which bytes are read.
+     * @return a new instance.
+     * @see ByteInputAdapter64
+     */
+    public static BitInput from64(final InputStream stream) {
+        Objects.requireNonNull(stream, "stream is null");
+        return new ByteInputAdapter64(ByteInputFactory.from(stream));
+    }
+
+    /**
+     * Creates a new instance, which reads bits through a {@value java.lang.Long#SIZE}-bit buffer, on top of specified
+     * input.
+     *
+     * @param input the input from which bytes are read.
+     * @return a new instance.
+     * @see ByteInputAdapter64
+     */
+    public static BitInput from64(final DataInput input) {
+        Objects.requireNonNull(input, "input is null");
+        return new ByteInputAdapter64(ByteInputFactory.from(input));
+    }
+
+    /**
+     * Creates a new instance, which reads bits through a {@value java.lang.Long#SIZE}-bit buffer, on top of specified
+     * file.
+     *
+     * @param file the file from which bytes are read.
+     * @return a new instance.
+     * @see ByteInputAdapter64
+     */
+    public static BitInput from64(final RandomAccessFile file) {
+        Objects.requireNonNull(file, "file is null");
+        return new ByteInputAdapter64(ByteInputFactory.from(file));
+    }
+
+    /**
+     * Creates a new instance, which reads bits through a {@value java.lang.Long#SIZE}-bit buffer, on top of specified
+     * buffer.
+     *
+     * @param buffer the buffer from which bytes are read.
+     * @return a new instance.
+     * @see ByteInputAdapter64
+     */
+    public static BitInput from64(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer is null");
+        return new ByteInputAdapter64(ByteInputFactory.from(buffer));
+    }
+
+    /**
+     * Creates a new instance, which reads bits through a {@value java.lang.Long#SIZE}-bit buffer, on top of specified
+     * channel.
+     *
+     * @param channel the channel from which bytes are read.
+     * @return a new instance.
+     * @see ByteInputAdapter64
+     */
+    public static BitInput from64(final ReadableByteChannel channel) {
+        Objects.requireNonNull(channel, "channel is null");
+        return new ByteInputAdapter64(ByteInputFactory.from(channel));
+    }
+
+    /**
+     * Creates a new seekable instance on top of the remaining bytes of specified buffer.
+     *
+     * @param buffer the buffer from which bytes are read.
+     * @return a new instance.
+     * @see BufferBitInput
+     */
+    public static SeekableBitInput seekable(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer is null");
+        return new BufferBitInput(buffer);
+    }
+
+    /**
+     * Creates a new seekable instance on top of specified array.
+     *
+     * @param array the array from which bytes are read.
+     * @return a new instance.
+     * @see BufferBitInput
+     */
+    public static SeekableBitInput seekable(final byte[] array) {
+        Objects.requireNonNull(array, "array is null");
+        return new BufferBitInput(ByteBuffer.wrap(array));
+    }
+
+    /**
+     * Creates a new instance on top of specified region of specified file channel. The region is mapped into memory,
+     * in windows, as it's read.
+     *
+     * @param channel  the channel from which bytes are read.
+     * @param position the position within the file at which the region starts; must be non-negative.
+     * @param length   the length of the region, in bytes; must be non-negative.
+     * @return a new instance.
+     * @see MappedBitInput
+     */
+    public static MappedBitInput from(final FileChannel channel, final long position, final long length) {
+        Objects.requireNonNull(channel, "channel is null");
+        return new MappedBitInput(channel, position, length);
+    }
+
+    /**
+     * Creates a new instance on top of the whole content of specified file. The file is mapped into memory, in
+     * windows, as it's read. The file is kept open until the result is {@link MappedBitInput#close() closed}.
+     *
+     * @param path the path to the file from which bytes are read.
+     * @return a new instance.
+     * @throws IOException if an I/O error occurs.
+     * @see MappedBitInput
+     */
+    public static MappedBitInput from(final Path path) throws IOException {
+        Objects.requireNonNull(path, "path is null");
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            final MappedBitInput input = new MappedBitInput(channel, 0L, channel.size());
+            input.owner = true;
+            return input;
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
     private BitInputFactory() {
         throw new AssertionError(BitIoConstants.MESSAGE_INSTANTIATION_IS_NOT_ALLOWED);
     }
@@ -53,6 +53,11 @@ public final class BitIoConstants {
 
     static final String MESSAGE_UNSUPPORTED_NOT_SUPPOSED_TO_BE_INVOKED = "unsupported; not supposed to be invoked";
 
+    /**
+     * The maximum number of elements of temporary arrays used by bulk operations. The value is {@value}.
+     */
+    static final int BULK_CHUNK_SIZE = 1024;
+
     /**
      * A function for reading a VLQ-encoded value.
      *
@@ -177,6 +177,257 @@ public interface BitOutput {
         writeLong(true, significandSize, bits >> (DoubleConstants.SIZE_SIGNIFICAND - significandSize));
     }
 
+    /**
+     * Writes specified number of {@value java.lang.Byte#SIZE}-bit bytes from specified array.
+     *
+     * @param src the array from which bytes are written.
+     * @param off the offset in the {@code src} of the first byte to write.
+     * @param len the number of bytes to write; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code src}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation invokes {@link #writeByte(boolean, int, byte)} method with {@code false},
+     * {@value java.lang.Byte#SIZE}, and each byte in the range.
+     * @see BitInput#readBytes(byte[], int, int)
+     */
+    default void writeBytes(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            writeByte(false, Byte.SIZE, src[i]);
+        }
+    }
+
+    /**
+     * Writes specified number of {@code boolean} values from specified array.
+     *
+     * @param src the array from which values are written.
+     * @param off the offset in the {@code src} of the first value to write.
+     * @param len the number of values to write; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code src}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation invokes {@link #writeBoolean(boolean)} method with each value in the range.
+     * @see BitInput#readBooleans(boolean[], int, int)
+     */
+    default void writeBooleans(final boolean[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            writeBoolean(src[i]);
+        }
+    }
+
+    /**
+     * Writes specified number of {@code byte} values of specified number of bits from specified array.
+     *
+     * @param unsigned a flag for indicating unsigned values; {@code true} for unsigned, {@code false} for signed.
+     * @param size     the number of bits to write for each value; between {@code 1} and ({@value java.lang.Byte#SIZE}
+     *                 - ({@code unsigned ? 1 : 0})), both inclusive.
+     * @param src      the array from which values are written.
+     * @param off      the offset in the {@code src} of the first value to write.
+     * @param len      the number of values to write; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code src}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and invokes {@link #writeInt(boolean, int, int)} method
+     * with {@code unsigned}, {@code size}, and each value in the range.
+     * @implNote The default implementation, for those outputs in this package, writes each value without checking
+     * arguments again.
+     * @see BitInput#readBytes(boolean, int, byte[], int, int)
+     */
+    default void writeBytes(final boolean unsigned, final int size, final byte[] src, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForByte(unsigned, size);
+        ByteIoUtils.requireValidRange(src, off, len);
+        if (this instanceof UncheckedBitOutput) {
+            final UncheckedBitOutput output = (UncheckedBitOutput) this;
+            for (int i = off, end = off + len; i < end; i++) {
+                output.writeUnchecked(size, src[i]);
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            writeInt(unsigned, size, src[i]);
+        }
+    }
+
+    /**
+     * Writes specified number of {@code short} values of specified number of bits from specified array.
+     *
+     * @param unsigned a flag for indicating unsigned values; {@code true} for unsigned, {@code false} for signed.
+     * @param size     the number of bits to write for each value; between {@code 1} and
+     *                 ({@value java.lang.Short#SIZE} - ({@code unsigned ? 1 : 0})), both inclusive.
+     * @param src      the array from which values are written.
+     * @param off      the offset in the {@code src} of the first value to write.
+     * @param len      the number of values to write; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code src}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and invokes {@link #writeInt(boolean, int, int)} method
+     * with {@code unsigned}, {@code size}, and each value in the range.
+     * @implNote The default implementation, for those outputs in this package, writes each value without checking
+     * arguments again.
+     * @see BitInput#readShorts(boolean, int, short[], int, int)
+     */
+    default void writeShorts(final boolean unsigned, final int size, final short[] src, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForShort(unsigned, size);
+        ByteIoUtils.requireValidRange(src, off, len);
+        if (this instanceof UncheckedBitOutput) {
+            final UncheckedBitOutput output = (UncheckedBitOutput) this;
+            for (int i = off, end = off + len; i < end; i++) {
+                output.writeUnchecked(size, src[i]);
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            writeInt(unsigned, size, src[i]);
+        }
+    }
+
+    /**
+     * Writes specified number of {@code int} values of specified number of bits from specified array.
+     *
+     * @param unsigned a flag for indicating unsigned values; {@code true} for unsigned, {@code false} for signed.
+     * @param size     the number of bits to write for each value; between {@code 1} and
+     *                 ({@value java.lang.Integer#SIZE} - ({@code unsigned ? 1 : 0})), both inclusive.
+     * @param src      the array from which values are written.
+     * @param off      the offset in the {@code src} of the first value to write.
+     * @param len      the number of values to write; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code src}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and invokes {@link #writeInt(boolean, int, int)} method
+     * with {@code unsigned}, {@code size}, and each value in the range.
+     * @implNote The default implementation, for those outputs in this package, writes each value without checking
+     * arguments again.
+     * @see BitInput#readInts(boolean, int, int[], int, int)
+     */
+    default void writeInts(final boolean unsigned, final int size, final int[] src, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForInt(unsigned, size);
+        ByteIoUtils.requireValidRange(src, off, len);
+        if (this instanceof UncheckedBitOutput) {
+            final UncheckedBitOutput output = (UncheckedBitOutput) this;
+            for (int i = off, end = off + len; i < end; i++) {
+                output.writeUnchecked(size, src[i]);
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            writeInt(unsigned, size, src[i]);
+        }
+    }
+
+    /**
+     * Writes specified number of {@code long} values of specified number of bits from specified array.
+     *
+     * @param unsigned a flag for indicating unsigned values; {@code true} for unsigned, {@code false} for signed.
+     * @param size     the number of bits to write for each value; between {@code 1} and
+     *                 ({@value java.lang.Long#SIZE} - ({@code unsigned ? 1 : 0})), both inclusive.
+     * @param src      the array from which values are written.
+     * @param off      the offset in the {@code src} of the first value to write.
+     * @param len      the number of values to write; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code src}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and invokes {@link #writeLong(boolean, int, long)} method
+     * with {@code unsigned}, {@code size}, and each value in the range.
+     * @implNote The default implementation, for those outputs in this package, writes each value without checking
+     * arguments again.
+     * @see BitInput#readLongs(boolean, int, long[], int, int)
+     */
+    default void writeLongs(final boolean unsigned, final int size, final long[] src, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForLong(unsigned, size);
+        ByteIoUtils.requireValidRange(src, off, len);
+        if (this instanceof UncheckedBitOutput) {
+            final UncheckedBitOutput output = (UncheckedBitOutput) this;
+            for (int i = off, end = off + len; i < end; i++) {
+                output.writeUnchecked(size, src[i]);
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            writeLong(unsigned, size, src[i]);
+        }
+    }
+
+    /**
+     * Writes specified number of {@code float} values from specified array.
+     *
+     * @param exponentSize    the number of lower exponent bits to write for each value; between
+     *                        {@value FloatConstants#SIZE_MIN_EXPONENT} and {@value FloatConstants#SIZE_EXPONENT}, both
+     *                        inclusive.
+     * @param significandSize the number of left-most significand bits to write for each value; between
+     *                        {@value FloatConstants#SIZE_MIN_SIGNIFICAND} and {@value FloatConstants#SIZE_SIGNIFICAND},
+     *                        both inclusive.
+     * @param src             the array from which values are written.
+     * @param off             the offset in the {@code src} of the first value to write.
+     * @param len             the number of values to write; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code src}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and, for full-sized values, writes raw bits with
+     * {@link #writeInts(boolean, int, int[], int, int)} method, or, otherwise, invokes
+     * {@link #writeFloat(int, int, float)} method with each value in the range.
+     * @see BitInput#readFloats(int, int, float[], int, int)
+     */
+    default void writeFloats(final int exponentSize, final int significandSize, final float[] src, final int off,
+                             final int len)
+            throws IOException {
+        FloatConstraints.requireValidExponentSize(exponentSize);
+        FloatConstraints.requireValidSignificandSize(significandSize);
+        ByteIoUtils.requireValidRange(src, off, len);
+        if (exponentSize == FloatConstants.SIZE_EXPONENT && significandSize == FloatConstants.SIZE_SIGNIFICAND) {
+            final int[] bits = new int[Math.min(len, BitIoConstants.BULK_CHUNK_SIZE)];
+            for (int i = off, end = off + len; i < end; ) {
+                final int n = Math.min(bits.length, end - i);
+                for (int j = 0; j < n; j++) {
+                    bits[j] = Float.floatToRawIntBits(src[i++]);
+                }
+                writeInts(false, Integer.SIZE, bits, 0, n);
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            writeFloat(exponentSize, significandSize, src[i]);
+        }
+    }
+
+    /**
+     * Writes specified number of {@code double} values from specified array.
+     *
+     * @param exponentSize    the number of lower exponent bits to write for each value; between
+     *                        {@value DoubleConstants#SIZE_MIN_EXPONENT} and {@value DoubleConstants#SIZE_EXPONENT},
+     *                        both inclusive.
+     * @param significandSize the number of left-most significand bits to write for each value; between
+     *                        {@value DoubleConstants#SIZE_MIN_SIGNIFICAND} and
+     *                        {@value DoubleConstants#SIZE_SIGNIFICAND}, both inclusive.
+     * @param src             the array from which values are written.
+     * @param off             the offset in the {@code src} of the first value to write.
+     * @param len             the number of values to write; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code src}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation checks arguments, and, for full-sized values, writes raw bits with
+     * {@link #writeLongs(boolean, int, long[], int, int)} method, or, otherwise, invokes
+     * {@link #writeDouble(int, int, double)} method with each value in the range.
+     * @see BitInput#readDoubles(int, int, double[], int, int)
+     */
+    default void writeDoubles(final int exponentSize, final int significandSize, final double[] src, final int off,
+                              final int len)
+            throws IOException {
+        DoubleConstraints.requireValidExponentSize(exponentSize);
+        DoubleConstraints.requireValidSignificandSize(significandSize);
+        ByteIoUtils.requireValidRange(src, off, len);
+        if (exponentSize == DoubleConstants.SIZE_EXPONENT && significandSize == DoubleConstants.SIZE_SIGNIFICAND) {
+            final long[] bits = new long[Math.min(len, BitIoConstants.BULK_CHUNK_SIZE)];
+            for (int i = off, end = off + len; i < end; ) {
+                final int n = Math.min(bits.length, end - i);
+                for (int j = 0; j < n; j++) {
+                    bits[j] = Double.doubleToRawLongBits(src[i++]);
+                }
+                writeLongs(false, Long.SIZE, bits, 0, n);
+            }
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            writeDouble(exponentSize, significandSize, src[i]);
+        }
+    }
+
     /**
      * Writes specified value using specified writer.
      *
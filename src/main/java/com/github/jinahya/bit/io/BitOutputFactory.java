@@ -21,10 +21,14 @@ package com.github.jinahya.bit.io;
  */
 
 import java.io.DataOutput;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 
 /**
@@ -89,6 +93,112 @@ public final class BitOutputFactory {
         return new ByteOutputAdapter(ByteOutputFactory.from(channel));
     }
 
+    /**
+     * Creates a new instance, which writes bits through a {@value java.lang.Long#SIZE}-bit buffer, on top of specified
+     * stream.
+     *
+     * @param stream the stream to which bytes are written.
+     * @return a new instance.
+     * @see ByteOutputAdapter64
+     */
+    public static BitOutput from64(final OutputStream stream) {
+        Objects.requireNonNull(stream, "stream is null");
+        return new ByteOutputAdapter64(ByteOutputFactory.from(stream));
+    }
+
+    /**
+     * Creates a new instance, which writes bits through a {@value java.lang.Long#SIZE}-bit buffer, on top of specified
+     * output.
+     *
+     * @param output the output to which bytes are written.
+     * @return a new instance.
+     * @see ByteOutputAdapter64
+     */
+    public static BitOutput from64(final DataOutput output) {
+        Objects.requireNonNull(output, "output is null");
+        return new ByteOutputAdapter64(ByteOutputFactory.from(output));
+    }
+
+    /**
+     * Creates a new instance, which writes bits through a {@value java.lang.Long#SIZE}-bit buffer, on top of specified
+     * file.
+     *
+     * @param file the file to which bytes are written.
+     * @return a new instance.
+     * @see ByteOutputAdapter64
+     */
+    public static BitOutput from64(final RandomAccessFile file) {
+        Objects.requireNonNull(file, "file is null");
+        return new ByteOutputAdapter64(ByteOutputFactory.from(file));
+    }
+
+    /**
+     * Creates a new instance, which writes bits through a {@value java.lang.Long#SIZE}-bit buffer, on top of specified
+     * buffer.
+     *
+     * @param buffer the buffer to which bytes are written.
+     * @return a new instance.
+     * @see ByteOutputAdapter64
+     */
+    public static BitOutput from64(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer is null");
+        return new ByteOutputAdapter64(ByteOutputFactory.from(buffer));
+    }
+
+    /**
+     * Creates a new instance, which writes bits through a {@value java.lang.Long#SIZE}-bit buffer, on top of specified
+     * channel.
+     *
+     * @param channel the channel to which bytes are written.
+     * @return a new instance.
+     * @see ByteOutputAdapter64
+     */
+    public static BitOutput from64(final WritableByteChannel channel) {
+        Objects.requireNonNull(channel, "channel is null");
+        return new ByteOutputAdapter64(ByteOutputFactory.from(channel));
+    }
+
+    /**
+     * Creates a new instance on top of specified file channel. The file is mapped into memory, in chunks, from
+     * specified position as it's written. When the result is {@link MappedBitOutput#close() closed}, the file is
+     * truncated to the end of written bytes, yet never below its current size, and is not closed.
+     *
+     * @param channel  the channel to which bytes are written; must be opened for both reading and writing.
+     * @param position the position within the file from which bytes are written; must be non-negative.
+     * @return a new instance.
+     * @throws IOException if an I/O error occurs.
+     * @see MappedBitOutput
+     */
+    public static MappedBitOutput from(final FileChannel channel, final long position) throws IOException {
+        Objects.requireNonNull(channel, "channel is null");
+        return new MappedBitOutput(channel, position);
+    }
+
+    /**
+     * Creates a new instance on top of specified file. The file is created, or truncated if it already exists, and is
+     * kept open until the result is {@link MappedBitOutput#close() closed}, when it's truncated to the end of written
+     * bytes.
+     *
+     * @param path the path to the file to which bytes are written.
+     * @return a new instance.
+     * @throws IOException if an I/O error occurs.
+     * @see MappedBitOutput
+     */
+    public static MappedBitOutput from(final Path path) throws IOException {
+        Objects.requireNonNull(path, "path is null");
+        final FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            final MappedBitOutput output = new MappedBitOutput(channel, 0L);
+            output.owner = true;
+            return output;
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
     private BitOutputFactory() {
         throw new AssertionError(BitIoConstants.MESSAGE_INSTANTIATION_IS_NOT_ALLOWED);
     }
@@ -0,0 +1,640 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Kernels for packing and unpacking blocks of fixed-width values into and out of octets. A block consists of
+ * {@value #BLOCK_SIZE} values and, for a width of {@code w} bits, occupies exactly {@code w} octets; so that a block
+ * always starts and ends on an octet boundary.
+ * <p>
+ * Values are unpacked, in big-endian bit order, as their lower {@code w} bits. Each of {@link #pack(int, long[], int,
+ * byte[], int, int)} and {@link #unpack(int, byte[], int, long[], int, int)} switches on the width and invokes a
+ * kernel with the width as a constant argument, so that, once the kernel is inlined into the case, all of its shifts,
+ * masks, and inner loop bounds are compile-time constants.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+final class BitPacker {
+
+    /**
+     * The number of values in a block. The value is {@value}.
+     */
+    static final int BLOCK_SIZE = Byte.SIZE;
+
+    /**
+     * Unpacks specified number of blocks from specified array of octets.
+     *
+     * @param width    the width of values; between {@code 1} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @param src      the array of octets; must contain {@code blocks * width} octets starting at {@code srcIndex}.
+     * @param srcIndex the index of the first octet in {@code src}.
+     * @param dst      the array to which unpacked values are stored; must have room for
+     *                 {@code blocks * }{@value #BLOCK_SIZE} values starting at {@code dstIndex}.
+     * @param dstIndex the index in {@code dst} at which the first value is stored.
+     * @param blocks   the number of blocks to unpack.
+     * @throws IllegalArgumentException if {@code width} is out of range.
+     */
+    static void unpack(final int width, final byte[] src, final int srcIndex, final long[] dst, final int dstIndex,
+                       final int blocks) {
+        switch (width) {
+            case 1:
+                unpackNarrow(1, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 2:
+                unpackNarrow(2, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 3:
+                unpackNarrow(3, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 4:
+                unpackNarrow(4, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 5:
+                unpackNarrow(5, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 6:
+                unpackNarrow(6, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 7:
+                unpackNarrow(7, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 8:
+                unpackAligned(8, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 9:
+                unpackStreaming(9, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 10:
+                unpackStreaming(10, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 11:
+                unpackStreaming(11, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 12:
+                unpackStreaming(12, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 13:
+                unpackStreaming(13, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 14:
+                unpackStreaming(14, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 15:
+                unpackStreaming(15, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 16:
+                unpackAligned(16, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 17:
+                unpackStreaming(17, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 18:
+                unpackStreaming(18, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 19:
+                unpackStreaming(19, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 20:
+                unpackStreaming(20, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 21:
+                unpackStreaming(21, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 22:
+                unpackStreaming(22, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 23:
+                unpackStreaming(23, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 24:
+                unpackAligned(24, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 25:
+                unpackStreaming(25, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 26:
+                unpackStreaming(26, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 27:
+                unpackStreaming(27, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 28:
+                unpackStreaming(28, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 29:
+                unpackStreaming(29, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 30:
+                unpackStreaming(30, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 31:
+                unpackStreaming(31, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 32:
+                unpackAligned(32, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 33:
+                unpackStreaming(33, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 34:
+                unpackStreaming(34, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 35:
+                unpackStreaming(35, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 36:
+                unpackStreaming(36, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 37:
+                unpackStreaming(37, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 38:
+                unpackStreaming(38, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 39:
+                unpackStreaming(39, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 40:
+                unpackAligned(40, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 41:
+                unpackStreaming(41, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 42:
+                unpackStreaming(42, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 43:
+                unpackStreaming(43, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 44:
+                unpackStreaming(44, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 45:
+                unpackStreaming(45, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 46:
+                unpackStreaming(46, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 47:
+                unpackStreaming(47, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 48:
+                unpackAligned(48, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 49:
+                unpackStreaming(49, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 50:
+                unpackStreaming(50, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 51:
+                unpackStreaming(51, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 52:
+                unpackStreaming(52, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 53:
+                unpackStreaming(53, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 54:
+                unpackStreaming(54, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 55:
+                unpackStreaming(55, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 56:
+                unpackAligned(56, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 57:
+                unpackWide(57, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 58:
+                unpackWide(58, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 59:
+                unpackWide(59, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 60:
+                unpackWide(60, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 61:
+                unpackWide(61, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 62:
+                unpackWide(62, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 63:
+                unpackWide(63, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 64:
+                unpackAligned(64, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            default:
+                throw new IllegalArgumentException("width(" + width + ") is out of range");
+        }
+    }
+
+    /**
+     * Packs lower {@code width} bits of values into specified number of blocks of octets.
+     *
+     * @param width    the width of values; between {@code 1} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @param src      the array of values; must contain {@code blocks * }{@value #BLOCK_SIZE} values starting at
+     *                 {@code srcIndex}.
+     * @param srcIndex the index of the first value in {@code src}.
+     * @param dst      the array to which packed octets are stored; must have room for {@code blocks * width} octets
+     *                 starting at {@code dstIndex}.
+     * @param dstIndex the index in {@code dst} at which the first octet is stored.
+     * @param blocks   the number of blocks to pack.
+     * @throws IllegalArgumentException if {@code width} is out of range.
+     */
+    static void pack(final int width, final long[] src, final int srcIndex, final byte[] dst, final int dstIndex,
+                     final int blocks) {
+        switch (width) {
+            case 1:
+                packNarrow(1, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 2:
+                packNarrow(2, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 3:
+                packNarrow(3, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 4:
+                packNarrow(4, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 5:
+                packNarrow(5, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 6:
+                packNarrow(6, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 7:
+                packNarrow(7, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 8:
+                packAligned(8, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 9:
+                packStreaming(9, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 10:
+                packStreaming(10, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 11:
+                packStreaming(11, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 12:
+                packStreaming(12, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 13:
+                packStreaming(13, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 14:
+                packStreaming(14, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 15:
+                packStreaming(15, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 16:
+                packAligned(16, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 17:
+                packStreaming(17, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 18:
+                packStreaming(18, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 19:
+                packStreaming(19, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 20:
+                packStreaming(20, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 21:
+                packStreaming(21, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 22:
+                packStreaming(22, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 23:
+                packStreaming(23, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 24:
+                packAligned(24, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 25:
+                packStreaming(25, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 26:
+                packStreaming(26, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 27:
+                packStreaming(27, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 28:
+                packStreaming(28, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 29:
+                packStreaming(29, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 30:
+                packStreaming(30, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 31:
+                packStreaming(31, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 32:
+                packAligned(32, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 33:
+                packStreaming(33, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 34:
+                packStreaming(34, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 35:
+                packStreaming(35, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 36:
+                packStreaming(36, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 37:
+                packStreaming(37, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 38:
+                packStreaming(38, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 39:
+                packStreaming(39, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 40:
+                packAligned(40, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 41:
+                packStreaming(41, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 42:
+                packStreaming(42, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 43:
+                packStreaming(43, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 44:
+                packStreaming(44, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 45:
+                packStreaming(45, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 46:
+                packStreaming(46, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 47:
+                packStreaming(47, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 48:
+                packAligned(48, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 49:
+                packStreaming(49, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 50:
+                packStreaming(50, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 51:
+                packStreaming(51, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 52:
+                packStreaming(52, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 53:
+                packStreaming(53, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 54:
+                packStreaming(54, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 55:
+                packStreaming(55, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 56:
+                packAligned(56, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 57:
+                packWide(57, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 58:
+                packWide(58, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 59:
+                packWide(59, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 60:
+                packWide(60, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 61:
+                packWide(61, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 62:
+                packWide(62, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 63:
+                packWide(63, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            case 64:
+                packAligned(64, src, srcIndex, dst, dstIndex, blocks);
+                return;
+            default:
+                throw new IllegalArgumentException("width(" + width + ") is out of range");
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------------------ narrow
+
+    /**
+     * Unpacks blocks of values of a width less than {@value java.lang.Byte#SIZE}. A whole block fits in a single
+     * register.
+     */
+    private static void unpackNarrow(final int width, final byte[] src, int srcIndex, final long[] dst, int dstIndex,
+                                     final int blocks) {
+        final long mask = (1L << width) - 1L;
+        for (int b = 0; b < blocks; b++) {
+            long register = 0L;
+            for (int k = 0; k < width; k++) {
+                register = (register << Byte.SIZE) | (src[srcIndex++] & 0xFFL);
+            }
+            for (int shift = width * (BLOCK_SIZE - 1); shift >= 0; shift -= width) {
+                dst[dstIndex++] = (register >>> shift) & mask;
+            }
+        }
+    }
+
+    /**
+     * Packs blocks of values of a width less than {@value java.lang.Byte#SIZE}. A whole block fits in a single
+     * register.
+     */
+    private static void packNarrow(final int width, final long[] src, int srcIndex, final byte[] dst, int dstIndex,
+                                   final int blocks) {
+        final long mask = (1L << width) - 1L;
+        for (int b = 0; b < blocks; b++) {
+            long register = 0L;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                register = (register << width) | (src[srcIndex++] & mask);
+            }
+            for (int shift = (width - 1) << 3; shift >= 0; shift -= Byte.SIZE) {
+                dst[dstIndex++] = (byte) (register >>> shift);
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------- aligned
+
+    /**
+     * Unpacks blocks of values of a width of a multiple of {@value java.lang.Byte#SIZE}. Each value is a run of whole
+     * octets.
+     */
+    private static void unpackAligned(final int width, final byte[] src, int srcIndex, final long[] dst,
+                                      int dstIndex, final int blocks) {
+        for (int i = 0, n = blocks * BLOCK_SIZE; i < n; i++) {
+            long value = 0L;
+            for (int k = width >> 3; k > 0; k--) {
+                value = (value << Byte.SIZE) | (src[srcIndex++] & 0xFFL);
+            }
+            dst[dstIndex++] = value;
+        }
+    }
+
+    /**
+     * Packs blocks of values of a width of a multiple of {@value java.lang.Byte#SIZE}. Each value is a run of whole
+     * octets.
+     */
+    private static void packAligned(final int width, final long[] src, int srcIndex, final byte[] dst, int dstIndex,
+                                    final int blocks) {
+        for (int i = 0, n = blocks * BLOCK_SIZE; i < n; i++) {
+            final long value = src[srcIndex++];
+            for (int shift = width - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                dst[dstIndex++] = (byte) (value >>> shift);
+            }
+        }
+    }
+
+    // --------------------------------------------------------------------------------------------------- streaming
+
+    /**
+     * Unpacks blocks of values of other widths not greater than {@code 56}.
+     * Octets are streamed through a single register.
+     */
+    private static void unpackStreaming(final int width, final byte[] src, int srcIndex, final long[] dst,
+                                        int dstIndex, final int blocks) {
+        final long mask = (1L << width) - 1L;
+        for (int b = 0; b < blocks; b++) {
+            long register = 0L;
+            int bits = 0;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                while (bits < width) {
+                    register = (register << Byte.SIZE) | (src[srcIndex++] & 0xFFL);
+                    bits += Byte.SIZE;
+                }
+                bits -= width;
+                dst[dstIndex++] = (register >>> bits) & mask;
+            }
+        }
+    }
+
+    /**
+     * Packs blocks of values of other widths not greater than {@code 56}.
+     * Octets are streamed through a single register.
+     */
+    private static void packStreaming(final int width, final long[] src, int srcIndex, final byte[] dst,
+                                      int dstIndex, final int blocks) {
+        final long mask = (1L << width) - 1L;
+        for (int b = 0; b < blocks; b++) {
+            long register = 0L;
+            int bits = 0;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                register = (register << width) | (src[srcIndex++] & mask);
+                for (bits += width; bits >= Byte.SIZE; ) {
+                    bits -= Byte.SIZE;
+                    dst[dstIndex++] = (byte) (register >>> bits);
+                }
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------------- wide
+
+    /**
+     * Unpacks blocks of values of other widths greater than {@code 56}.
+     * Each value is streamed as an upper part and a lower {@value java.lang.Integer#SIZE}-bit part.
+     */
+    private static void unpackWide(final int width, final byte[] src, int srcIndex, final long[] dst, int dstIndex,
+                                   final int blocks) {
+        final int upper = width - Integer.SIZE;
+        final long upperMask = (1L << upper) - 1L;
+        for (int b = 0; b < blocks; b++) {
+            long register = 0L;
+            int bits = 0;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                while (bits < upper) {
+                    register = (register << Byte.SIZE) | (src[srcIndex++] & 0xFFL);
+                    bits += Byte.SIZE;
+                }
+                bits -= upper;
+                long value = (register >>> bits) & upperMask;
+                while (bits < Integer.SIZE) {
+                    register = (register << Byte.SIZE) | (src[srcIndex++] & 0xFFL);
+                    bits += Byte.SIZE;
+                }
+                bits -= Integer.SIZE;
+                value = (value << Integer.SIZE) | ((register >>> bits) & 0xFFFFFFFFL);
+                dst[dstIndex++] = value;
+            }
+        }
+    }
+
+    /**
+     * Packs blocks of values of other widths greater than {@code 56}.
+     * Each value is streamed as an upper part and a lower {@value java.lang.Integer#SIZE}-bit part.
+     */
+    private static void packWide(final int width, final long[] src, int srcIndex, final byte[] dst, int dstIndex,
+                                 final int blocks) {
+        final int upper = width - Integer.SIZE;
+        final long upperMask = (1L << upper) - 1L;
+        for (int b = 0; b < blocks; b++) {
+            long register = 0L;
+            int bits = 0;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                final long value = src[srcIndex++];
+                register = (register << upper) | ((value >>> Integer.SIZE) & upperMask);
+                for (bits += upper; bits >= Byte.SIZE; ) {
+                    bits -= Byte.SIZE;
+                    dst[dstIndex++] = (byte) (register >>> bits);
+                }
+                register = (register << Integer.SIZE) | (value & 0xFFFFFFFFL);
+                for (bits += Integer.SIZE; bits >= Byte.SIZE; ) {
+                    bits -= Byte.SIZE;
+                    dst[dstIndex++] = (byte) (register >>> bits);
+                }
+            }
+        }
+    }
+
+    private BitPacker() {
+        throw new AssertionError(BitIoConstants.MESSAGE_INSTANTIATION_IS_NOT_ALLOWED);
+    }
+}
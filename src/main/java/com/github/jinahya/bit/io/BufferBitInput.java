@@ -0,0 +1,75 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * A seekable bit input reads bits from the remaining bytes of a byte buffer.
+ * <p>
+ * Instances of this class read bytes with absolute {@code get} methods, hence never change the position of the
+ * buffer.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BitInputFactory#seekable(ByteBuffer)
+ * @see BitInputFactory#seekable(byte[])
+ */
+public class BufferBitInput
+        extends AbstractSeekableBitInput {
+
+    /**
+     * Creates a new instance on top of the remaining bytes of specified buffer. Changes to the content of the buffer
+     * will be visible to the instance, while changes to the buffer's position and limit won't.
+     *
+     * @param buffer the buffer from which bytes are read.
+     */
+    public BufferBitInput(final ByteBuffer buffer) {
+        super(Objects.requireNonNull(buffer, "buffer is null").remaining());
+        this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    @Override
+    protected long word(final long index) {
+        final int i = (int) index;
+        if (buffer.limit() - i >= Long.BYTES) {
+            return buffer.getLong(i);
+        }
+        long word = 0L; // near the end of the buffer
+        for (int j = i; j < i + Long.BYTES; j++) {
+            word <<= Byte.SIZE;
+            if (j < buffer.limit()) {
+                word |= buffer.get(j) & 0xFFL;
+            }
+        }
+        return word;
+    }
+
+    @Override
+    protected void read(final long index, final byte[] dst, final int off, final int len) {
+        final ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position((int) index);
+        duplicate.get(dst, off, len);
+    }
+
+    private final ByteBuffer buffer;
+}
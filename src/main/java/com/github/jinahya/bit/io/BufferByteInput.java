@@ -21,6 +21,7 @@ package com.github.jinahya.bit.io;
  */
 
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 
 /**
@@ -57,4 +58,47 @@ public class BufferByteInput
     public int read() throws IOException {
         return source.get() & 0xFF; // BufferUnderflowException
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @apiNote This method may throw an {@link java.nio.BufferUnderflowException} when the
+     * {@link #source source buffer} has fewer than {@code len} bytes remaining.
+     * @implSpec The {@code read(byte[], int, int)} method of {@code BufferByteInput} class invokes
+     * {@link ByteBuffer#get(byte[], int, int) get(byte[], int, int)} method on the {@link #source} with given
+     * arguments.
+     * @see ByteBuffer#get(byte[], int, int)
+     */
+    @Override
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        source.get(dst, off, len); // BufferUnderflowException
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @apiNote This method may throw an {@link java.nio.BufferUnderflowException} when the
+     * {@link #source source buffer} has fewer bytes remaining than the {@code dst} does.
+     * @implSpec The {@code read(ByteBuffer)} method of {@code BufferByteInput} class
+     * {@link ByteBuffer#put(ByteBuffer) puts} a slice of the {@link #source} to the {@code dst}, and advances the
+     * {@link #source}'s position.
+     */
+    @Override
+    public void read(final ByteBuffer dst) throws IOException {
+        final int remaining = dst.remaining();
+        if (source.remaining() < remaining) {
+            throw new BufferUnderflowException();
+        }
+        final ByteBuffer slice = source.slice();
+        slice.limit(remaining);
+        dst.put(slice);
+        source.position(source.position() + remaining);
+    }
 }
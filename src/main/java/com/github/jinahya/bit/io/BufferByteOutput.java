@@ -56,4 +56,39 @@ public class BufferByteOutput
     public void write(final int value) throws IOException {
         target.put((byte) value); // BufferOverflowException, ReadOnlyBufferException
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @apiNote This method may throw an {@link java.nio.BufferOverflowException} when the
+     * {@link #target target buffer} has fewer than {@code len} bytes remaining.
+     * @implSpec The {@code write(byte[], int, int)} method of {@code BufferByteOutput} class invokes
+     * {@link ByteBuffer#put(byte[], int, int)} method on the {@link #target} with given arguments.
+     * @see ByteBuffer#put(byte[], int, int)
+     */
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        target.put(src, off, len); // BufferOverflowException, ReadOnlyBufferException
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param src {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @apiNote This method may throw an {@link java.nio.BufferOverflowException} when the
+     * {@link #target target buffer} has fewer bytes remaining than the {@code src} does.
+     * @implSpec The {@code write(ByteBuffer)} method of {@code BufferByteOutput} class invokes
+     * {@link ByteBuffer#put(ByteBuffer)} method on the {@link #target} with the {@code src}.
+     * @see ByteBuffer#put(ByteBuffer)
+     */
+    @Override
+    public void write(final ByteBuffer src) throws IOException {
+        target.put(src); // BufferOverflowException, ReadOnlyBufferException
+    }
 }
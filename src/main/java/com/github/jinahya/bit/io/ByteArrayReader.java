@@ -21,6 +21,7 @@ package com.github.jinahya.bit.io;
  */
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.function.ToIntFunction;
 
@@ -122,8 +123,9 @@ public class ByteArrayReader
         }
 
         @Override
-        void readElements(final BitInput input, final byte[] value) throws IOException {
-            for (int i = 0; i < value.length; i++) {
+        void readElements(final BitInput input, final byte[] value, final int off, final int len)
+                throws IOException {
+            for (int i = off, end = off + len; i < end; i++) {
                 switch (input.readInt(true, 2)) {
                     case 0b00:
                         value[i] = (byte) input.readInt(true, 7);
@@ -158,6 +160,38 @@ public class ByteArrayReader
         return new CompressedUtf8();
     }
 
+    /**
+     * A reader for reading an array of UTF-8 bytes, as a compressed manner, with a fast path for pure ASCII arrays.
+     */
+    private static class CompressedUtf8Adaptive
+            extends CompressedUtf8 {
+
+        private CompressedUtf8Adaptive() {
+            super();
+        }
+
+        @Override
+        void readElements(final BitInput input, final byte[] value, final int off, final int len)
+                throws IOException {
+            if (input.readBoolean()) {
+                input.readBytes(true, 7, value, off, len);
+                return;
+            }
+            super.readElements(input, value, off, len);
+        }
+    }
+
+    /**
+     * Creates a new instance reads UTF-8 byte arrays written in a compressed manner with a fast path for pure ASCII
+     * arrays.
+     *
+     * @return a new instance.
+     * @see ByteArrayWriter#compressedUtf8Adaptive()
+     */
+    public static ByteArrayReader compressedUtf8Adaptive() {
+        return new CompressedUtf8Adaptive();
+    }
+
     /**
      * Creates a new instance.
      *
@@ -173,12 +207,73 @@ public class ByteArrayReader
     public byte[] read(final BitInput input) throws IOException {
         final int length = countReader.applyAsInt(input);
         final byte[] value = new byte[length];
-        readElements(input, value);
+        readElements(input, value, 0, length);
         return value;
     }
 
-    void readElements(final BitInput input, final byte[] elements) throws IOException {
-        for (int i = 0; i < elements.length; i++) {
+    /**
+     * Reads an array into specified array starting at specified index.
+     *
+     * @param input the input from which the array is read.
+     * @param dst   the array into which elements are read.
+     * @param off   the index in the {@code dst} at which the first element is stored.
+     * @return the number of elements read.
+     * @throws IndexOutOfBoundsException if the {@code dst} has not enough room for elements; in which case the count
+     *                                   has already been read.
+     * @throws IOException               if an I/O error occurs.
+     */
+    public int read(final BitInput input, final byte[] dst, final int off) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        Objects.requireNonNull(dst, "dst is null");
+        final int length = countReader.applyAsInt(input);
+        readElements(input, ByteIoUtils.requireValidRange(dst, off, length), off, length);
+        return length;
+    }
+
+    /**
+     * Reads an array into specified buffer, starting at its current position, and returns the buffer whose position
+     * is advanced by the number of elements read. When the {@code dst} has not enough room, a new heap buffer, which
+     * contains the {@code dst}'s content up to its position, is allocated and returned instead; in which case the
+     * {@code dst}'s position and limit are left unchanged.
+     * <p>
+     * Elements for a buffer without an accessible array, e.g. a direct buffer, are read into an array reused between
+     * invocations, and then copied into the buffer.
+     *
+     * @param input the input from which the array is read.
+     * @param dst   the buffer into which elements are read.
+     * @return either the {@code dst} or a new larger buffer.
+     * @throws IOException if an I/O error occurs.
+     */
+    public ByteBuffer read(final BitInput input, final ByteBuffer dst) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        Objects.requireNonNull(dst, "dst is null");
+        final int length = countReader.applyAsInt(input);
+        ByteBuffer buffer = dst;
+        if (buffer.remaining() < length) {
+            buffer = ByteBuffer.allocate(Math.max(dst.capacity() << 1, dst.position() + length));
+            final ByteBuffer content = dst.duplicate();
+            content.flip();
+            buffer.put(content);
+        }
+        if (buffer.hasArray()) {
+            readElements(input, buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            return buffer;
+        }
+        if (elements == null || elements.length < length) {
+            elements = new byte[length];
+        }
+        readElements(input, elements, 0, length);
+        return buffer.put(elements, 0, length);
+    }
+
+    void readElements(final BitInput input, final byte[] elements, final int off, final int len)
+            throws IOException {
+        if (elementSize == Byte.SIZE) {
+            input.readBytes(elements, off, len);
+            return;
+        }
+        for (int i = off, end = off + len; i < end; i++) {
             elements[i] = readElement(input);
         }
     }
@@ -199,4 +294,9 @@ public class ByteArrayReader
     private final int elementSize;
 
     private ToIntFunction<? super BitInput> countReader = BitIoConstants.COUNT_READER;
+
+    /**
+     * An array for reading elements into a buffer without an accessible array; lazily initialized and grown.
+     */
+    private byte[] elements;
 }
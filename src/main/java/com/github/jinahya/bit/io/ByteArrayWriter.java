@@ -173,6 +173,55 @@ public class ByteArrayWriter
         return new CompressedUtf8();
     }
 
+    /**
+     * A writer for writing an array of UTF-8 bytes, as a compressed manner, with a fast path for pure ASCII arrays.
+     */
+    private static class CompressedUtf8Adaptive
+            extends CompressedUtf8 {
+
+        /**
+         * Checks whether all bytes of specified array are ASCII. Bytes are merely OR-ed, without any branch or
+         * allocation, and the sign of the result is checked at the end.
+         *
+         * @param value the array to check.
+         * @return {@code true} if all bytes of the {@code value} are ASCII; {@code false} otherwise.
+         */
+        static boolean ascii(final byte[] value) {
+            int bits = 0;
+            for (final byte b : value) {
+                bits |= b;
+            }
+            return bits >= 0;
+        }
+
+        private CompressedUtf8Adaptive() {
+            super();
+        }
+
+        @Override
+        void writeElements(final BitOutput output, final byte[] value) throws IOException {
+            final boolean ascii = ascii(value);
+            output.writeBoolean(ascii);
+            if (ascii) {
+                output.writeBytes(true, 7, value, 0, value.length);
+                return;
+            }
+            super.writeElements(output, value);
+        }
+    }
+
+    /**
+     * Creates a new instance writes UTF-8 byte arrays in a compressed manner, with a {@code 1}-bit flag for each
+     * array. An array of ASCII bytes only is written as {@code 7}-bit groups without any prefix; otherwise, the array
+     * is written as {@link #compressedUtf8()} does.
+     *
+     * @return a new instance.
+     * @see ByteArrayReader#compressedUtf8Adaptive()
+     */
+    public static ByteArrayWriter compressedUtf8Adaptive() {
+        return new CompressedUtf8Adaptive();
+    }
+
     /**
      * Creates a new instance.
      *
@@ -192,6 +241,10 @@ public class ByteArrayWriter
     }
 
     void writeElements(final BitOutput output, final byte[] elements) throws IOException {
+        if (elementSize == Byte.SIZE) {
+            output.writeBytes(elements, 0, elements.length);
+            return;
+        }
         for (final byte element : elements) {
             writeElement(output, element);
         }
@@ -21,6 +21,7 @@ package com.github.jinahya.bit.io;
  */
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * An interface for reading bytes.
@@ -39,4 +40,44 @@ public interface ByteInput {
      * @throws IOException if an I/O error occurs.
      */
     int read() throws IOException;
+
+    /**
+     * Reads specified number of bytes into specified array.
+     *
+     * @param dst the array into which bytes are read.
+     * @param off the offset in the {@code dst} at which the first byte is stored.
+     * @param len the number of bytes to read; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code dst}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation invokes {@link #read()} method {@code len} times, and stores each result
+     * into the {@code dst} starting at the {@code off}.
+     */
+    default void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = (byte) read();
+        }
+    }
+
+    /**
+     * Reads bytes, as many as {@link ByteBuffer#remaining() remaining}, into specified buffer.
+     *
+     * @param dst the buffer into which bytes are read.
+     * @throws IOException if an I/O error occurs.
+     * @implSpec The default implementation, when the {@code dst} is backed by an accessible array, invokes
+     * {@link #read(byte[], int, int)} method with the array, and advances the {@code dst}'s position. Otherwise, it
+     * {@link ByteBuffer#put(byte) puts} each result of {@link #read()} method to the {@code dst}.
+     */
+    default void read(final ByteBuffer dst) throws IOException {
+        if (dst.hasArray()) {
+            final int position = dst.position();
+            final int remaining = dst.limit() - position;
+            read(dst.array(), dst.arrayOffset() + position, remaining);
+            dst.position(position + remaining);
+            return;
+        }
+        while (dst.hasRemaining()) {
+            dst.put((byte) read());
+        }
+    }
 }
@@ -30,7 +30,7 @@ import java.util.Objects;
  * @see ByteOutputAdapter
  */
 public class ByteInputAdapter
-        implements BitInput {
+        implements UncheckedBitInput {
 
     /**
      * Creates a new instance on top of specified byte input.
@@ -43,26 +43,141 @@ public class ByteInputAdapter
     }
 
     @Override
-    public int readInt(final boolean unsigned, int size) throws IOException {
+    public int readInt(final boolean unsigned, final int size) throws IOException {
         BitIoConstraints.requireValidSizeForInt(unsigned, size);
-        int value = 0;
-        if (!unsigned) {
-            value -= readInt(true, 1);
-            if (--size > 0) {
-                value <<= size;
-                value |= readInt(true, size);
+        return int32(unsigned, size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method counts zeros in the available bits of the current octet at once with
+     * {@link Integer#numberOfLeadingZeros(int)}.
+     */
+    @Override
+    public int readLeadingZeros() throws IOException {
+        for (int zeros = 0; ; ) {
+            if (available == 0) {
+                octet = input.read();
+                count++;
+                available = Byte.SIZE;
             }
-            return value;
+            final int bits = octet & BitIoUtils.bitMaskSingle(available);
+            if (bits == 0) {
+                zeros += available;
+                available = 0;
+                continue;
+            }
+            final int run = Integer.numberOfLeadingZeros(bits) - (Integer.SIZE - available);
+            available -= run + 1;
+            return zeros + run;
         }
-        for (; size >= Byte.SIZE; size -= Byte.SIZE) {
-            value <<= Byte.SIZE;
-            value |= unsigned8(Byte.SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param dst      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once, reads values, in chunks, as
+     * {@link #readLongs(boolean, int, long[], int, int)} does, and narrows them.
+     */
+    @Override
+    public void readBytes(final boolean unsigned, final int size, final byte[] dst, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForByte(unsigned, size);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        for (int i = off, end = off + len; i < end; ) {
+            final int n = Math.min(end - i, values().length);
+            longs(unsigned, size, values, 0, n);
+            for (int j = 0; j < n; j++) {
+                dst[i++] = (byte) values[j];
+            }
         }
-        if (size > 0) {
-            value <<= size;
-            value |= unsigned8(size);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param dst      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once, reads values, in chunks, as
+     * {@link #readLongs(boolean, int, long[], int, int)} does, and narrows them.
+     */
+    @Override
+    public void readInts(final boolean unsigned, final int size, final int[] dst, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForInt(unsigned, size);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        for (int i = off, end = off + len; i < end; ) {
+            final int n = Math.min(end - i, values().length);
+            longs(unsigned, size, values, 0, n);
+            for (int j = 0; j < n; j++) {
+                dst[i++] = (int) values[j];
+            }
         }
-        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param dst      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once. When this input is aligned, this method reads octets in bulk
+     * and unpacks values, in blocks of {@value java.lang.Byte#SIZE} values, with a kernel specialized for the
+     * {@code size}.
+     */
+    @Override
+    public void readLongs(final boolean unsigned, final int size, final long[] dst, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForLong(unsigned, size);
+        ByteIoUtils.requireValidRange(dst, off, len);
+        longs(unsigned, size, dst, off, len);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method reads all {@code len} bytes from the underlying byte input with a single
+     * {@link ByteInput#read(byte[], int, int)} call. When this input is not aligned, the bytes are shifted in place.
+     */
+    @Override
+    public void readBytes(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        if (len == 0) {
+            return;
+        }
+        input.read(dst, off, len);
+        count += len;
+        if (available == 0) {
+            return;
+        }
+        final int shift = Byte.SIZE - available;
+        int carry = octet;
+        for (int i = off, end = off + len; i < end; i++) {
+            final int b = dst[i] & 0xFF;
+            dst[i] = (byte) ((carry << shift) | (b >> available));
+            carry = b;
+        }
+        octet = carry;
     }
 
     @Override
@@ -95,6 +210,136 @@ public class ByteInputAdapter
         count = 0L;
     }
 
+    @Override
+    public long readUnchecked(final boolean unsigned, final int size) throws IOException {
+        return size < Integer.SIZE ? int32(unsigned, size) : int64(unsigned, size);
+    }
+
+    /**
+     * Returns the array for reading octets in bulk.
+     *
+     * @return the array for reading octets in bulk.
+     */
+    private byte[] octets() {
+        if (octets == null) {
+            octets = new byte[BitIoConstants.BULK_CHUNK_SIZE];
+        }
+        return octets;
+    }
+
+    /**
+     * Returns the array for narrowing values in bulk.
+     *
+     * @return the array for narrowing values in bulk.
+     */
+    private long[] values() {
+        if (values == null) {
+            values = new long[BitIoConstants.BULK_CHUNK_SIZE];
+        }
+        return values;
+    }
+
+    /**
+     * Reads values of specified number of bits into specified range of specified array without checking arguments.
+     * When this input is aligned, octets are read in bulk and unpacked, in blocks.
+     *
+     * @param unsigned a flag for indicating unsigned values.
+     * @param size     the number of bits for each value.
+     * @param dst      the array into which values are read.
+     * @param off      the offset in the {@code dst}.
+     * @param len      the number of values to read.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void longs(final boolean unsigned, final int size, final long[] dst, int off, final int len)
+            throws IOException {
+        final int end = off + len;
+        if (available == 0) {
+            final int chunk = octets().length / size;
+            final int shift = Long.SIZE - size;
+            for (int blocks = len / BitPacker.BLOCK_SIZE; blocks > 0; ) {
+                final int n = Math.min(blocks, chunk);
+                readBytes(octets, 0, n * size);
+                BitPacker.unpack(size, octets, 0, dst, off, n);
+                if (!unsigned) {
+                    for (int i = off, e = off + n * BitPacker.BLOCK_SIZE; i < e; i++) {
+                        dst[i] = dst[i] << shift >> shift;
+                    }
+                }
+                off += n * BitPacker.BLOCK_SIZE;
+                blocks -= n;
+            }
+        }
+        for (; off < end; off++) {
+            dst[off] = readUnchecked(unsigned, size);
+        }
+    }
+
+    /**
+     * Reads an {@code int} value of specified number of bits without checking arguments.
+     *
+     * @param unsigned a flag for indicating an unsigned value.
+     * @param size     the number of bits to read; must be valid for the {@code unsigned}.
+     * @return an {@code int} value.
+     * @throws IOException if an I/O error occurs.
+     */
+    private int int32(final boolean unsigned, int size) throws IOException {
+        if (unsigned) {
+            return unsigned32(size);
+        }
+        int value = -unsigned32(1);
+        if (--size > 0) {
+            value <<= size;
+            value |= unsigned32(size);
+        }
+        return value;
+    }
+
+    /**
+     * Reads a {@code long} value of specified number of bits without checking arguments.
+     *
+     * @param unsigned a flag for indicating an unsigned value.
+     * @param size     the number of bits to read; must be valid for the {@code unsigned}.
+     * @return a {@code long} value.
+     * @throws IOException if an I/O error occurs.
+     */
+    private long int64(final boolean unsigned, int size) throws IOException {
+        long value = 0L;
+        if (!unsigned) {
+            value -= unsigned32(1);
+            size--;
+        }
+        for (; size >= Integer.SIZE; size -= Integer.SIZE) {
+            value <<= Integer.SIZE;
+            value |= unsigned32(Integer.SIZE) & 0xFFFFFFFFL;
+        }
+        if (size > 0) {
+            value <<= size;
+            value |= unsigned32(size);
+        }
+        return value;
+    }
+
+    /**
+     * Reads an unsigned {@code int} value of specified number of bits.
+     *
+     * @param size the number of bits to read; between {@code 1} and {@value java.lang.Integer#SIZE}, both inclusive.
+     * @return an unsigned {@code int} value; not unsigned only when the {@code size} is
+     * {@value java.lang.Integer#SIZE}.
+     * @throws IOException if an I/O error occurs.
+     */
+    private int unsigned32(int size) throws IOException {
+        int value = 0;
+        for (; size >= Byte.SIZE; size -= Byte.SIZE) {
+            value <<= Byte.SIZE;
+            value |= unsigned8(Byte.SIZE);
+        }
+        if (size > 0) {
+            value <<= size;
+            value |= unsigned8(size);
+        }
+        return value;
+    }
+
     /**
      * Reads an unsigned {@code int} value of specified number of bits.
      *
@@ -136,4 +381,14 @@ public class ByteInputAdapter
      * The number of bytes read, from the {@link #input}, so far.
      */
     private long count;
+
+    /**
+     * An array for reading octets in bulk; lazily initialized.
+     */
+    private byte[] octets;
+
+    /**
+     * An array for narrowing values in bulk; lazily initialized.
+     */
+    private long[] values;
 }
@@ -0,0 +1,177 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * An implementation of {@link BitInput} reads octets from an instance of {@link ByteInput} into a
+ * {@value java.lang.Long#SIZE}-bit buffer.
+ * <p>
+ * Each read fills the buffer with as many octets as required, up to eight at once with a single
+ * {@link ByteInput#read(byte[], int, int)} call, and then takes the requested number of bits out of it with a single
+ * shift-and-mask. No octet is read before it is actually required, so instances of this class consume exactly the same
+ * octets, and report exactly the same results from {@link #align(int)}, as instances of {@link ByteInputAdapter} do.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ByteInputAdapter
+ * @see ByteOutputAdapter64
+ */
+public class ByteInputAdapter64
+        extends AbstractBitInput64 {
+
+    /**
+     * Creates a new instance on top of specified byte input.
+     *
+     * @param input the byte input.
+     */
+    public ByteInputAdapter64(final ByteInput input) {
+        super();
+        this.input = Objects.requireNonNull(input, "input is null");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method counts zeros in the available bits of the buffer at once with
+     * {@link Long#numberOfLeadingZeros(long)}.
+     */
+    @Override
+    public int readLeadingZeros() throws IOException {
+        for (int zeros = 0; ; ) {
+            if (available == 0) {
+                buffer = (buffer << Byte.SIZE) | input.read();
+                count++;
+                available = Byte.SIZE;
+            }
+            final long bits = buffer & (-1L >>> (Long.SIZE - available));
+            if (bits == 0L) {
+                zeros += available;
+                available = 0;
+                continue;
+            }
+            final int run = Long.numberOfLeadingZeros(bits) - (Long.SIZE - available);
+            available -= run + 1;
+            return zeros + run;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method reads all {@code len} bytes from the underlying byte input with a single
+     * {@link ByteInput#read(byte[], int, int)} call. When this input is not aligned, the bytes are shifted in place.
+     */
+    @Override
+    public void readBytes(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        if (len == 0) {
+            return;
+        }
+        input.read(dst, off, len);
+        count += len;
+        if (available == 0) {
+            return;
+        }
+        final int shift = Byte.SIZE - available;
+        int carry = (int) buffer;
+        for (int i = off, end = off + len; i < end; i++) {
+            final int b = dst[i] & 0xFF;
+            dst[i] = (byte) ((carry << shift) | (b >> available));
+            carry = b;
+        }
+        buffer = carry;
+    }
+
+    @Override
+    public long align(final int bytes) throws IOException {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("bytes(" + bytes + ") is not positive");
+        }
+        long bits = available; // the number of discarded bits
+        available = 0;
+        if (bytes == 1) {
+            return bits;
+        }
+        for (int i = (bytes - (int) (count % bytes)); i > 0; i--) {
+            unsigned57(Byte.SIZE);
+            bits += Byte.SIZE;
+        }
+        assert available == 0;
+        return bits;
+    }
+
+    @Override
+    public void reset() {
+        if (available > 0) {
+            throw new IllegalStateException("not aligned yet");
+        }
+        count = 0L;
+    }
+
+    @Override
+    long unsigned57(final int size) throws IOException {
+        if (available < size) {
+            final int required = (size - available + 7) >> 3; // the number of octets to read; at most eight
+            if (required == 1) {
+                buffer = (buffer << Byte.SIZE) | input.read();
+            } else {
+                input.read(octets, 0, required);
+                for (int i = 0; i < required; i++) {
+                    buffer = (buffer << Byte.SIZE) | (octets[i] & 0xFFL);
+                }
+            }
+            count += required;
+            available += required << 3;
+        }
+        available -= size;
+        return (buffer >>> available) & (-1L >>> (Long.SIZE - size));
+    }
+
+    private final ByteInput input;
+
+    /**
+     * An array for reading octets of the {@link #buffer} in bulk.
+     */
+    private final byte[] octets = new byte[Long.BYTES];
+
+    /**
+     * The buffer whose lower {@link #available} bits are not read yet.
+     */
+    private long buffer;
+
+    /**
+     * The number of available bits in {@link #buffer}; always less than {@value java.lang.Byte#SIZE} between reads.
+     */
+    private int available = 0;
+
+    /**
+     * The number of bytes read, from the {@link #input}, so far.
+     */
+    private long count;
+}
@@ -20,6 +20,8 @@ package com.github.jinahya.bit.io;
  * #L%
  */
 
+import java.util.Objects;
+
 /**
  * Utilities for Bit-Io.
  *
@@ -27,6 +29,134 @@ package com.github.jinahya.bit.io;
  */
 final class ByteIoUtils {
 
+    /**
+     * Checks whether specified range is within an array of specified length.
+     *
+     * @param capacity the length of the array.
+     * @param offset   the offset of the range.
+     * @param length   the length of the range.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    private static void requireValidRange(final int capacity, final int offset, final int length) {
+        if (offset < 0 || length < 0 || length > capacity - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset(" + offset + ") and length(" + length + ") are out of bounds for array.length("
+                    + capacity + ")");
+        }
+    }
+
+    /**
+     * Checks whether specified range is within specified array.
+     *
+     * @param array  the array.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return given {@code array}.
+     * @throws NullPointerException      if {@code array} is {@code null}.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the {@code array}.
+     */
+    static boolean[] requireValidRange(final boolean[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        requireValidRange(array.length, offset, length);
+        return array;
+    }
+
+    /**
+     * Checks whether specified range is within specified array.
+     *
+     * @param array  the array.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return given {@code array}.
+     * @throws NullPointerException      if {@code array} is {@code null}.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the {@code array}.
+     */
+    static byte[] requireValidRange(final byte[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        requireValidRange(array.length, offset, length);
+        return array;
+    }
+
+    /**
+     * Checks whether specified range is within specified array.
+     *
+     * @param array  the array.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return given {@code array}.
+     * @throws NullPointerException      if {@code array} is {@code null}.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the {@code array}.
+     */
+    static short[] requireValidRange(final short[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        requireValidRange(array.length, offset, length);
+        return array;
+    }
+
+    /**
+     * Checks whether specified range is within specified array.
+     *
+     * @param array  the array.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return given {@code array}.
+     * @throws NullPointerException      if {@code array} is {@code null}.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the {@code array}.
+     */
+    static int[] requireValidRange(final int[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        requireValidRange(array.length, offset, length);
+        return array;
+    }
+
+    /**
+     * Checks whether specified range is within specified array.
+     *
+     * @param array  the array.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return given {@code array}.
+     * @throws NullPointerException      if {@code array} is {@code null}.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the {@code array}.
+     */
+    static long[] requireValidRange(final long[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        requireValidRange(array.length, offset, length);
+        return array;
+    }
+
+    /**
+     * Checks whether specified range is within specified array.
+     *
+     * @param array  the array.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return given {@code array}.
+     * @throws NullPointerException      if {@code array} is {@code null}.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the {@code array}.
+     */
+    static float[] requireValidRange(final float[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        requireValidRange(array.length, offset, length);
+        return array;
+    }
+
+    /**
+     * Checks whether specified range is within specified array.
+     *
+     * @param array  the array.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return given {@code array}.
+     * @throws NullPointerException      if {@code array} is {@code null}.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the {@code array}.
+     */
+    static double[] requireValidRange(final double[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        requireValidRange(array.length, offset, length);
+        return array;
+    }
+
     private ByteIoUtils() {
         throw new AssertionError(BitIoConstants.MESSAGE_INSTANTIATION_IS_NOT_ALLOWED);
     }
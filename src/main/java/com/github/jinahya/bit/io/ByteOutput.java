@@ -21,6 +21,7 @@ package com.github.jinahya.bit.io;
  */
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * An interface for writing bytes.
@@ -39,4 +40,43 @@ public interface ByteOutput {
      * @throws IOException if an I/O error occurs.
      */
     void write(int value) throws IOException;
+
+    /**
+     * Writes specified number of bytes from specified array.
+     *
+     * @param src the array from which bytes are written.
+     * @param off the offset in the {@code src} of the first byte to write.
+     * @param len the number of bytes to write; must not be negative.
+     * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of bounds of the {@code src}.
+     * @throws IOException               if an I/O error occurs.
+     * @implSpec The default implementation invokes {@link #write(int)} method with each byte in the range.
+     */
+    default void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        for (int i = off, end = off + len; i < end; i++) {
+            write(src[i] & 0xFF);
+        }
+    }
+
+    /**
+     * Writes all {@link ByteBuffer#remaining() remaining} bytes of specified buffer.
+     *
+     * @param src the buffer whose remaining bytes are written.
+     * @throws IOException if an I/O error occurs.
+     * @implSpec The default implementation, when the {@code src} is backed by an accessible array, invokes
+     * {@link #write(byte[], int, int)} method with the array, and advances the {@code src}'s position. Otherwise, it
+     * invokes {@link #write(int)} method with each {@link ByteBuffer#get() remaining} byte.
+     */
+    default void write(final ByteBuffer src) throws IOException {
+        if (src.hasArray()) {
+            final int position = src.position();
+            final int remaining = src.limit() - position;
+            write(src.array(), src.arrayOffset() + position, remaining);
+            src.position(position + remaining);
+            return;
+        }
+        while (src.hasRemaining()) {
+            write(src.get() & 0xFF);
+        }
+    }
 }
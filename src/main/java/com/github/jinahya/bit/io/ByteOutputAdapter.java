@@ -30,7 +30,7 @@ import java.util.Objects;
  * @see ByteInputAdapter
  */
 public class ByteOutputAdapter
-        implements BitOutput {
+        implements UncheckedBitOutput {
 
     /**
      * Creates a new instance on top of specified byte output.
@@ -52,13 +52,117 @@ public class ByteOutputAdapter
             }
             return;
         }
-        final int quotient = size >> 3;
-        final int remainder = size & 7;
-        if (remainder > 0) {
-            unsigned8(remainder, value >> (quotient << 3));
+        unsigned32(size, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param src      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once, widens values, in chunks, to {@code long}s, and writes them
+     * as {@link #writeLongs(boolean, int, long[], int, int)} does.
+     */
+    @Override
+    public void writeBytes(final boolean unsigned, final int size, final byte[] src, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForByte(unsigned, size);
+        ByteIoUtils.requireValidRange(src, off, len);
+        for (int i = off, end = off + len; i < end; ) {
+            final int n = Math.min(end - i, values().length);
+            for (int j = 0; j < n; j++) {
+                values[j] = src[i++];
+            }
+            longs(size, values, 0, n);
         }
-        for (int i = Byte.SIZE * (quotient - 1); i >= 0; i -= Byte.SIZE) {
-            unsigned8(Byte.SIZE, value >> i);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param src      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once, widens values, in chunks, to {@code long}s, and writes them
+     * as {@link #writeLongs(boolean, int, long[], int, int)} does.
+     */
+    @Override
+    public void writeInts(final boolean unsigned, final int size, final int[] src, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForInt(unsigned, size);
+        ByteIoUtils.requireValidRange(src, off, len);
+        for (int i = off, end = off + len; i < end; ) {
+            final int n = Math.min(end - i, values().length);
+            for (int j = 0; j < n; j++) {
+                values[j] = src[i++];
+            }
+            longs(size, values, 0, n);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param unsigned {@inheritDoc}
+     * @param size     {@inheritDoc}
+     * @param src      {@inheritDoc}
+     * @param off      {@inheritDoc}
+     * @param len      {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method checks arguments only once. When this output is aligned, this method packs values, in
+     * blocks of {@value java.lang.Byte#SIZE} values, with a kernel specialized for the {@code size} and writes packed
+     * octets in bulk.
+     */
+    @Override
+    public void writeLongs(final boolean unsigned, final int size, final long[] src, final int off, final int len)
+            throws IOException {
+        BitIoConstraints.requireValidSizeForLong(unsigned, size);
+        ByteIoUtils.requireValidRange(src, off, len);
+        longs(size, src, off, len);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote This method writes all {@code len} bytes to the underlying byte output with a single
+     * {@link ByteOutput#write(byte[], int, int)} call. When this output is not aligned, the bytes are shifted, and
+     * written, in chunks of the array for writing octets in bulk.
+     */
+    @Override
+    public void writeBytes(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        if (len == 0) {
+            return;
+        }
+        if (available == Byte.SIZE) {
+            output.write(src, off, len);
+            count += len;
+            return;
+        }
+        assert src != octets; // only aligned writes are made from the octets
+        final int used = Byte.SIZE - available;
+        final int mask = BitIoUtils.bitMaskSingle(used);
+        final byte[] shifted = octets();
+        for (int i = off, end = off + len; i < end; ) {
+            final int n = Math.min(end - i, shifted.length);
+            for (int j = 0; j < n; j++) {
+                final int b = src[i++] & 0xFF;
+                shifted[j] = (byte) ((octet << available) | (b >> used));
+                octet = b & mask;
+            }
+            output.write(shifted, 0, n);
+            count += n;
         }
     }
 
@@ -92,6 +196,83 @@ public class ByteOutputAdapter
         count = 0L;
     }
 
+    @Override
+    public void writeUnchecked(int size, final long value) throws IOException {
+        for (; size > Integer.SIZE; size -= Integer.SIZE) {
+            unsigned32(Integer.SIZE, (int) (value >> (size - Integer.SIZE)));
+        }
+        unsigned32(size, (int) value);
+    }
+
+    /**
+     * Returns the array for writing octets in bulk.
+     *
+     * @return the array for writing octets in bulk.
+     */
+    private byte[] octets() {
+        if (octets == null) {
+            octets = new byte[BitIoConstants.BULK_CHUNK_SIZE];
+        }
+        return octets;
+    }
+
+    /**
+     * Returns the array for widening values in bulk.
+     *
+     * @return the array for widening values in bulk.
+     */
+    private long[] values() {
+        if (values == null) {
+            values = new long[BitIoConstants.BULK_CHUNK_SIZE];
+        }
+        return values;
+    }
+
+    /**
+     * Writes lower specified number of bits of values in specified range of specified array without checking
+     * arguments. When this output is aligned, values are packed, in blocks, and written in bulk.
+     *
+     * @param size the number of bits for each value.
+     * @param src  the array of values.
+     * @param off  the offset in the {@code src}.
+     * @param len  the number of values to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void longs(final int size, final long[] src, int off, final int len) throws IOException {
+        final int end = off + len;
+        if (available == Byte.SIZE) {
+            final int chunk = octets().length / size;
+            for (int blocks = len / BitPacker.BLOCK_SIZE; blocks > 0; ) {
+                final int n = Math.min(blocks, chunk);
+                BitPacker.pack(size, src, off, octets, 0, n);
+                writeBytes(octets, 0, n * size);
+                off += n * BitPacker.BLOCK_SIZE;
+                blocks -= n;
+            }
+        }
+        for (; off < end; off++) {
+            writeUnchecked(size, src[off]);
+        }
+    }
+
+    /**
+     * Writes lower specified number of bits of specified value.
+     *
+     * @param size  the number of bits to write; between {@code 1} and {@value java.lang.Integer#SIZE}, both inclusive.
+     * @param value the value whose lower {@code size} bits are written.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void unsigned32(final int size, final int value) throws IOException {
+        final int quotient = size >> 3;
+        final int remainder = size & 7;
+        if (remainder > 0) {
+            unsigned8(remainder, value >> (quotient << 3));
+        }
+        for (int i = Byte.SIZE * (quotient - 1); i >= 0; i -= Byte.SIZE) {
+            unsigned8(Byte.SIZE, value >> i);
+        }
+    }
+
     /**
      * Writes specified unsigned value of specified number of bits.
      *
@@ -138,4 +319,14 @@ public class ByteOutputAdapter
      * The number of bytes written, to the {@link #output}, so far.
      */
     private long count;
+
+    /**
+     * An array for writing octets in bulk; lazily initialized.
+     */
+    private byte[] octets;
+
+    /**
+     * An array for widening values in bulk; lazily initialized.
+     */
+    private long[] values;
 }
@@ -0,0 +1,71 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * An implementation of {@link BitOutput} packs bits into a {@value java.lang.Long#SIZE}-bit buffer and writes them,
+ * as big-endian octets, to an instance of {@link ByteOutput}.
+ * <p>
+ * The buffer is written, as a whole, with a single {@link ByteOutput#write(byte[], int, int)} call, only when it fills
+ * up. Those octets remaining in the buffer are written when {@link #align(int)} method is invoked, which is also the
+ * point where this class pads exactly the same bits, and reports exactly the same result, as {@link ByteOutputAdapter}
+ * does. Callers who access the underlying output directly should align this output first.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ByteOutputAdapter
+ * @see ByteInputAdapter64
+ */
+public class ByteOutputAdapter64
+        extends AbstractBitOutput64 {
+
+    /**
+     * Creates a new instance on top of specified byte output.
+     *
+     * @param output the byte output.
+     */
+    public ByteOutputAdapter64(final ByteOutput output) {
+        super();
+        this.output = Objects.requireNonNull(output, "output is null");
+    }
+
+    @Override
+    void flush(final long word) throws IOException {
+        for (int i = 0, shift = Long.SIZE - Byte.SIZE; i < Long.BYTES; i++, shift -= Byte.SIZE) {
+            octets[i] = (byte) (word >>> shift);
+        }
+        output.write(octets, 0, Long.BYTES);
+    }
+
+    @Override
+    void flush(final byte[] src, final int off, final int len) throws IOException {
+        output.write(src, off, len);
+    }
+
+    private final ByteOutput output;
+
+    /**
+     * An array for writing octets of a whole buffer.
+     */
+    private final byte[] octets = new byte[Long.BYTES];
+}
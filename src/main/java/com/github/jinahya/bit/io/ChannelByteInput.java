@@ -27,6 +27,11 @@ import java.nio.channels.ReadableByteChannel;
 
 /**
  * A byte input reads bytes from a readable byte channel.
+ * <p>
+ * An instance of this class reads bytes through an internal buffer. With a capacity larger than {@code 1}, it fills
+ * the buffer with as many bytes as the channel gives in a single read, hence may read ahead of what has been
+ * consumed. Use {@link #available()} method for the number of those bytes, which can be read without touching the
+ * channel.
  *
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
  * @see ChannelByteOutput
@@ -35,30 +40,130 @@ public class ChannelByteInput
         extends AbstractByteInput<ReadableByteChannel> {
 
     /**
-     * Creates a new instance with specified channel.
+     * Creates a new instance with specified channel. The instance created with this constructor never reads ahead
+     * of what has been consumed.
      *
      * @param channel the channel from which bytes are read.
+     * @see #ChannelByteInput(ReadableByteChannel, int, boolean)
      */
     public ChannelByteInput(final ReadableByteChannel channel) {
+        this(channel, 1, false);
+    }
+
+    /**
+     * Creates a new instance with specified channel and buffer configuration.
+     *
+     * @param channel  the channel from which bytes are read.
+     * @param capacity the capacity of the internal buffer; must be positive.
+     * @param direct   a flag for allocating a direct buffer; {@code true} for a direct buffer; {@code false} for a
+     *                 heap buffer.
+     * @see ByteBuffer#allocateDirect(int)
+     */
+    public ChannelByteInput(final ReadableByteChannel channel, final int capacity, final boolean direct) {
         super(channel);
-        delegate = new BufferByteInput(ByteBuffer.allocate(1)) {
-            @Override
-            public int read() throws IOException {
-                while (source.hasRemaining()) {
-                    if (ChannelByteInput.this.source.read(source) == -1) {
-                        throw new EOFException("reached to an end");
-                    }
-                }
-                source.flip(); // limit -> position, position -> zero
-                return super.read();
-            }
-        };
+        BitIoConstraints.requirePositive(capacity);
+        buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        buffer.limit(0);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws EOFException when the {@link #source source channel} reaches to an end.
+     * @throws IOException  {@inheritDoc}
+     * @implSpec The {@code read()} method of {@code ChannelByteInput} class fills the internal buffer, when it has no
+     * remaining, with a single {@link ReadableByteChannel#read(ByteBuffer)} call which reads at least one byte, and
+     * returns the next byte of it.
+     */
     @Override
     public int read() throws IOException {
-        return delegate.read();
+        if (!buffer.hasRemaining()) {
+            fill();
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        read(ByteBuffer.wrap(dst, off, len));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @throws EOFException when the {@link #source source channel} reaches to an end before the {@code dst} is
+     *                      filled.
+     * @throws IOException  {@inheritDoc}
+     * @implSpec The {@code read(ByteBuffer)} method of {@code ChannelByteInput} class transfers bytes remaining in the
+     * internal buffer, and then reads the rest directly from the {@link #source} into the {@code dst} while it has at
+     * least as many bytes remaining as the capacity of the internal buffer. Any smaller rest is read through the
+     * internal buffer.
+     */
+    @Override
+    public void read(final ByteBuffer dst) throws IOException {
+        transfer(dst);
+        while (dst.hasRemaining()) {
+            if (dst.remaining() >= buffer.capacity()) {
+                if (source.read(dst) == -1) {
+                    throw new EOFException("reached to an end");
+                }
+                continue;
+            }
+            fill();
+            transfer(dst);
+        }
+    }
+
+    /**
+     * Returns the number of bytes which are read from the channel, yet not consumed. Those bytes can be read without
+     * touching the channel.
+     *
+     * @return the number of bytes buffered, yet not consumed.
+     */
+    public int available() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Fills the internal buffer, which should have no remaining, with at least one byte.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void fill() throws IOException {
+        assert !buffer.hasRemaining();
+        buffer.clear();
+        try {
+            while (buffer.position() == 0) {
+                if (source.read(buffer) == -1) {
+                    throw new EOFException("reached to an end");
+                }
+            }
+        } finally {
+            buffer.flip(); // limit -> position, position -> zero
+        }
+    }
+
+    /**
+     * Transfers bytes remaining in the internal buffer to specified buffer, as many as possible.
+     *
+     * @param dst the buffer to which bytes are transferred.
+     */
+    private void transfer(final ByteBuffer dst) {
+        final int length = Math.min(buffer.remaining(), dst.remaining());
+        if (length == 0) {
+            return;
+        }
+        final int limit = buffer.limit();
+        buffer.limit(buffer.position() + length);
+        dst.put(buffer);
+        buffer.limit(limit);
     }
 
-    private final ByteInput delegate;
+    /**
+     * The internal buffer whose remaining bytes are read from the channel, yet not consumed.
+     */
+    private final ByteBuffer buffer;
 }
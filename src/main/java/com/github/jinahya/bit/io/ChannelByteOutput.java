@@ -20,41 +20,168 @@ package com.github.jinahya.bit.io;
  * #L%
  */
 
+import java.io.Flushable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.WritableByteChannel;
 
 /**
  * A byte output writes bytes to a writable byte channel.
+ * <p>
+ * An instance of this class writes bytes through internal buffers. With a capacity larger than {@code 1}, bytes are
+ * written to the channel only when a buffer is full or when {@link #flush()} method is invoked. Hence, callers should
+ * invoke the {@link #flush()} method after writing the last byte.
+ * <p>
+ * When the channel is a {@link GatheringByteChannel}, an instance may queue up to a configured number of filled
+ * buffers and write them all with a single {@link GatheringByteChannel#write(ByteBuffer[], int, int) gathering write}.
  *
  * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
  * @see ChannelByteInput
  */
 public class ChannelByteOutput
-        extends AbstractByteOutput<WritableByteChannel> {
+        extends AbstractByteOutput<WritableByteChannel>
+        implements Flushable {
 
     /**
-     * Creates a new instance on top of specified channel.
+     * Creates a new instance on top of specified channel. The instance created with this constructor writes each
+     * byte to the channel as soon as it is written.
      *
      * @param channel the channel to which bytes are written.
+     * @see #ChannelByteOutput(WritableByteChannel, int, boolean)
      */
     public ChannelByteOutput(final WritableByteChannel channel) {
+        this(channel, 1, false);
+    }
+
+    /**
+     * Creates a new instance on top of specified channel with a single buffer of specified configuration.
+     *
+     * @param channel  the channel to which bytes are written.
+     * @param capacity the capacity of the internal buffer; must be positive.
+     * @param direct   a flag for allocating a direct buffer; {@code true} for a direct buffer; {@code false} for a
+     *                 heap buffer.
+     * @see #ChannelByteOutput(WritableByteChannel, int, boolean, int)
+     */
+    public ChannelByteOutput(final WritableByteChannel channel, final int capacity, final boolean direct) {
+        this(channel, capacity, direct, 1);
+    }
+
+    /**
+     * Creates a new instance on top of specified channel with internal buffers of specified configuration.
+     *
+     * @param channel  the channel to which bytes are written.
+     * @param capacity the capacity of each internal buffer; must be positive.
+     * @param direct   a flag for allocating direct buffers; {@code true} for direct buffers; {@code false} for heap
+     *                 buffers.
+     * @param count    the maximum number of filled buffers to queue for a single gathering write; must be positive;
+     *                 ignored unless the {@code channel} is an instance of {@link GatheringByteChannel}.
+     * @see ByteBuffer#allocateDirect(int)
+     */
+    public ChannelByteOutput(final WritableByteChannel channel, final int capacity, final boolean direct,
+                             final int count) {
         super(channel);
-        delegate = new BufferByteOutput(ByteBuffer.allocate(1)) {
-            @Override
-            public void write(final int value) throws IOException {
-                super.write(value);
-                for (target.flip(); target.hasRemaining(); ) {
-                    ChannelByteOutput.this.target.write(target);
+        BitIoConstraints.requirePositive(capacity);
+        BitIoConstraints.requirePositive(count);
+        buffers = new ByteBuffer[channel instanceof GatheringByteChannel ? count : 1];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implSpec The {@code write(int)} method of {@code ChannelByteOutput} class puts specified value to the current
+     * internal buffer, and, when all buffers are full, writes them to the {@link #target}.
+     */
+    @Override
+    public void write(final int value) throws IOException {
+        buffers[index].put((byte) value);
+        if (!buffers[index].hasRemaining() && ++index == buffers.length) {
+            flush();
+        }
+    }
+
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        write(ByteBuffer.wrap(src, off, len));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param src {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implSpec The {@code write(ByteBuffer)} method of {@code ChannelByteOutput} class puts bytes of the {@code src}
+     * to internal buffers while it has fewer bytes remaining than the capacity of a buffer. Otherwise, it flushes
+     * buffered bytes and writes the {@code src} directly to the {@link #target}.
+     */
+    @Override
+    public void write(final ByteBuffer src) throws IOException {
+        final int capacity = buffers[0].capacity();
+        while (src.hasRemaining()) {
+            if (src.remaining() < capacity) {
+                final ByteBuffer buffer = buffers[index];
+                final int limit = src.limit();
+                src.limit(src.position() + Math.min(src.remaining(), buffer.remaining()));
+                buffer.put(src);
+                src.limit(limit);
+                if (!buffer.hasRemaining() && ++index == buffers.length) {
+                    flush();
                 }
+                continue;
+            }
+            flush();
+            while (src.hasRemaining()) {
+                target.write(src);
             }
-        };
+        }
     }
 
+    /**
+     * Writes all buffered bytes to the channel. This method does not force the channel to write bytes to any
+     * underlying storage device.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @implSpec The {@code flush()} method of {@code ChannelByteOutput} class writes the filled internal buffers, with
+     * gathering writes when the {@link #target} is an instance of {@link GatheringByteChannel}.
+     */
     @Override
-    public void write(final int value) throws IOException {
-        delegate.write(value);
+    public void flush() throws IOException {
+        final int length = Math.min(index + 1, buffers.length);
+        for (int i = 0; i < length; i++) {
+            buffers[i].flip(); // limit -> position, position -> zero
+        }
+        if (length > 1) {
+            final GatheringByteChannel channel = (GatheringByteChannel) target;
+            for (int offset = 0; offset < length; ) {
+                channel.write(buffers, offset, length - offset);
+                while (offset < length && !buffers[offset].hasRemaining()) {
+                    offset++;
+                }
+            }
+        } else {
+            while (buffers[0].hasRemaining()) {
+                target.write(buffers[0]);
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            buffers[i].clear();
+        }
+        index = 0;
     }
 
-    private final BufferByteOutput delegate;
+    /**
+     * The internal buffers; more than one only when the {@link #target} is a {@link GatheringByteChannel}.
+     */
+    private final ByteBuffer[] buffers;
+
+    /**
+     * The index of the buffer currently being filled.
+     */
+    private int index;
 }
@@ -53,4 +53,20 @@ public class DataByteInput
     public int read() throws IOException {
         return source.readUnsignedByte();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implSpec The {@code read(byte[], int, int)} method of {@code DataByteInput} class invokes
+     * {@link DataInput#readFully(byte[], int, int)} method on {@link #source} with given arguments.
+     */
+    @Override
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        source.readFully(dst, off, len);
+    }
 }
@@ -54,4 +54,21 @@ public class DataByteOutput
     public void write(final int value) throws IOException {
         target.writeByte(value);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implSpec The {@code write(byte[], int, int)} method of {@code DataByteOutput} class invokes
+     * {@link DataOutput#write(byte[], int, int)} method on the {@link #target} with given arguments.
+     * @see DataOutput#write(byte[], int, int)
+     */
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        target.write(src, off, len);
+    }
 }
@@ -0,0 +1,92 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A stateful reader for reading strings written by an instance of {@link DictionaryStringWriter}.
+ * <p>
+ * Instances of this class are not safe for concurrent use.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see DictionaryStringWriter
+ */
+public class DictionaryStringReader
+        implements BitReader<String> {
+
+    /**
+     * Creates a new instance with specified delegate and an unlimited dictionary.
+     *
+     * @param delegate the reader for reading literals.
+     */
+    public DictionaryStringReader(final StringReader delegate) {
+        this(delegate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new instance with specified delegate and maximum size of the dictionary.
+     *
+     * @param delegate the reader for reading literals.
+     * @param maxSize  the maximum number of entries in the dictionary; must be positive.
+     */
+    public DictionaryStringReader(final StringReader delegate, final int maxSize) {
+        super();
+        this.delegate = Objects.requireNonNull(delegate, "delegate is null");
+        this.maxSize = BitIoConstraints.requirePositive(maxSize);
+    }
+
+    @Override
+    public String read(final BitInput input) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        final int size = dictionary.size();
+        if (size > 0 && input.readBoolean()) {
+            final int indexSize = DictionaryStringWriter.indexSize(size);
+            final int index = indexSize > 0 ? input.readInt(true, indexSize) : 0;
+            if (index >= size) {
+                throw new IOException("index(" + index + ") >= size(" + size + ")");
+            }
+            return dictionary.get(index);
+        }
+        final String value = delegate.read(input);
+        if (size == maxSize) {
+            dictionary.clear();
+        }
+        dictionary.add(value);
+        return value;
+    }
+
+    /**
+     * Clears the dictionary.
+     */
+    public void reset() {
+        dictionary.clear();
+    }
+
+    private final StringReader delegate;
+
+    private final int maxSize;
+
+    private final List<String> dictionary = new ArrayList<>();
+}
@@ -0,0 +1,118 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A stateful writer for writing strings with a dictionary. Each string is written, on its first occurrence, as a
+ * literal via a delegate and is assigned the next index of the dictionary; a repeated string is written as its index
+ * of {@code ceil(log2(n))} bits, where {@code n} is the current size of the dictionary.
+ * <p>
+ * Each value is written as follows.
+ * <ul>
+ * <li>With an empty dictionary, the literal only.</li>
+ * <li>Otherwise, a {@code 1}-bit flag, {@code 1} followed by the index for a repeated string, or {@code 0} followed by
+ * the literal for a new string.</li>
+ * </ul>
+ * When the dictionary is full, it is cleared before a new string is added to it.
+ * <p>
+ * Instances of this class are not safe for concurrent use. A stream written by an instance of this class should be
+ * read by an instance of {@link DictionaryStringReader} configured with the same maximum size, and both of them should
+ * be {@link #reset() reset} at the same points of the stream.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see DictionaryStringReader
+ */
+public class DictionaryStringWriter
+        implements BitWriter<String> {
+
+    /**
+     * Returns the number of bits for indices of a dictionary of specified size.
+     *
+     * @param size the size of the dictionary; must be positive.
+     * @return the number of bits for indices; {@code 0} for a dictionary of a single entry.
+     */
+    static int indexSize(final int size) {
+        assert size > 0 : "not positive; size: " + size;
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+    }
+
+    /**
+     * Creates a new instance with specified delegate and an unlimited dictionary.
+     *
+     * @param delegate the writer for writing literals.
+     */
+    public DictionaryStringWriter(final StringWriter delegate) {
+        this(delegate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new instance with specified delegate and maximum size of the dictionary.
+     *
+     * @param delegate the writer for writing literals.
+     * @param maxSize  the maximum number of entries in the dictionary; must be positive.
+     */
+    public DictionaryStringWriter(final StringWriter delegate, final int maxSize) {
+        super();
+        this.delegate = Objects.requireNonNull(delegate, "delegate is null");
+        this.maxSize = BitIoConstraints.requirePositive(maxSize);
+    }
+
+    @Override
+    public void write(final BitOutput output, final String value) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        Objects.requireNonNull(value, "value is null");
+        final int size = dictionary.size();
+        if (size > 0) {
+            final Integer index = dictionary.get(value);
+            output.writeBoolean(index != null);
+            if (index != null) {
+                final int indexSize = indexSize(size);
+                if (indexSize > 0) {
+                    output.writeInt(true, indexSize, index);
+                }
+                return;
+            }
+        }
+        delegate.write(output, value);
+        if (size == maxSize) {
+            dictionary.clear();
+        }
+        dictionary.put(value, dictionary.size());
+    }
+
+    /**
+     * Clears the dictionary.
+     */
+    public void reset() {
+        dictionary.clear();
+    }
+
+    private final StringWriter delegate;
+
+    private final int maxSize;
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+}
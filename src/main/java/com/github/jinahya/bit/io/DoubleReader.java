@@ -333,6 +333,133 @@ public class DoubleReader
         private boolean significandOnly;
     }
 
+    /**
+     * A stateful reader for reading streams of {@code double} values written by XOR-ing each value with the previous
+     * one.
+     *
+     * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+     * @see DoubleWriter.CompressedXor
+     * @see FloatReader.CompressedXor
+     */
+    public static class CompressedXor
+            implements BitReader<Double> {
+
+        /**
+         * Creates a new instance.
+         */
+        public CompressedXor() {
+            super();
+        }
+
+        @Override
+        public Double read(final BitInput input) throws IOException {
+            return readDouble(input);
+        }
+
+        /**
+         * Reads a {@code double} value without boxing.
+         *
+         * @param input the input from which the value is read.
+         * @return the value read.
+         * @throws IOException if an I/O error occurs.
+         */
+        public double readDouble(final BitInput input) throws IOException {
+            Objects.requireNonNull(input, "input is null");
+            if (!started) {
+                previous = input.readLong(false, Long.SIZE);
+                started = true;
+                return Double.longBitsToDouble(previous);
+            }
+            if (input.readInt(true, 1) == 0b0) {
+                return Double.longBitsToDouble(previous);
+            }
+            if (input.readInt(true, 1) == 0b0) {
+                if (leading < 0) {
+                    throw new IOException("no previous window");
+                }
+            } else {
+                leading = input.readInt(true, DoubleWriter.CompressedXor.SIZE_LEADING);
+                int meaningful = input.readInt(true, DoubleWriter.CompressedXor.SIZE_MEANINGFUL);
+                if (meaningful == 0) {
+                    meaningful = Long.SIZE;
+                }
+                trailing = Long.SIZE - leading - meaningful;
+                if (trailing < 0) {
+                    throw new IOException("invalid window; leading: " + leading + ", meaningful: " + meaningful);
+                }
+            }
+            final int size = Long.SIZE - leading - trailing;
+            previous ^= input.readLong(size < Long.SIZE, size) << trailing;
+            return Double.longBitsToDouble(previous);
+        }
+
+        /**
+         * Resets this reader so that the next value is read as is.
+         */
+        public void reset() {
+            started = false;
+            previous = 0L;
+            leading = -1;
+            trailing = -1;
+        }
+
+        private boolean started;
+
+        private long previous;
+
+        private int leading = -1;
+
+        private int trailing = -1;
+    }
+
+    /**
+     * A reader for reading {@code double} values written quantized.
+     *
+     * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+     * @see DoubleWriter.Quantized
+     * @see FloatReader.Quantized
+     */
+    public static class Quantized
+            implements BitReader<Double> {
+
+        /**
+         * Creates a new instance with specified range and maximum absolute error.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range; must not be less than the {@code min}.
+         * @param maxError the maximum absolute error; must be positive.
+         */
+        public Quantized(final double min, final double max, final double maxError) {
+            super();
+            this.size = DoubleWriter.Quantized.size(min, max, maxError);
+            this.min = min;
+            this.step = DoubleWriter.Quantized.step(min, max, maxError);
+        }
+
+        @Override
+        public Double read(final BitInput input) throws IOException {
+            return readDouble(input);
+        }
+
+        /**
+         * Reads a {@code double} value without boxing.
+         *
+         * @param input the input from which the value is read.
+         * @return the value read.
+         * @throws IOException if an I/O error occurs.
+         */
+        public double readDouble(final BitInput input) throws IOException {
+            Objects.requireNonNull(input, "input is null");
+            return (min + input.readLong(true, size) * step);
+        }
+
+        private final int size;
+
+        private final double min;
+
+        private final double step;
+    }
+
     /**
      * Creates a new instance specified sizes of the exponent part and significand part, respectively.
      *
@@ -324,6 +324,255 @@ public class DoubleWriter
         private boolean significandOnly;
     }
 
+    /**
+     * A stateful writer for writing streams of {@code double} values by XOR-ing each value with the previous one, in
+     * the style of Gorilla. The first value after a {@link #reset() reset} is written as is. For each following value,
+     * <ul>
+     *   <li>{@code 0} is written when the value is identical to the previous one,</li>
+     *   <li>{@code 10} followed by the meaningful bits of the XOR is written when the XOR fits in the window of the
+     *   previous leading and trailing zeros,</li>
+     *   <li>{@code 11} followed by the number of leading zeros in {@value #SIZE_LEADING} bits, the number of
+     *   meaningful bits in {@value #SIZE_MEANINGFUL} bits, and the meaningful bits is written otherwise.</li>
+     * </ul>
+     *
+     * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+     * @see DoubleReader.CompressedXor
+     * @see FloatWriter.CompressedXor
+     * @see <a href="https://www.vldb.org/pvldb/vol8/p1816-teller.pdf">Gorilla: A Fast, Scalable, In-Memory Time
+     * Series Database</a>
+     */
+    public static class CompressedXor
+            implements BitWriter<Double> {
+
+        /**
+         * The number of bits for the number of leading zeros. The value is {@value}.
+         */
+        static final int SIZE_LEADING = 5;
+
+        /**
+         * The number of bits for the number of meaningful bits. The value is {@value}.
+         */
+        static final int SIZE_MEANINGFUL = 6;
+
+        /**
+         * Creates a new instance.
+         */
+        public CompressedXor() {
+            super();
+        }
+
+        @Override
+        public void write(final BitOutput output, final Double value) throws IOException {
+            writeDouble(output, value);
+        }
+
+        /**
+         * Writes specified {@code double} value without boxing.
+         *
+         * @param output the output to which the value is written.
+         * @param value  the value to write.
+         * @throws IOException if an I/O error occurs.
+         */
+        public void writeDouble(final BitOutput output, final double value) throws IOException {
+            Objects.requireNonNull(output, "output is null");
+            final long bits = Double.doubleToRawLongBits(value);
+            if (!started) {
+                output.writeLong(false, Long.SIZE, bits);
+                previous = bits;
+                started = true;
+                return;
+            }
+            final long xor = bits ^ previous;
+            previous = bits;
+            if (xor == 0L) {
+                output.writeInt(true, 1, 0b0);
+                return;
+            }
+            final int lz = Math.min(Long.numberOfLeadingZeros(xor), (1 << SIZE_LEADING) - 1);
+            final int tz = Long.numberOfTrailingZeros(xor);
+            if (leading >= 0 && lz >= leading && tz >= trailing) {
+                output.writeInt(true, 2, 0b10);
+                write(output, Long.SIZE - leading - trailing, xor >>> trailing);
+                return;
+            }
+            leading = lz;
+            trailing = tz;
+            final int meaningful = Long.SIZE - lz - tz;
+            output.writeInt(true, 2, 0b11);
+            output.writeInt(true, SIZE_LEADING, lz);
+            output.writeInt(true, SIZE_MEANINGFUL, meaningful & (Long.SIZE - 1));
+            write(output, meaningful, xor >>> tz);
+        }
+
+        private void write(final BitOutput output, final int size, final long bits) throws IOException {
+            output.writeLong(size < Long.SIZE, size, bits);
+        }
+
+        /**
+         * Resets this writer so that the next value is written as is.
+         */
+        public void reset() {
+            started = false;
+            previous = 0L;
+            leading = -1;
+            trailing = -1;
+        }
+
+        private boolean started;
+
+        private long previous;
+
+        private int leading = -1;
+
+        private int trailing = -1;
+    }
+
+    /**
+     * A writer for writing {@code double} values, in a declared range, quantized with a declared maximum absolute
+     * error. A value {@code v} is written as {@code q = round((v - min) / step)} in the minimum number of bits for the
+     * range, and is read back as {@code min + q * step}; where the {@code step} is {@code 2 * maxError} less a margin
+     * for rounding errors, so that a value read back never differs from the value written by more than the
+     * {@code maxError}.
+     *
+     * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+     * @see DoubleReader.Quantized
+     * @see FloatWriter.Quantized
+     */
+    public static class Quantized
+            implements BitWriter<Double> {
+
+        /**
+         * Returns the margin, of specified range and error, for rounding errors of quantizing and reading back.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range.
+         * @param maxError the maximum absolute error.
+         * @return the margin for rounding errors.
+         */
+        static double margin(final double min, final double max, final double maxError) {
+            // no intermediate value is greater, in magnitude, than max(|min|, |max|) + 2 * maxError
+            return 4.0d * Math.ulp(Math.max(Math.abs(min), Math.abs(max)) + 2.0d * maxError);
+        }
+
+        /**
+         * Returns the distance between adjacent quantized values of specified range and error.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range.
+         * @param maxError the maximum absolute error.
+         * @return {@code 2 * (maxError - margin)}.
+         */
+        static double step(final double min, final double max, final double maxError) {
+            return 2.0d * (maxError - margin(min, max, maxError));
+        }
+
+        /**
+         * Returns the largest quantized value of specified range and error.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range.
+         * @param maxError the maximum absolute error.
+         * @return the largest quantized value.
+         * @throws IllegalArgumentException if the range is invalid, the {@code maxError} is not greater than the margin
+         *                                  for rounding errors of the range, or the range requires more than
+         *                                  {@value #SIZE_MAX} bits.
+         */
+        static long levels(final double min, final double max, final double maxError) {
+            if (!Double.isFinite(min) || !Double.isFinite(max) || min > max) {
+                throw new IllegalArgumentException("invalid range; min: " + min + ", max: " + max);
+            }
+            if (!(maxError > 0.0d) || !Double.isFinite(maxError)) {
+                throw new IllegalArgumentException("invalid maxError: " + maxError);
+            }
+            final double margin = margin(min, max, maxError);
+            if (!(maxError > margin)) {
+                throw new IllegalArgumentException(
+                        "maxError(" + maxError + ") is not greater than the rounding error(" + margin + ") of range ["
+                        + min + ", " + max + "]");
+            }
+            // the largest quantized value needs only to be within (maxError - margin) from the max
+            final double levels = Math.ceil((max - min - maxError + margin) / step(min, max, maxError));
+            if (!(levels < (double) (1L << SIZE_MAX))) {
+                throw new IllegalArgumentException(
+                        "too many levels for range [" + min + ", " + max + "] with maxError(" + maxError + ")");
+            }
+            return Math.max((long) levels, 0L);
+        }
+
+        /**
+         * Returns the number of bits for quantized values of specified range and error.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range.
+         * @param maxError the maximum absolute error.
+         * @return the number of bits for quantized values.
+         * @see #levels(double, double, double)
+         */
+        static int size(final double min, final double max, final double maxError) {
+            return Math.max(Long.SIZE - Long.numberOfLeadingZeros(levels(min, max, maxError)), 1);
+        }
+
+        /**
+         * The maximum number of bits for quantized values. The value is {@value}.
+         */
+        static final int SIZE_MAX = 52;
+
+        /**
+         * Creates a new instance with specified range and maximum absolute error.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range; must not be less than the {@code min}.
+         * @param maxError the maximum absolute error; must be positive.
+         */
+        public Quantized(final double min, final double max, final double maxError) {
+            super();
+            this.levels = levels(min, max, maxError);
+            this.size = Math.max(Long.SIZE - Long.numberOfLeadingZeros(levels), 1);
+            this.min = min;
+            this.max = max;
+            this.step = step(min, max, maxError);
+        }
+
+        @Override
+        public void write(final BitOutput output, final Double value) throws IOException {
+            writeDouble(output, value);
+        }
+
+        /**
+         * Writes specified {@code double} value without boxing.
+         *
+         * @param output the output to which the value is written.
+         * @param value  the value to write; must be between the {@code min} and the {@code max}, both inclusive.
+         * @throws IOException if an I/O error occurs.
+         */
+        public void writeDouble(final BitOutput output, final double value) throws IOException {
+            Objects.requireNonNull(output, "output is null");
+            if (!(value >= min && value <= max)) {
+                throw new IllegalArgumentException("value(" + value + ") is out of range [" + min + ", " + max + "]");
+            }
+            output.writeLong(true, size, Math.min(Math.round((value - min) / step), levels));
+        }
+
+        /**
+         * Returns the number of bits for each value.
+         *
+         * @return the number of bits for each value.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        private final long levels;
+
+        private final int size;
+
+        private final double min;
+
+        private final double max;
+
+        private final double step;
+    }
+
     /**
      * Creates a new instance with specified size of the exponent part and the significand part, respectively.
      *
@@ -323,6 +323,133 @@ public class FloatReader
         private boolean significandOnly;
     }
 
+    /**
+     * A stateful reader for reading streams of {@code float} values written by XOR-ing each value with the previous
+     * one.
+     *
+     * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+     * @see FloatWriter.CompressedXor
+     * @see DoubleReader.CompressedXor
+     */
+    public static class CompressedXor
+            implements BitReader<Float> {
+
+        /**
+         * Creates a new instance.
+         */
+        public CompressedXor() {
+            super();
+        }
+
+        @Override
+        public Float read(final BitInput input) throws IOException {
+            return readFloat(input);
+        }
+
+        /**
+         * Reads a {@code float} value without boxing.
+         *
+         * @param input the input from which the value is read.
+         * @return the value read.
+         * @throws IOException if an I/O error occurs.
+         */
+        public float readFloat(final BitInput input) throws IOException {
+            Objects.requireNonNull(input, "input is null");
+            if (!started) {
+                previous = input.readInt(false, Integer.SIZE);
+                started = true;
+                return Float.intBitsToFloat(previous);
+            }
+            if (input.readInt(true, 1) == 0b0) {
+                return Float.intBitsToFloat(previous);
+            }
+            if (input.readInt(true, 1) == 0b0) {
+                if (leading < 0) {
+                    throw new IOException("no previous window");
+                }
+            } else {
+                leading = input.readInt(true, FloatWriter.CompressedXor.SIZE_LEADING);
+                int meaningful = input.readInt(true, FloatWriter.CompressedXor.SIZE_MEANINGFUL);
+                if (meaningful == 0) {
+                    meaningful = Integer.SIZE;
+                }
+                trailing = Integer.SIZE - leading - meaningful;
+                if (trailing < 0) {
+                    throw new IOException("invalid window; leading: " + leading + ", meaningful: " + meaningful);
+                }
+            }
+            final int size = Integer.SIZE - leading - trailing;
+            previous ^= input.readInt(size < Integer.SIZE, size) << trailing;
+            return Float.intBitsToFloat(previous);
+        }
+
+        /**
+         * Resets this reader so that the next value is read as is.
+         */
+        public void reset() {
+            started = false;
+            previous = 0;
+            leading = -1;
+            trailing = -1;
+        }
+
+        private boolean started;
+
+        private int previous;
+
+        private int leading = -1;
+
+        private int trailing = -1;
+    }
+
+    /**
+     * A reader for reading {@code float} values written quantized.
+     *
+     * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+     * @see FloatWriter.Quantized
+     * @see DoubleReader.Quantized
+     */
+    public static class Quantized
+            implements BitReader<Float> {
+
+        /**
+         * Creates a new instance with specified range and maximum absolute error.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range; must not be less than the {@code min}.
+         * @param maxError the maximum absolute error; must be positive.
+         */
+        public Quantized(final float min, final float max, final float maxError) {
+            super();
+            this.size = FloatWriter.Quantized.size(min, max, maxError);
+            this.min = min;
+            this.step = FloatWriter.Quantized.step(min, max, maxError);
+        }
+
+        @Override
+        public Float read(final BitInput input) throws IOException {
+            return readFloat(input);
+        }
+
+        /**
+         * Reads a {@code float} value without boxing.
+         *
+         * @param input the input from which the value is read.
+         * @return the value read.
+         * @throws IOException if an I/O error occurs.
+         */
+        public float readFloat(final BitInput input) throws IOException {
+            Objects.requireNonNull(input, "input is null");
+            return (float) (min + input.readLong(true, size) * step);
+        }
+
+        private final int size;
+
+        private final double min;
+
+        private final double step;
+    }
+
     /**
      * Creates a new instance with specified sizes of the exponent part and the significand part.
      *
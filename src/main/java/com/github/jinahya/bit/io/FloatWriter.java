@@ -333,6 +333,256 @@ public class FloatWriter
         private boolean significandOnly;
     }
 
+    /**
+     * A stateful writer for writing streams of {@code float} values by XOR-ing each value with the previous one, in
+     * the style of Gorilla. The first value after a {@link #reset() reset} is written as is. For each following value,
+     * <ul>
+     *   <li>{@code 0} is written when the value is identical to the previous one,</li>
+     *   <li>{@code 10} followed by the meaningful bits of the XOR is written when the XOR fits in the window of the
+     *   previous leading and trailing zeros,</li>
+     *   <li>{@code 11} followed by the number of leading zeros in {@value #SIZE_LEADING} bits, the number of
+     *   meaningful bits in {@value #SIZE_MEANINGFUL} bits, and the meaningful bits is written otherwise.</li>
+     * </ul>
+     *
+     * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+     * @see FloatReader.CompressedXor
+     * @see DoubleWriter.CompressedXor
+     * @see <a href="https://www.vldb.org/pvldb/vol8/p1816-teller.pdf">Gorilla: A Fast, Scalable, In-Memory Time
+     * Series Database</a>
+     */
+    public static class CompressedXor
+            implements BitWriter<Float> {
+
+        /**
+         * The number of bits for the number of leading zeros. The value is {@value}.
+         */
+        static final int SIZE_LEADING = 5;
+
+        /**
+         * The number of bits for the number of meaningful bits. The value is {@value}.
+         */
+        static final int SIZE_MEANINGFUL = 5;
+
+        /**
+         * Creates a new instance.
+         */
+        public CompressedXor() {
+            super();
+        }
+
+        @Override
+        public void write(final BitOutput output, final Float value) throws IOException {
+            writeFloat(output, value);
+        }
+
+        /**
+         * Writes specified {@code float} value without boxing.
+         *
+         * @param output the output to which the value is written.
+         * @param value  the value to write.
+         * @throws IOException if an I/O error occurs.
+         */
+        public void writeFloat(final BitOutput output, final float value) throws IOException {
+            Objects.requireNonNull(output, "output is null");
+            final int bits = Float.floatToRawIntBits(value);
+            if (!started) {
+                output.writeInt(false, Integer.SIZE, bits);
+                previous = bits;
+                started = true;
+                return;
+            }
+            final int xor = bits ^ previous;
+            previous = bits;
+            if (xor == 0) {
+                output.writeInt(true, 1, 0b0);
+                return;
+            }
+            final int lz = Math.min(Integer.numberOfLeadingZeros(xor), (1 << SIZE_LEADING) - 1);
+            final int tz = Integer.numberOfTrailingZeros(xor);
+            if (leading >= 0 && lz >= leading && tz >= trailing) {
+                output.writeInt(true, 2, 0b10);
+                write(output, Integer.SIZE - leading - trailing, xor >>> trailing);
+                return;
+            }
+            leading = lz;
+            trailing = tz;
+            final int meaningful = Integer.SIZE - lz - tz;
+            output.writeInt(true, 2, 0b11);
+            output.writeInt(true, SIZE_LEADING, lz);
+            output.writeInt(true, SIZE_MEANINGFUL, meaningful & (Integer.SIZE - 1));
+            write(output, meaningful, xor >>> tz);
+        }
+
+        private void write(final BitOutput output, final int size, final int bits) throws IOException {
+            output.writeInt(size < Integer.SIZE, size, bits);
+        }
+
+        /**
+         * Resets this writer so that the next value is written as is.
+         */
+        public void reset() {
+            started = false;
+            previous = 0;
+            leading = -1;
+            trailing = -1;
+        }
+
+        private boolean started;
+
+        private int previous;
+
+        private int leading = -1;
+
+        private int trailing = -1;
+    }
+
+    /**
+     * A writer for writing {@code float} values, in a declared range, quantized with a declared maximum absolute
+     * error. A value {@code v} is written as {@code q = round((v - min) / step)} in the minimum number of bits for the
+     * range, and is read back as {@code min + q * step}; where the {@code step} is {@code 2 * maxError} less a margin
+     * for rounding errors, so that a value read back never differs from the value written by more than the
+     * {@code maxError}.
+     *
+     * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+     * @see FloatReader.Quantized
+     * @see DoubleWriter.Quantized
+     */
+    public static class Quantized
+            implements BitWriter<Float> {
+
+        /**
+         * Returns the margin, of specified range and error, for rounding errors of quantizing and reading back.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range.
+         * @param maxError the maximum absolute error.
+         * @return the margin for rounding errors.
+         */
+        static double margin(final float min, final float max, final float maxError) {
+            // no intermediate value is greater, in magnitude, than max(|min|, |max|) + 2 * maxError
+            final double magnitude = Math.max(Math.abs((double) min), Math.abs((double) max)) + 2.0d * maxError;
+            return Math.ulp((float) magnitude) / 2.0d + 4.0d * Math.ulp(magnitude);
+        }
+
+        /**
+         * Returns the distance between adjacent quantized values of specified range and error.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range.
+         * @param maxError the maximum absolute error.
+         * @return {@code 2 * (maxError - margin)}.
+         */
+        static double step(final float min, final float max, final float maxError) {
+            return 2.0d * (maxError - margin(min, max, maxError));
+        }
+
+        /**
+         * Returns the largest quantized value of specified range and error.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range.
+         * @param maxError the maximum absolute error.
+         * @return the largest quantized value.
+         * @throws IllegalArgumentException if the range is invalid, the {@code maxError} is not greater than the margin
+         *                                  for rounding errors of the range, or the range requires more than
+         *                                  {@value #SIZE_MAX} bits.
+         */
+        static long levels(final float min, final float max, final float maxError) {
+            if (!Float.isFinite(min) || !Float.isFinite(max) || min > max) {
+                throw new IllegalArgumentException("invalid range; min: " + min + ", max: " + max);
+            }
+            if (!(maxError > 0.0f) || !Float.isFinite(maxError)) {
+                throw new IllegalArgumentException("invalid maxError: " + maxError);
+            }
+            final double margin = margin(min, max, maxError);
+            if (!(maxError > margin)) {
+                throw new IllegalArgumentException(
+                        "maxError(" + maxError + ") is not greater than the rounding error(" + margin + ") of range ["
+                        + min + ", " + max + "]");
+            }
+            // the largest quantized value needs only to be within (maxError - margin) from the max
+            final double levels = Math.ceil(((double) max - min - maxError + margin) / step(min, max, maxError));
+            if (!(levels < (double) (1L << SIZE_MAX))) {
+                throw new IllegalArgumentException(
+                        "too many levels for range [" + min + ", " + max + "] with maxError(" + maxError + ")");
+            }
+            return Math.max((long) levels, 0L);
+        }
+
+        /**
+         * Returns the number of bits for quantized values of specified range and error.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range.
+         * @param maxError the maximum absolute error.
+         * @return the number of bits for quantized values.
+         * @see #levels(float, float, float)
+         */
+        static int size(final float min, final float max, final float maxError) {
+            return Math.max(Long.SIZE - Long.numberOfLeadingZeros(levels(min, max, maxError)), 1);
+        }
+
+        /**
+         * The maximum number of bits for quantized values. The value is {@value}.
+         */
+        static final int SIZE_MAX = 24;
+
+        /**
+         * Creates a new instance with specified range and maximum absolute error.
+         *
+         * @param min      the minimum value of the range.
+         * @param max      the maximum value of the range; must not be less than the {@code min}.
+         * @param maxError the maximum absolute error; must be positive.
+         */
+        public Quantized(final float min, final float max, final float maxError) {
+            super();
+            this.levels = levels(min, max, maxError);
+            this.size = Math.max(Long.SIZE - Long.numberOfLeadingZeros(levels), 1);
+            this.min = min;
+            this.max = max;
+            this.step = step(min, max, maxError);
+        }
+
+        @Override
+        public void write(final BitOutput output, final Float value) throws IOException {
+            writeFloat(output, value);
+        }
+
+        /**
+         * Writes specified {@code float} value without boxing.
+         *
+         * @param output the output to which the value is written.
+         * @param value  the value to write; must be between the {@code min} and the {@code max}, both inclusive.
+         * @throws IOException if an I/O error occurs.
+         */
+        public void writeFloat(final BitOutput output, final float value) throws IOException {
+            Objects.requireNonNull(output, "output is null");
+            if (!(value >= min && value <= max)) {
+                throw new IllegalArgumentException("value(" + value + ") is out of range [" + min + ", " + max + "]");
+            }
+            output.writeLong(true, size, Math.min(Math.round(((double) value - min) / step), levels));
+        }
+
+        /**
+         * Returns the number of bits for each value.
+         *
+         * @return the number of bits for each value.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        private final long levels;
+
+        private final int size;
+
+        private final float min;
+
+        private final float max;
+
+        private final double step;
+    }
+
     /**
      * Creates a new instance with specified exponent size and significand size.
      *
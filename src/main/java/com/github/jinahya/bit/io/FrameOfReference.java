@@ -0,0 +1,351 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Encodes and decodes blocks of {@code long} values in Frame-of-Reference (FOR), optionally patched (PFOR).
+ * <p>
+ * A block is written as the minimum value, followed by each {@code value - minimum} in the minimum number of bits. In
+ * patched mode, the number of bits may be less than what the largest difference requires, and the upper bits of such
+ * differences, called exceptions, are written separately with their indices, so that a few outliers don't inflate the
+ * width of the whole block.
+ * <pre>
+ * block      = minSize(7) minimum(minSize) width(7) [slotSize(7) count(indexSize) exception*] slot*
+ * exception  = index(indexSize) upper(width - slotSize)
+ * slot       = lower(slotSize)
+ * </pre>
+ * where the {@code indexSize} is the number of bits required for the number of values in the block.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+final class FrameOfReference {
+
+    /**
+     * The number of bits for sizes in headers. The value is {@value}.
+     */
+    static final int SIZE_SIZE = 7;
+
+    /**
+     * Returns the number of bits required for specified unsigned value.
+     *
+     * @param value the value.
+     * @return the number of bits required for the {@code value}; between {@code 0} and {@value Long#SIZE}.
+     */
+    static int width(final long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    private static int indexSize(final int length) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(length);
+    }
+
+    private static int requireValidSize(final int size, final int max) throws IOException {
+        if (size > max) {
+            throw new IOException("size(" + size + ") is out of range");
+        }
+        return size;
+    }
+
+    private static void writeBits(final BitOutput output, final int size, final long value) throws IOException {
+        if (size == Long.SIZE) {
+            output.writeLong(false, Long.SIZE, value);
+        } else if (size > 0) {
+            output.writeLong(true, size, value);
+        }
+    }
+
+    private static long readBits(final BitInput input, final int size) throws IOException {
+        if (size == Long.SIZE) {
+            return input.readLong(false, Long.SIZE);
+        }
+        return size > 0 ? input.readLong(true, size) : 0L;
+    }
+
+    /**
+     * Returns the number of bits for the slots of a patched block, for which the total number of bits of slots and
+     * exceptions is minimal.
+     *
+     * @param len       the number of values in the block.
+     * @param width     the number of bits required for the largest difference.
+     * @param histogram the numbers of differences, indexed by the number of bits they require.
+     * @return the number of bits for the slots; between {@code 0} and {@code width}, both inclusive.
+     */
+    private static int slotSize(final int len, final int width, final int[] histogram) {
+        final int indexSize = indexSize(len);
+        long cost = (long) len * width;
+        int slotSize = width;
+        int count = 0;
+        for (int s = width - 1; s >= 0; s--) {
+            count += histogram[s + 1];
+            final long c = (long) len * s + (long) count * (indexSize + width - s);
+            if (c < cost) {
+                cost = c;
+                slotSize = s;
+            }
+        }
+        return slotSize;
+    }
+
+    private static int count(final int slotSize, final int width, final int[] histogram) {
+        int count = 0;
+        for (int w = slotSize + 1; w <= width; w++) {
+            count += histogram[w];
+        }
+        return count;
+    }
+
+    private static int minSize(final long minimum) {
+        return Math.min(width(minimum ^ (minimum >> (Long.SIZE - 1))) + 1, Long.SIZE);
+    }
+
+    /**
+     * Writes specified range of values as a block.
+     *
+     * @param output      the output to which the block is written.
+     * @param patched     a flag for the patched mode.
+     * @param src         the array of values.
+     * @param off         the index of the first value in the {@code src}.
+     * @param len         the number of values.
+     * @param differences an array for differences; must have room for {@code len} values.
+     * @param histogram   an array for the histogram of widths; must have room for {@value Long#SIZE} + 1 values.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void write(final BitOutput output, final boolean patched, final long[] src, final int off, final int len,
+                      final long[] differences, final int[] histogram)
+            throws IOException {
+        if (len == 0) {
+            return;
+        }
+        long minimum = src[off];
+        for (int i = off + 1, end = off + len; i < end; i++) {
+            minimum = Math.min(minimum, src[i]);
+        }
+        Arrays.fill(histogram, 0, Long.SIZE + 1, 0);
+        int width = 0;
+        for (int i = 0; i < len; i++) {
+            final int w = width(differences[i] = src[off + i] - minimum);
+            histogram[w]++;
+            width = Math.max(width, w);
+        }
+        final int minSize = minSize(minimum);
+        output.writeInt(true, SIZE_SIZE, minSize);
+        output.writeLong(false, minSize, minimum);
+        output.writeInt(true, SIZE_SIZE, width);
+        int slotSize = width;
+        if (patched) {
+            final int indexSize = indexSize(len);
+            slotSize = slotSize(len, width, histogram);
+            int count = count(slotSize, width, histogram);
+            output.writeInt(true, SIZE_SIZE, slotSize);
+            output.writeInt(true, indexSize, count);
+            for (int i = 0; count > 0; i++) {
+                if (width(differences[i]) > slotSize) {
+                    output.writeInt(true, indexSize, i);
+                    writeBits(output, width - slotSize, differences[i] >>> slotSize);
+                    differences[i] &= ~(-1L << slotSize);
+                    count--;
+                }
+            }
+        }
+        if (slotSize == 0 || slotSize == Long.SIZE) {
+            for (int i = 0; i < len && slotSize > 0; i++) {
+                writeBits(output, slotSize, differences[i]);
+            }
+            return;
+        }
+        output.writeLongs(true, slotSize, differences, 0, len);
+    }
+
+    /**
+     * Writes specified range of {@code int} values as a block. The block is the same as the one written by
+     * {@link #write(BitOutput, boolean, long[], int, int, long[], int[])} for the same values, while each difference,
+     * which fits in {@value Integer#SIZE} bits, is computed and written as an {@code int}.
+     *
+     * @param output      the output to which the block is written.
+     * @param patched     a flag for the patched mode.
+     * @param src         the array of values.
+     * @param off         the index of the first value in the {@code src}.
+     * @param len         the number of values.
+     * @param differences an array for differences; must have room for {@code len} values.
+     * @param histogram   an array for the histogram of widths; must have room for {@value Integer#SIZE} + 1 values.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void write(final BitOutput output, final boolean patched, final int[] src, final int off, final int len,
+                      final int[] differences, final int[] histogram)
+            throws IOException {
+        if (len == 0) {
+            return;
+        }
+        int minimum = src[off];
+        for (int i = off + 1, end = off + len; i < end; i++) {
+            minimum = Math.min(minimum, src[i]);
+        }
+        Arrays.fill(histogram, 0, Integer.SIZE + 1, 0);
+        int width = 0;
+        for (int i = 0; i < len; i++) {
+            final int w = Integer.SIZE - Integer.numberOfLeadingZeros(differences[i] = src[off + i] - minimum);
+            histogram[w]++;
+            width = Math.max(width, w);
+        }
+        final int minSize = minSize(minimum);
+        output.writeInt(true, SIZE_SIZE, minSize);
+        output.writeLong(false, minSize, minimum);
+        output.writeInt(true, SIZE_SIZE, width);
+        int slotSize = width;
+        if (patched) {
+            final int indexSize = indexSize(len);
+            slotSize = slotSize(len, width, histogram);
+            int count = count(slotSize, width, histogram);
+            output.writeInt(true, SIZE_SIZE, slotSize);
+            output.writeInt(true, indexSize, count);
+            for (int i = 0; count > 0; i++) {
+                if (Integer.SIZE - Integer.numberOfLeadingZeros(differences[i]) > slotSize) {
+                    output.writeInt(true, indexSize, i);
+                    writeBits(output, width - slotSize, (differences[i] & 0xFFFFFFFFL) >>> slotSize);
+                    differences[i] &= ~(-1 << slotSize);
+                    count--;
+                }
+            }
+        }
+        if (slotSize == 0) {
+            return;
+        }
+        if (slotSize == Integer.SIZE) {
+            output.writeInts(false, Integer.SIZE, differences, 0, len);
+            return;
+        }
+        output.writeInts(true, slotSize, differences, 0, len);
+    }
+
+    /**
+     * Reads a block of specified number of values into specified array.
+     *
+     * @param input   the input from which the block is read.
+     * @param patched a flag for the patched mode.
+     * @param dst     the array into which values are read.
+     * @param off     the index in the {@code dst} at which the first value is stored.
+     * @param len     the number of values in the block.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void read(final BitInput input, final boolean patched, final long[] dst, final int off, final int len)
+            throws IOException {
+        if (len == 0) {
+            return;
+        }
+        final long minimum = readMinimum(input);
+        final int width = requireValidSize(input.readInt(true, SIZE_SIZE), Long.SIZE);
+        int slotSize = width;
+        int[] indices = null;
+        long[] uppers = null;
+        if (patched) {
+            final int indexSize = indexSize(len);
+            slotSize = requireValidSize(input.readInt(true, SIZE_SIZE), width);
+            final int count = requireValidSize(input.readInt(true, indexSize), len);
+            indices = new int[count];
+            uppers = new long[count];
+            for (int i = 0; i < count; i++) {
+                indices[i] = requireValidSize(input.readInt(true, indexSize), len - 1);
+                uppers[i] = readBits(input, width - slotSize);
+            }
+        }
+        if (slotSize == 0 || slotSize == Long.SIZE) {
+            for (int i = off, end = off + len; i < end; i++) {
+                dst[i] = readBits(input, slotSize);
+            }
+        } else {
+            input.readLongs(true, slotSize, dst, off, len);
+        }
+        if (indices != null) {
+            for (int i = 0; i < indices.length; i++) {
+                dst[off + indices[i]] |= uppers[i] << slotSize;
+            }
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] += minimum;
+        }
+    }
+
+    /**
+     * Reads a block of specified number of {@code int} values into specified array.
+     *
+     * @param input   the input from which the block is read.
+     * @param patched a flag for the patched mode.
+     * @param dst     the array into which values are read.
+     * @param off     the index in the {@code dst} at which the first value is stored.
+     * @param len     the number of values in the block.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void read(final BitInput input, final boolean patched, final int[] dst, final int off, final int len)
+            throws IOException {
+        if (len == 0) {
+            return;
+        }
+        final long minimum = readMinimum(input);
+        if (minimum < Integer.MIN_VALUE || minimum > Integer.MAX_VALUE) {
+            throw new IOException("minimum(" + minimum + ") is out of range");
+        }
+        final int width = requireValidSize(input.readInt(true, SIZE_SIZE), Integer.SIZE);
+        int slotSize = width;
+        int[] indices = null;
+        int[] uppers = null;
+        if (patched) {
+            final int indexSize = indexSize(len);
+            slotSize = requireValidSize(input.readInt(true, SIZE_SIZE), width);
+            final int count = requireValidSize(input.readInt(true, indexSize), len);
+            indices = new int[count];
+            uppers = new int[count];
+            for (int i = 0; i < count; i++) {
+                indices[i] = requireValidSize(input.readInt(true, indexSize), len - 1);
+                uppers[i] = (int) readBits(input, width - slotSize);
+            }
+        }
+        if (slotSize == 0) {
+            Arrays.fill(dst, off, off + len, 0);
+        } else if (slotSize == Integer.SIZE) {
+            input.readInts(false, Integer.SIZE, dst, off, len);
+        } else {
+            input.readInts(true, slotSize, dst, off, len);
+        }
+        if (indices != null) {
+            for (int i = 0; i < indices.length; i++) {
+                dst[off + indices[i]] |= uppers[i] << slotSize;
+            }
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] += (int) minimum;
+        }
+    }
+
+    private static long readMinimum(final BitInput input) throws IOException {
+        final int minSize = requireValidSize(input.readInt(true, SIZE_SIZE), Long.SIZE);
+        if (minSize == 0) {
+            throw new IOException("size(" + minSize + ") is out of range");
+        }
+        return input.readLong(false, minSize);
+    }
+
+    private FrameOfReference() {
+        throw new AssertionError(BitIoConstants.MESSAGE_INSTANTIATION_IS_NOT_ALLOWED);
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A writer for writing arrays of {@code long} values in Frame-of-Reference (FOR). Each array is written as its minimum
+ * value followed by each {@code value - minimum} in the minimum number of bits. In patched (PFOR) mode, a few outliers
+ * are written separately as exceptions so that they don't inflate the number of bits for all values.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see FrameOfReferenceLongArrayReader
+ * @see LongArrayWriter
+ */
+public class FrameOfReferenceLongArrayWriter
+        implements BitWriter<long[]>,
+                   WritesCount<FrameOfReferenceLongArrayWriter> {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param patched {@code true} for the patched mode; {@code false} otherwise.
+     */
+    public FrameOfReferenceLongArrayWriter(final boolean patched) {
+        super();
+        this.patched = patched;
+    }
+
+    @Override
+    public void write(final BitOutput output, final long[] value) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        Objects.requireNonNull(value, "value is null");
+        write(output, value, 0, value.length);
+    }
+
+    /**
+     * Writes specified range of specified array as an array.
+     *
+     * @param output the output to which the array is written.
+     * @param src    the array whose elements are written.
+     * @param off    the index of the first element in the {@code src}.
+     * @param len    the number of elements to write.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the {@code src}.
+     * @throws IOException               if an I/O error occurs.
+     */
+    public void write(final BitOutput output, final long[] src, final int off, final int len) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        ByteIoUtils.requireValidRange(src, off, len);
+        countWriter.accept(output, len);
+        if (differences == null || differences.length < len) {
+            differences = new long[len];
+        }
+        FrameOfReference.write(output, patched, src, off, len, differences, histogram);
+    }
+
+    @Override
+    public void setCountWriter(final ObjIntConsumer<? super BitOutput> countWriter) {
+        this.countWriter = Objects.requireNonNull(countWriter, "countWriter is null");
+    }
+
+    private final boolean patched;
+
+    private ObjIntConsumer<? super BitOutput> countWriter = BitIoConstants.COUNT_WRITER;
+
+    /**
+     * An array for differences; lazily initialized and grown.
+     */
+    private long[] differences;
+
+    /**
+     * An array for the histogram of widths of differences.
+     */
+    private final int[] histogram = new int[Long.SIZE + 1];
+}
@@ -0,0 +1,160 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A reader reads objects, written by an {@link IndexedWriter}, from a seekable bit input.
+ * <p>
+ * An instance reads the trailer, at the end of the input, when it's created. Seeking to the {@code k}-th object
+ * moves the input to the nearest recorded offset, and then reads and discards fewer than {@code interval} objects.
+ *
+ * @param <T> object type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see IndexedWriter
+ */
+public class IndexedReader<T> {
+
+    /**
+     * The number of bits of the last two values of the trailer.
+     */
+    private static final int FOOTER_SIZE = Long.SIZE << 1;
+
+    /**
+     * Creates a new instance, and reads the trailer from the end of specified input. The input is left at the first
+     * object.
+     *
+     * @param input  the input from which objects are read; must end with the trailer.
+     * @param reader the reader for reading each object.
+     * @throws IOException if an I/O error occurs.
+     */
+    public IndexedReader(final SeekableBitInput input, final BitReader<? extends T> reader) throws IOException {
+        super();
+        this.input = Objects.requireNonNull(input, "input is null");
+        this.reader = Objects.requireNonNull(reader, "reader is null");
+        final long size = input.size();
+        if (size < FOOTER_SIZE) {
+            throw new EOFException("no trailer");
+        }
+        input.position(size - FOOTER_SIZE);
+        final long offset = input.readLong(false, Long.SIZE);
+        final long length = input.readLong(false, Long.SIZE);
+        start = size - length;
+        if (start < 0L || offset < 0L || offset > length - FOOTER_SIZE) {
+            throw new IOException("invalid trailer; offset: " + offset + ", length: " + length);
+        }
+        input.position(start + offset);
+        count = input.readLong(false, Long.SIZE);
+        interval = input.readInt(false, Integer.SIZE);
+        if (count < 0L || interval <= 0) {
+            throw new IOException("invalid trailer; count: " + count + ", interval: " + interval);
+        }
+        offsets = new long[(int) ((count + interval - 1) / interval)];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = input.readLong(false, Long.SIZE);
+        }
+        input.position(start);
+    }
+
+    /**
+     * Returns the total number of objects.
+     *
+     * @return the total number of objects.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Moves the input to the object at specified index.
+     *
+     * @param index the index of the object; between {@code 0} and {@link #count()}, both inclusive.
+     * @return this reader.
+     * @throws IOException if an I/O error occurs.
+     */
+    public IndexedReader<T> seek(final long index) throws IOException {
+        if (index < 0L || index > count) {
+            throw new IndexOutOfBoundsException("index(" + index + ") is out of bounds; count: " + count);
+        }
+        if (index < next || index - next >= interval) {
+            final int i = (int) Math.min(index / interval, offsets.length - 1L);
+            input.position(start + offsets[i]);
+            next = (long) i * interval;
+        }
+        while (next < index) {
+            input.readObject(reader);
+            next++;
+        }
+        return this;
+    }
+
+    /**
+     * Reads the next object.
+     *
+     * @return the object read.
+     * @throws IOException if an I/O error occurs.
+     */
+    public T read() throws IOException {
+        if (next == count) {
+            throw new EOFException("no more objects; count: " + count);
+        }
+        final T value = input.readObject(reader);
+        next++;
+        return value;
+    }
+
+    /**
+     * Moves the input to the object at specified index, and reads it.
+     *
+     * @param index the index of the object; between {@code 0} (inclusive) and {@link #count()} (exclusive).
+     * @return the object read.
+     * @throws IOException if an I/O error occurs.
+     */
+    public T read(final long index) throws IOException {
+        return seek(index).read();
+    }
+
+    private final SeekableBitInput input;
+
+    private final BitReader<? extends T> reader;
+
+    /**
+     * The position of the first object.
+     */
+    private final long start;
+
+    private final long count;
+
+    private final int interval;
+
+    /**
+     * The offsets of every {@link #interval}-th object.
+     */
+    private final long[] offsets;
+
+    /**
+     * The index of the next object to read.
+     */
+    private long next;
+}
@@ -0,0 +1,196 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A writer writes objects to a bit output while recording the bit offset of every {@code N}-th object, and writes
+ * those offsets as a trailer, which {@link IndexedReader} uses for seeking to an arbitrary object.
+ * <p>
+ * The trailer, which starts at a byte boundary, consists of
+ * <ol>
+ * <li>the number of objects, as a {@value java.lang.Long#SIZE}-bit value,</li>
+ * <li>the interval, as a {@value java.lang.Integer#SIZE}-bit value,</li>
+ * <li>the offset of every {@code interval}-th object, each as a {@value java.lang.Long#SIZE}-bit value,</li>
+ * <li>the offset of the trailer, as a {@value java.lang.Long#SIZE}-bit value, and</li>
+ * <li>the number of bits from the first object to the end of the trailer, as a {@value java.lang.Long#SIZE}-bit
+ * value.</li>
+ * </ol>
+ * All offsets are in bits, and relative to the position at which this writer has been created.
+ *
+ * @param <T> object type parameter
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see IndexedReader
+ */
+public class IndexedWriter<T> {
+
+    /**
+     * A bit output counts the number of bits written to another bit output.
+     */
+    private static final class CountingBitOutput
+            implements BitOutput {
+
+        private CountingBitOutput(final BitOutput output) {
+            super();
+            this.output = output;
+        }
+
+        @Override
+        public void writeInt(final boolean unsigned, final int size, final int value) throws IOException {
+            output.writeInt(unsigned, size, value);
+            count += size;
+        }
+
+        @Override
+        public void writeLong(final boolean unsigned, final int size, final long value) throws IOException {
+            output.writeLong(unsigned, size, value);
+            count += size;
+        }
+
+        @Override
+        public void writeBytes(final byte[] src, final int off, final int len) throws IOException {
+            output.writeBytes(src, off, len);
+            count += (long) len << 3;
+        }
+
+        @Override
+        public void writeBytes(final boolean unsigned, final int size, final byte[] src, final int off, final int len)
+                throws IOException {
+            output.writeBytes(unsigned, size, src, off, len);
+            count += (long) size * len;
+        }
+
+        @Override
+        public void writeInts(final boolean unsigned, final int size, final int[] src, final int off, final int len)
+                throws IOException {
+            output.writeInts(unsigned, size, src, off, len);
+            count += (long) size * len;
+        }
+
+        @Override
+        public void writeLongs(final boolean unsigned, final int size, final long[] src, final int off, final int len)
+                throws IOException {
+            output.writeLongs(unsigned, size, src, off, len);
+            count += (long) size * len;
+        }
+
+        @Override
+        public void skip(final int bits) throws IOException {
+            output.skip(bits);
+            count += bits;
+        }
+
+        @Override
+        public long align(final int bytes) throws IOException {
+            final long bits = output.align(bytes);
+            count += bits;
+            return bits;
+        }
+
+        @Override
+        public void reset() {
+            output.reset();
+        }
+
+        private final BitOutput output;
+
+        private long count;
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param output   the output to which objects are written.
+     * @param writer   the writer for writing each object.
+     * @param interval the interval of objects whose offsets are recorded; must be positive.
+     */
+    public IndexedWriter(final BitOutput output, final BitWriter<? super T> writer, final int interval) {
+        super();
+        this.output = new CountingBitOutput(Objects.requireNonNull(output, "output is null"));
+        this.writer = Objects.requireNonNull(writer, "writer is null");
+        this.interval = BitIoConstraints.requirePositive(interval);
+    }
+
+    /**
+     * Writes specified object.
+     *
+     * @param value the object to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void write(final T value) throws IOException {
+        if (count % interval == 0L) {
+            final int index = (int) (count / interval);
+            if (index == offsets.length) {
+                offsets = Arrays.copyOf(offsets, index << 1);
+            }
+            offsets[index] = output.count;
+        }
+        output.writeObject(writer, value);
+        count++;
+    }
+
+    /**
+     * Returns the number of objects written so far.
+     *
+     * @return the number of objects written so far.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Aligns the output and writes the trailer. The output is aligned to a single byte after the trailer. No object
+     * should be written after this method.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    public void writeIndex() throws IOException {
+        output.align(1);
+        final long offset = output.count;
+        output.writeLong(false, Long.SIZE, count);
+        output.writeInt(false, Integer.SIZE, interval);
+        for (int i = 0, n = (int) ((count + interval - 1) / interval); i < n; i++) {
+            output.writeLong(false, Long.SIZE, offsets[i]);
+        }
+        output.writeLong(false, Long.SIZE, offset);
+        output.writeLong(false, Long.SIZE, output.count + Long.SIZE);
+        output.align(1);
+    }
+
+    private final CountingBitOutput output;
+
+    private final BitWriter<? super T> writer;
+
+    private final int interval;
+
+    /**
+     * The number of objects written so far.
+     */
+    private long count;
+
+    /**
+     * The offsets of every {@link #interval}-th object.
+     */
+    private long[] offsets = new long[16];
+}
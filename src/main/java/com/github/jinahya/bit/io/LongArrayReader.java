@@ -0,0 +1,87 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * A reader for reading arrays of {@code long} values without boxing each element.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LongArrayWriter
+ */
+public class LongArrayReader
+        implements BitReader<long[]>,
+                   ReadsCount<LongArrayReader> {
+
+    /**
+     * Creates a new instance for reading arrays of {@code long} values of specified number of bits.
+     *
+     * @param unsigned    a flag for unsigned elements.
+     * @param elementSize the number of bits for each element.
+     */
+    public LongArrayReader(final boolean unsigned, final int elementSize) {
+        super();
+        this.unsigned = unsigned;
+        this.elementSize = BitIoConstraints.requireValidSizeForLong(unsigned, elementSize);
+    }
+
+    @Override
+    public long[] read(final BitInput input) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        final int length = countReader.applyAsInt(input);
+        final long[] value = new long[length];
+        input.readLongs(unsigned, elementSize, value, 0, length);
+        return value;
+    }
+
+    /**
+     * Reads an array into specified array starting at specified index.
+     *
+     * @param input the input from which the array is read.
+     * @param dst   the array into which elements are read.
+     * @param off   the index in the {@code dst} at which the first element is stored.
+     * @return the number of elements read.
+     * @throws IndexOutOfBoundsException if the {@code dst} has not enough room for elements; in which case the count
+     *                                   has already been read.
+     * @throws IOException               if an I/O error occurs.
+     */
+    public int read(final BitInput input, final long[] dst, final int off) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        Objects.requireNonNull(dst, "dst is null");
+        final int length = countReader.applyAsInt(input);
+        input.readLongs(unsigned, elementSize, dst, off, length);
+        return length;
+    }
+
+    @Override
+    public void setCountReader(final ToIntFunction<? super BitInput> countReader) {
+        this.countReader = Objects.requireNonNull(countReader, "countReader is null");
+    }
+
+    private final boolean unsigned;
+
+    private final int elementSize;
+
+    private ToIntFunction<? super BitInput> countReader = BitIoConstants.COUNT_READER;
+}
@@ -0,0 +1,83 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A writer for writing arrays of {@code long} values without boxing each element.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LongArrayReader
+ */
+public class LongArrayWriter
+        implements BitWriter<long[]>,
+                   WritesCount<LongArrayWriter> {
+
+    /**
+     * Creates a new instance for writing arrays of {@code long} values of specified number of bits.
+     *
+     * @param unsigned    a flag for unsigned elements.
+     * @param elementSize the number of bits for each element.
+     */
+    public LongArrayWriter(final boolean unsigned, final int elementSize) {
+        super();
+        this.unsigned = unsigned;
+        this.elementSize = BitIoConstraints.requireValidSizeForLong(unsigned, elementSize);
+    }
+
+    @Override
+    public void write(final BitOutput output, final long[] value) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        Objects.requireNonNull(value, "value is null");
+        write(output, value, 0, value.length);
+    }
+
+    /**
+     * Writes specified range of specified array as an array.
+     *
+     * @param output the output to which the array is written.
+     * @param src    the array whose elements are written.
+     * @param off    the index of the first element in the {@code src}.
+     * @param len    the number of elements to write.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the {@code src}.
+     * @throws IOException               if an I/O error occurs.
+     */
+    public void write(final BitOutput output, final long[] src, final int off, final int len) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        ByteIoUtils.requireValidRange(src, off, len);
+        countWriter.accept(output, len);
+        output.writeLongs(unsigned, elementSize, src, off, len);
+    }
+
+    @Override
+    public void setCountWriter(final ObjIntConsumer<? super BitOutput> countWriter) {
+        this.countWriter = Objects.requireNonNull(countWriter, "countWriter is null");
+    }
+
+    private final boolean unsigned;
+
+    private final int elementSize;
+
+    private ObjIntConsumer<? super BitOutput> countWriter = BitIoConstants.COUNT_WRITER;
+}
@@ -0,0 +1,169 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+/**
+ * An implementation of {@link BitInput} reads bits directly from a region of a file mapped into memory.
+ * <p>
+ * The region is mapped in windows of a fixed size, each of which is remapped as the cursor crosses its boundaries,
+ * hence regions larger than {@value java.lang.Integer#MAX_VALUE} bytes can be read. Values are taken out of
+ * {@value java.lang.Long#SIZE}-bit words read directly from the mapping.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see BitInputFactory#from(FileChannel, long, long)
+ * @see BitInputFactory#from(java.nio.file.Path)
+ */
+public class MappedBitInput
+        extends AbstractSeekableBitInput
+        implements Closeable {
+
+    /**
+     * The default size of windows. The value is {@value}.
+     */
+    public static final int WINDOW_SIZE_DEFAULT = 1 << 30;
+
+    /**
+     * Creates a new instance on top of specified region of specified channel with {@link #WINDOW_SIZE_DEFAULT}.
+     *
+     * @param channel  the channel whose region is mapped.
+     * @param position the position within the file at which the region starts; must be non-negative.
+     * @param length   the length of the region, in bytes; must be non-negative.
+     */
+    public MappedBitInput(final FileChannel channel, final long position, final long length) {
+        this(channel, position, length, WINDOW_SIZE_DEFAULT);
+    }
+
+    /**
+     * Creates a new instance on top of specified region of specified channel.
+     *
+     * @param channel  the channel whose region is mapped.
+     * @param position the position within the file at which the region starts; must be non-negative.
+     * @param length   the length of the region, in bytes; must be non-negative.
+     * @param window   the size of each window, in bytes; must be positive and less than or equal to
+     *                 ({@value java.lang.Integer#MAX_VALUE} - {@value java.lang.Long#BYTES} + 1).
+     */
+    public MappedBitInput(final FileChannel channel, final long position, final long length, final int window) {
+        super(length);
+        this.channel = Objects.requireNonNull(channel, "channel is null");
+        if (position < 0L) {
+            throw new IllegalArgumentException("position(" + position + ") is negative");
+        }
+        if (window <= 0 || window > Integer.MAX_VALUE - Long.BYTES + 1) {
+            throw new IllegalArgumentException("window(" + window + ") is not valid");
+        }
+        this.offset = position;
+        this.window = window;
+    }
+
+    /**
+     * Closes this input. This method closes the channel only when the channel is owned by this input.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @see BitInputFactory#from(java.nio.file.Path)
+     */
+    @Override
+    public void close() throws IOException {
+        mapped = null;
+        if (owner) {
+            channel.close();
+        }
+    }
+
+    @Override
+    protected long word(final long index) throws IOException {
+        map(index);
+        final int relative = (int) (index - start);
+        if (mapped.limit() - relative >= Long.BYTES) {
+            return mapped.getLong(relative);
+        }
+        long word = 0L; // near the end of the region
+        for (int i = 0; i < Long.BYTES; i++) {
+            word <<= Byte.SIZE;
+            if (relative + i < mapped.limit()) {
+                word |= mapped.get(relative + i) & 0xFFL;
+            }
+        }
+        return word;
+    }
+
+    @Override
+    protected void read(long index, final byte[] dst, int off, int len) throws IOException {
+        while (len > 0) {
+            map(index);
+            final int relative = (int) (index - start);
+            final int length = Math.min(len, Math.min(window, mapped.limit()) - relative);
+            mapped.position(relative);
+            mapped.get(dst, off, length);
+            index += length;
+            off += length;
+            len -= length;
+        }
+    }
+
+    /**
+     * Maps, if required, the window which contains the byte at specified index.
+     *
+     * @param index the index of the byte, relative to the start of the region.
+     * @throws IOException if an I/O error occurs.
+     */
+    private void map(final long index) throws IOException {
+        if (mapped != null && index >= start && index - start < window) {
+            return;
+        }
+        start = index - index % window;
+        final long size = Math.min((long) window + Long.BYTES - 1, length - start);
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, offset + start, size);
+    }
+
+    private final FileChannel channel;
+
+    /**
+     * The position within the file at which the region starts.
+     */
+    private final long offset;
+
+    /**
+     * The size of each window, in bytes.
+     */
+    private final int window;
+
+    /**
+     * A flag for closing the {@link #channel} on {@link #close()}.
+     */
+    boolean owner;
+
+    /**
+     * The current window; mapped with {@value java.lang.Long#BYTES} - 1 more bytes, if available, for reading words
+     * across its boundary.
+     */
+    private MappedByteBuffer mapped;
+
+    /**
+     * The index of the first byte of {@link #mapped}, relative to the start of the region.
+     */
+    private long start;
+}
@@ -0,0 +1,207 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+/**
+ * An implementation of {@link BitOutput} writes bits directly into a file mapped into memory.
+ * <p>
+ * The file is mapped, from a specific position, in consecutive chunks each of which, except the first one, is twice as
+ * large as the previous one up to {@value #CHUNK_SIZE_MAX} bytes. Bits are packed into a
+ * {@value java.lang.Long#SIZE}-bit buffer which is put, as a whole, into the mapping. Since mapping a region extends
+ * the file, the file is truncated, on {@link #close()}, to the exact number of bytes written after
+ * {@link #align(int) aligning} this output; yet never below the size it had when this output was created.
+ * <p>
+ * Instances of this class pad the same bits, and report the same results, from {@link #align(int)} as instances of
+ * {@link ByteOutputAdapter} do.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see MappedBitInput
+ * @see BitOutputFactory#from(FileChannel, long)
+ * @see BitOutputFactory#from(java.nio.file.Path)
+ */
+public class MappedBitOutput
+        extends AbstractBitOutput64
+        implements Closeable {
+
+    /**
+     * The default size of the first chunk. The value is {@value}.
+     */
+    public static final int CHUNK_SIZE_DEFAULT = 1 << 20;
+
+    /**
+     * The maximum size of chunks. The value is {@value}.
+     */
+    public static final int CHUNK_SIZE_MAX = 1 << 30;
+
+    /**
+     * Creates a new instance on top of specified channel with {@link #CHUNK_SIZE_DEFAULT}.
+     *
+     * @param channel  the channel to map; must be opened for both reading and writing.
+     * @param position the position within the file from which bytes are written; must be non-negative.
+     * @throws IOException if an I/O error occurs.
+     */
+    public MappedBitOutput(final FileChannel channel, final long position) throws IOException {
+        this(channel, position, CHUNK_SIZE_DEFAULT);
+    }
+
+    /**
+     * Creates a new instance on top of specified channel.
+     *
+     * @param channel  the channel to map; must be opened for both reading and writing.
+     * @param position the position within the file from which bytes are written; must be non-negative.
+     * @param chunk    the size of the first chunk, in bytes; between {@code 1} and {@value #CHUNK_SIZE_MAX}, both
+     *                 inclusive.
+     * @throws IOException if an I/O error occurs.
+     */
+    public MappedBitOutput(final FileChannel channel, final long position, final int chunk) throws IOException {
+        super();
+        this.channel = Objects.requireNonNull(channel, "channel is null");
+        if (position < 0L) {
+            throw new IllegalArgumentException("position(" + position + ") is negative");
+        }
+        if (chunk <= 0 || chunk > CHUNK_SIZE_MAX) {
+            throw new IllegalArgumentException("chunk(" + chunk + ") is not valid");
+        }
+        this.position = position;
+        this.chunk = chunk;
+        size = channel.size();
+    }
+
+    /**
+     * Closes this output. This method {@link #align(int) aligns} this output to a single byte, truncates the file to
+     * the greater of the {@link #end()} and the size the file had when this output was created, and, only when the
+     * channel is owned by this output, closes the channel. Closing an already closed output has no effect.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @see BitOutputFactory#from(java.nio.file.Path)
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            align(1);
+            mapped = null;
+            channel.truncate(Math.max(size, end()));
+        } finally {
+            if (owner) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Returns the position within the file right after the last byte put into the mapping. Those bits still in the
+     * buffer are not counted until this output is {@link #align(int) aligned}.
+     *
+     * @return the position right after the last byte put into the mapping.
+     */
+    public long end() {
+        return position + written;
+    }
+
+    @Override
+    void flush(final long word) throws IOException {
+        map();
+        if (mapped.remaining() >= Long.BYTES) {
+            mapped.putLong(word);
+            written += Long.BYTES;
+            return;
+        }
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) { // across chunks
+            map();
+            mapped.put((byte) (word >>> shift));
+            written++;
+        }
+    }
+
+    @Override
+    void flush(final byte[] src, int off, int len) throws IOException {
+        while (len > 0) {
+            map();
+            final int length = Math.min(len, mapped.remaining());
+            mapped.put(src, off, length);
+            written += length;
+            off += length;
+            len -= length;
+        }
+    }
+
+    /**
+     * Maps, if the current chunk has no remaining, the next chunk.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    private void map() throws IOException {
+        if (mapped != null && mapped.hasRemaining()) {
+            return;
+        }
+        if (mapped != null) {
+            chunk = (int) Math.min((long) chunk << 1, CHUNK_SIZE_MAX);
+        }
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, position + written, chunk);
+    }
+
+    private final FileChannel channel;
+
+    /**
+     * The position within the file from which bytes are written.
+     */
+    private final long position;
+
+    /**
+     * The size of the file when this output was created.
+     */
+    private final long size;
+
+    /**
+     * The size of the current chunk.
+     */
+    private int chunk;
+
+    /**
+     * A flag for closing the {@link #channel} on {@link #close()}.
+     */
+    boolean owner;
+
+    /**
+     * A flag indicating whether this output has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * The current chunk.
+     */
+    private MappedByteBuffer mapped;
+
+    /**
+     * The number of bytes written into the mapping so far.
+     */
+    private long written;
+}
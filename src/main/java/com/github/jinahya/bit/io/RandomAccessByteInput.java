@@ -55,4 +55,22 @@ class RandomAccessByteInput
     public int read() throws IOException {
         return source.readUnsignedByte();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implSpec The {@code read(byte[], int, int)} method of {@code RandomAccessByteInput} class invokes
+     * {@link RandomAccessFile#readFully(byte[], int, int) readFully(byte[], int, int)} method on the {@link #source}
+     * with given arguments.
+     * @see RandomAccessFile#readFully(byte[], int, int)
+     */
+    @Override
+    public void read(final byte[] dst, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        source.readFully(dst, off, len);
+    }
 }
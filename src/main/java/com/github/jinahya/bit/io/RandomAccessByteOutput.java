@@ -54,4 +54,22 @@ class RandomAccessByteOutput
     public void write(final int value) throws IOException {
         target.write(value);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param src {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implSpec The {@code write(byte[], int, int)} method of {@code RandomAccessByteOutput} class invokes
+     * {@link RandomAccessFile#write(byte[], int, int) write(byte[], int, int)} method on the {@link #target} with
+     * given arguments.
+     * @see RandomAccessFile#write(byte[], int, int)
+     */
+    @Override
+    public void write(final byte[] src, final int off, final int len) throws IOException {
+        ByteIoUtils.requireValidRange(src, off, len);
+        target.write(src, off, len);
+    }
 }
@@ -0,0 +1,81 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+/**
+ * An interface for bit inputs whose cursor can be moved to an arbitrary bit.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractSeekableBitInput
+ */
+public interface SeekableBitInput
+        extends BitInput {
+
+    /**
+     * Returns next specified number of bits, as an unsigned {@code int} value, without consuming them. Those bits
+     * beyond the end of this input are returned as zeros.
+     *
+     * @param size the number of bits to look ahead; between {@code 1} and ({@value java.lang.Integer#SIZE} - 1),
+     *             both inclusive.
+     * @return an unsigned {@code int} value of next {@code size} bits.
+     * @throws IOException if an I/O error occurs.
+     * @implSpec The default implementation reads, at most, {@code size} bits remaining, and moves the cursor back to
+     * where it was.
+     */
+    default int peekInt(final int size) throws IOException {
+        BitIoConstraints.requireValidSizeForInt(true, size);
+        final long position = position();
+        final int remaining = (int) Math.min(size, size() - position);
+        if (remaining <= 0) {
+            return 0;
+        }
+        final int value = readInt(true, remaining) << (size - remaining);
+        position(position);
+        return value;
+    }
+
+    /**
+     * Returns the total number of bits of this input.
+     *
+     * @return the total number of bits of this input.
+     */
+    long size();
+
+    /**
+     * Returns the current position of this input.
+     *
+     * @return the number of bits from the start of this input to the next bit to read.
+     */
+    long position();
+
+    /**
+     * Moves the cursor of this input to specified position. Note that this method doesn't {@link #reset()} this
+     * input.
+     *
+     * @param position the new position, in bits; between {@code 0} and {@link #size()}, both inclusive.
+     * @return this input.
+     * @throws IllegalArgumentException if {@code position} is negative or greater than {@link #size()}.
+     * @throws IOException              if an I/O error occurs.
+     */
+    SeekableBitInput position(long position) throws IOException;
+}
@@ -61,4 +61,27 @@ public class StreamByteInput
         }
         return value;
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param dst {@inheritDoc}
+     * @param off {@inheritDoc}
+     * @param len {@inheritDoc}
+     * @throws EOFException when the {@link #source source stream}'s {@link InputStream#read(byte[], int, int)} method
+     *                      returns {@code -1} before {@code len} bytes are read.
+     * @throws IOException  {@inheritDoc}
+     * @implSpec The {@code read(byte[], int, int)} method of {@code StreamByteInput} class invokes
+     * {@link InputStream#read(byte[], int, int) read(byte[], int, int)} method on the {@link #source} until
+     * {@code len} bytes are read.
+     */
+    @Override
+    public void read(final byte[] dst, int off, int len) throws IOException {
+        ByteIoUtils.requireValidRange(dst, off, len);
+        for (int r; len > 0; off += r, len -= r) {
+            if ((r = source.read(dst, off, len)) == -1) {
+                throw new EOFException("reached to an end");
+            }
+        }
+    }
 }
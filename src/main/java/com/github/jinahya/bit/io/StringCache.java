@@ -0,0 +1,212 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+
+/**
+ * A bounded cache of strings keyed by their encoded bytes. Entries are evicted with the <em>clock</em>
+ * (second-chance) algorithm. A lookup neither copies the key nor allocates.
+ * <p>
+ * Instances of this class are not safe for concurrent use.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see StringReader#setCacheCapacity(int)
+ */
+final class StringCache {
+
+    /**
+     * The maximum number of buckets. The value is {@value}, the largest power of two which is a valid array length.
+     */
+    static final int BUCKETS_MAX = 1 << 30;
+
+    /**
+     * Returns the number of buckets for specified capacity; a power of two, between two and four times of the
+     * capacity, not greater than {@link #BUCKETS_MAX}.
+     *
+     * @param capacity the capacity; must be positive.
+     * @return the number of buckets for the {@code capacity}.
+     */
+    static int buckets(final int capacity) {
+        return Math.min(Integer.highestOneBit(Math.max(capacity - 1, 1)), BUCKETS_MAX >> 2) << 2;
+    }
+
+    /**
+     * Creates a new instance with specified capacity.
+     *
+     * @param capacity the maximum number of entries; must be positive.
+     */
+    StringCache(final int capacity) {
+        super();
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") is not positive");
+        }
+        keys = new byte[capacity][];
+        values = new String[capacity];
+        hashes = new int[capacity];
+        referenced = new boolean[capacity];
+        next = new int[capacity];
+        heads = new int[buckets(capacity)];
+        Arrays.fill(heads, -1);
+    }
+
+    /**
+     * Computes the hash of specified range of bytes.
+     *
+     * @param bytes  the array of bytes.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return the hash of the range.
+     */
+    static int hash(final byte[] bytes, final int offset, final int length) {
+        int hash = 1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the string mapped to specified range of bytes.
+     *
+     * @param hash   the hash of the range.
+     * @param bytes  the array of bytes.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @return the string mapped to the range; {@code null} if none mapped.
+     * @see #hash(byte[], int, int)
+     */
+    String get(final int hash, final byte[] bytes, final int offset, final int length) {
+        for (int slot = heads[hash & (heads.length - 1)]; slot != -1; slot = next[slot]) {
+            final byte[] key = keys[slot];
+            if (hashes[slot] == hash && key.length == length && equals(key, bytes, offset)) {
+                referenced[slot] = true;
+                hits++;
+                return values[slot];
+            }
+        }
+        misses++;
+        return null;
+    }
+
+    /**
+     * Maps specified string to a copy of specified range of bytes, evicting an entry if this cache is full.
+     *
+     * @param hash   the hash of the range.
+     * @param bytes  the array of bytes.
+     * @param offset the offset of the range.
+     * @param length the length of the range.
+     * @param value  the string to map.
+     * @see #hash(byte[], int, int)
+     */
+    void put(final int hash, final byte[] bytes, final int offset, final int length, final String value) {
+        final int slot;
+        if (size < keys.length) {
+            slot = size++;
+        } else {
+            while (referenced[hand]) {
+                referenced[hand] = false;
+                hand = (hand + 1) % keys.length;
+            }
+            slot = hand;
+            hand = (hand + 1) % keys.length;
+            unlink(slot);
+        }
+        keys[slot] = Arrays.copyOfRange(bytes, offset, offset + length);
+        values[slot] = value;
+        hashes[slot] = hash;
+        referenced[slot] = false;
+        final int bucket = hash & (heads.length - 1);
+        next[slot] = heads[bucket];
+        heads[bucket] = slot;
+    }
+
+    private void unlink(final int slot) {
+        final int bucket = hashes[slot] & (heads.length - 1);
+        if (heads[bucket] == slot) {
+            heads[bucket] = next[slot];
+            return;
+        }
+        for (int s = heads[bucket]; s != -1; s = next[s]) {
+            if (next[s] == slot) {
+                next[s] = next[slot];
+                return;
+            }
+        }
+        assert false : "slot(" + slot + ") is not linked";
+    }
+
+    private static boolean equals(final byte[] key, final byte[] bytes, final int offset) {
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of lookups which found a string.
+     *
+     * @return the number of hits.
+     */
+    long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups which found no string.
+     *
+     * @return the number of misses.
+     */
+    long getMissCount() {
+        return misses;
+    }
+
+    private final byte[][] keys;
+
+    private final String[] values;
+
+    private final int[] hashes;
+
+    private final boolean[] referenced;
+
+    /**
+     * Next slots in the same bucket; {@code -1} for none.
+     */
+    private final int[] next;
+
+    /**
+     * First slots of buckets; {@code -1} for none.
+     */
+    private final int[] heads;
+
+    private int size;
+
+    /**
+     * The clock hand.
+     */
+    private int hand;
+
+    private long hits;
+
+    private long misses;
+}
@@ -20,7 +20,14 @@ package com.github.jinahya.bit.io;
  * #L%
  */
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.function.ToIntFunction;
@@ -35,6 +42,11 @@ public class StringReader
         extends FilterBitReader<String, byte[]>
         implements ReadsCount<StringReader> {
 
+    /**
+     * The initial capacity of internal buffers for read-into methods. The value is {@value}.
+     */
+    private static final int BUFFER_CAPACITY_INITIAL = 128;
+
     /**
      * Creates a new instance for reading {@link StandardCharsets#US_ASCII} decoded strings in a compressed-manner.
      *
@@ -59,6 +71,18 @@ public class StringReader
         return new StringReader(delegate, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Creates a new instance for reading {@link StandardCharsets#UTF_8}-encoded strings in a compressed-manner with a
+     * fast path for pure ASCII strings.
+     *
+     * @return a new instance.
+     * @see ByteArrayReader#compressedUtf8Adaptive()
+     */
+    public static StringReader compressedUtf8Adaptive() {
+        final ByteArrayReader delegate = ByteArrayReader.compressedUtf8Adaptive();
+        return new StringReader(delegate, StandardCharsets.UTF_8);
+    }
+
     /**
      * Creates a new instance with specified arguments.
      *
@@ -70,15 +94,201 @@ public class StringReader
         this.charset = Objects.requireNonNull(charset, "charset is null");
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param input {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     * @implNote When a cache is configured, this method reads encoded bytes into an internal buffer and returns the
+     * cached instance, if any, without decoding; in which case this method is not safe for concurrent use.
+     * @see #setCacheCapacity(int)
+     */
+    @Override
+    public String read(final BitInput input) throws IOException {
+        if (cache == null) {
+            return super.read(input);
+        }
+        Objects.requireNonNull(input, "input is null");
+        final ByteBuffer encoded = encoded(input);
+        final byte[] array = encoded.array();
+        final int offset = encoded.arrayOffset();
+        final int length = encoded.remaining();
+        final int hash = StringCache.hash(array, offset, length);
+        String value = cache.get(hash, array, offset, length);
+        if (value == null) {
+            value = new String(array, offset, length, charset);
+            cache.put(hash, array, offset, length, value);
+        }
+        return value;
+    }
+
     @Override
     protected String filter(final byte[] value) {
         return new String(value, charset);
     }
 
+    /**
+     * Reads a string and appends its characters to specified string builder.
+     *
+     * @param input the input from which the string is read.
+     * @param dst   the string builder to which characters are appended.
+     * @return the number of characters appended.
+     * @throws IOException if an I/O error occurs.
+     * @implNote This method reuses internal buffers and a decoder; hence, unlike {@link #read(BitInput)} method, is not
+     * safe for concurrent use.
+     */
+    public int read(final BitInput input, final StringBuilder dst) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        Objects.requireNonNull(dst, "dst is null");
+        final CharBuffer decoded = decode(input);
+        final int length = decoded.remaining();
+        dst.append(decoded.array(), decoded.arrayOffset() + decoded.position(), length);
+        return length;
+    }
+
+    /**
+     * Reads a string and puts its characters to specified char buffer.
+     *
+     * @param input the input from which the string is read.
+     * @param dst   the char buffer to which characters are put.
+     * @return the number of characters put.
+     * @throws java.nio.BufferOverflowException if the {@code dst} has not enough room for characters.
+     * @throws IOException                      if an I/O error occurs.
+     * @implNote This method reuses internal buffers and a decoder; hence, unlike {@link #read(BitInput)} method, is not
+     * safe for concurrent use.
+     */
+    public int read(final BitInput input, final CharBuffer dst) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        Objects.requireNonNull(dst, "dst is null");
+        final CharBuffer decoded = decode(input);
+        final int length = decoded.remaining();
+        dst.put(decoded);
+        return length;
+    }
+
+    /**
+     * Reads encoded bytes and decodes them into the internal char buffer.
+     *
+     * @param input the input from which encoded bytes are read.
+     * @return the internal char buffer, flipped, containing decoded characters.
+     * @throws IOException if an I/O error occurs.
+     */
+    private CharBuffer decode(final BitInput input) throws IOException {
+        final ByteBuffer bytes = encoded(input);
+        if (decoder == null) {
+            decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        final int capacity = (int) Math.ceil(bytes.remaining() * (double) decoder.maxCharsPerByte());
+        if (chars == null || chars.capacity() < capacity) {
+            chars = CharBuffer.allocate(Math.max(capacity, BUFFER_CAPACITY_INITIAL));
+        }
+        chars.clear();
+        decoder.reset();
+        CoderResult result = decoder.decode(bytes, chars, true);
+        if (!result.isError()) {
+            result = decoder.flush(chars);
+        }
+        if (result.isError() || result.isOverflow()) {
+            try {
+                result.throwException();
+            } catch (final CharacterCodingException cce) {
+                throw new IOException("failed to decode", cce);
+            }
+        }
+        chars.flip();
+        return chars;
+    }
+
+    /**
+     * Reads encoded bytes into the internal byte buffer.
+     *
+     * @param input the input from which encoded bytes are read.
+     * @return the internal byte buffer, flipped, containing encoded bytes.
+     * @throws IOException if an I/O error occurs.
+     */
+    private ByteBuffer encoded(final BitInput input) throws IOException {
+        if (bytes == null) {
+            bytes = ByteBuffer.allocate(BUFFER_CAPACITY_INITIAL);
+        }
+        bytes.clear();
+        bytes = ((ByteArrayReader) delegate).read(input, bytes);
+        bytes.flip();
+        return bytes;
+    }
+
+    /**
+     * Configures this reader to cache, at most, specified number of strings keyed by their encoded bytes. A cache hit
+     * returns the cached instance without decoding.
+     *
+     * @param cacheCapacity the maximum number of strings to cache; {@code 0} for no cache.
+     * @throws IllegalArgumentException if {@code cacheCapacity} is negative.
+     * @see #getCacheHitCount()
+     * @see #getCacheMissCount()
+     */
+    public void setCacheCapacity(final int cacheCapacity) {
+        if (cacheCapacity < 0) {
+            throw new IllegalArgumentException("cacheCapacity(" + cacheCapacity + ") is negative");
+        }
+        cache = cacheCapacity == 0 ? null : new StringCache(cacheCapacity);
+    }
+
+    /**
+     * Configures this reader to cache, at most, specified number of strings, and returns this reader.
+     *
+     * @param cacheCapacity the maximum number of strings to cache; {@code 0} for no cache.
+     * @return this reader.
+     * @see #setCacheCapacity(int)
+     */
+    public StringReader cacheCapacity(final int cacheCapacity) {
+        setCacheCapacity(cacheCapacity);
+        return this;
+    }
+
+    /**
+     * Returns the number of reads which found a cached string.
+     *
+     * @return the number of cache hits; {@code 0} if no cache is configured.
+     */
+    public long getCacheHitCount() {
+        return cache == null ? 0L : cache.getHitCount();
+    }
+
+    /**
+     * Returns the number of reads which found no cached string.
+     *
+     * @return the number of cache misses; {@code 0} if no cache is configured.
+     */
+    public long getCacheMissCount() {
+        return cache == null ? 0L : cache.getMissCount();
+    }
+
     @Override
     public void setCountReader(final ToIntFunction<? super BitInput> countReader) {
         ((ReadsCount<?>) delegate).setCountReader(countReader);
     }
 
     private final Charset charset;
+
+    /**
+     * A buffer for encoded bytes; lazily initialized and grows as needed.
+     */
+    private ByteBuffer bytes;
+
+    /**
+     * A buffer for decoded characters; lazily initialized and grows as needed.
+     */
+    private CharBuffer chars;
+
+    /**
+     * A decoder for the {@link #charset}; lazily initialized.
+     */
+    private CharsetDecoder decoder;
+
+    /**
+     * A cache of strings; {@code null} for no cache.
+     */
+    private StringCache cache;
 }
@@ -57,6 +57,18 @@ public class StringWriter
         return new StringWriter(delegate, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Creates a new instance for writing {@link StandardCharsets#UTF_8}-encoded strings in a compressed-manner with a
+     * fast path for pure ASCII strings.
+     *
+     * @return a new instance.
+     * @see ByteArrayWriter#compressedUtf8Adaptive()
+     */
+    public static StringWriter compressedUtf8Adaptive() {
+        final ByteArrayWriter delegate = ByteArrayWriter.compressedUtf8Adaptive();
+        return new StringWriter(delegate, StandardCharsets.UTF_8);
+    }
+
     /**
      * Creates a new instance with specified arguments.
      *
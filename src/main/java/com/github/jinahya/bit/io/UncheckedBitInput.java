@@ -0,0 +1,44 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+/**
+ * A bit input which can read values without checking arguments. The default bulk methods of {@link BitInput}, which
+ * check their arguments only once, read each value with this interface when the input implements it.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see UncheckedBitOutput
+ */
+interface UncheckedBitInput
+        extends BitInput {
+
+    /**
+     * Reads a value of specified number of bits without checking arguments.
+     *
+     * @param unsigned a flag for indicating an unsigned value.
+     * @param size     the number of bits to read; must be valid for a {@code long} value of the {@code unsigned}.
+     * @return a value read; sign-extended unless the {@code unsigned} is {@code true}.
+     * @throws IOException if an I/O error occurs.
+     */
+    long readUnchecked(boolean unsigned, int size) throws IOException;
+}
@@ -0,0 +1,44 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+
+/**
+ * A bit output which can write values without checking arguments. The default bulk methods of {@link BitOutput}, which
+ * check their arguments only once, write each value with this interface when the output implements it.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see UncheckedBitInput
+ */
+interface UncheckedBitOutput
+        extends BitOutput {
+
+    /**
+     * Writes lower specified number of bits of specified value without checking arguments. Both signed and unsigned
+     * values, which are valid for the {@code size}, are written as their lower {@code size} bits.
+     *
+     * @param size  the number of bits to write; between {@code 1} and {@value java.lang.Long#SIZE}, both inclusive.
+     * @param value the value whose lower {@code size} bits are written.
+     * @throws IOException if an I/O error occurs.
+     */
+    void writeUnchecked(int size, long value) throws IOException;
+}
@@ -0,0 +1,78 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitInput;
+import com.github.jinahya.bit.io.LongReader;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A stateful reader for reading streams of values written in delta-of-delta encoding.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see DeltaOfDeltaWriter
+ */
+public class DeltaOfDeltaReader
+        implements LongReader {
+
+    /**
+     * Creates a new instance.
+     */
+    public DeltaOfDeltaReader() {
+        super();
+    }
+
+    @Override
+    public long readLong(final BitInput input) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        if (!started) {
+            previous = input.readLong(false, Long.SIZE);
+            delta = 0L;
+            started = true;
+            return previous;
+        }
+        int control = 0;
+        while (control < DeltaOfDeltaWriter.SIZES.length - 1 && input.readInt(true, 1) == 1) {
+            control++;
+        }
+        if (control > 0) {
+            delta += input.readLong(false, DeltaOfDeltaWriter.SIZES[control]);
+        }
+        return previous += delta;
+    }
+
+    /**
+     * Resets this reader so that the next value is read as is.
+     */
+    public void reset() {
+        started = false;
+        previous = 0L;
+        delta = 0L;
+    }
+
+    private boolean started;
+
+    private long previous;
+
+    private long delta;
+}
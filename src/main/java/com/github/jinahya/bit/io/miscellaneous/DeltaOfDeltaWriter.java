@@ -0,0 +1,109 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitOutput;
+import com.github.jinahya.bit.io.LongWriter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A stateful writer for writing streams of values, such as timestamps, in delta-of-delta encoding. The first value
+ * after a {@link #reset() reset} is written as is, and each following value is written as the difference of its delta
+ * from the previous delta, prefixed with control bits of its range.
+ * <table>
+ *   <caption>Control bits</caption>
+ *   <tr><th>control bits</th><th>delta-of-delta</th><th>bits</th></tr>
+ *   <tr><td>{@code 0}</td><td>{@code 0}</td><td>{@code 0}</td></tr>
+ *   <tr><td>{@code 10}</td><td>{@code [-64, 63]}</td><td>{@code 7}</td></tr>
+ *   <tr><td>{@code 110}</td><td>{@code [-256, 255]}</td><td>{@code 9}</td></tr>
+ *   <tr><td>{@code 1110}</td><td>{@code [-2048, 2047]}</td><td>{@code 12}</td></tr>
+ *   <tr><td>{@code 1111}</td><td>otherwise</td><td>{@code 64}</td></tr>
+ * </table>
+ * Values written by an instance of this class should be read by an instance of {@link DeltaOfDeltaReader} which is
+ * reset at the same positions.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see DeltaOfDeltaReader
+ * @see <a href="https://www.vldb.org/pvldb/vol8/p1816-teller.pdf">Gorilla: A Fast, Scalable, In-Memory Time Series
+ * Database</a>
+ */
+public class DeltaOfDeltaWriter
+        implements LongWriter {
+
+    /**
+     * The numbers of bits of delta-of-delta for each control bits.
+     */
+    static final int[] SIZES = {0, 7, 9, 12, Long.SIZE};
+
+    /**
+     * Creates a new instance.
+     */
+    public DeltaOfDeltaWriter() {
+        super();
+    }
+
+    @Override
+    public void writeLong(final BitOutput output, final long value) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        if (!started) {
+            output.writeLong(false, Long.SIZE, value);
+            previous = value;
+            delta = 0L;
+            started = true;
+            return;
+        }
+        final long d = value - previous;
+        final long dod = d - delta;
+        previous = value;
+        delta = d;
+        if (dod == 0L) {
+            output.writeInt(true, 1, 0);
+            return;
+        }
+        for (int i = 1; i < SIZES.length - 1; i++) {
+            final long half = 1L << (SIZES[i] - 1);
+            if (dod >= -half && dod < half) {
+                output.writeInt(true, i + 1, ~1); // i ones followed by a zero
+                output.writeLong(false, SIZES[i], dod);
+                return;
+            }
+        }
+        output.writeInt(true, SIZES.length - 1, -1);
+        output.writeLong(false, Long.SIZE, dod);
+    }
+
+    /**
+     * Resets this writer so that the next value is written as is.
+     */
+    public void reset() {
+        started = false;
+        previous = 0L;
+        delta = 0L;
+    }
+
+    private boolean started;
+
+    private long previous;
+
+    private long delta;
+}
@@ -0,0 +1,75 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitInput;
+import com.github.jinahya.bit.io.LongReader;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A reader for reading values written in Elias delta code.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see EliasDeltaWriter
+ */
+public class EliasDeltaReader
+        implements LongReader {
+
+    private static final class InstanceHolder {
+
+        private static final EliasDeltaReader INSTANCE = new EliasDeltaReader();
+
+        private InstanceHolder() {
+            throw new AssertionError(BitIoMiscellaneousConstants.MESSAGE_INSTANTIATION_IS_NOT_ALLOWED);
+        }
+    }
+
+    /**
+     * Returns the instance of this reader. The {@code EliasDeltaReader} is singleton.
+     *
+     * @return the instance of this reader.
+     */
+    public static EliasDeltaReader getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a new instance.
+     */
+    private EliasDeltaReader() {
+        super();
+    }
+
+    @Override
+    public long readLong(final BitInput input) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        final long n = EliasGammaReader.read(input) - 1L;
+        if (n == 0L) {
+            return 1L;
+        }
+        if (n >= Long.SIZE - 1) {
+            throw new IOException("too many bits: " + n);
+        }
+        return (1L << n) | input.readLong(true, (int) n);
+    }
+}
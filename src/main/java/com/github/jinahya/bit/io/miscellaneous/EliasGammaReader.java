@@ -0,0 +1,86 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitInput;
+import com.github.jinahya.bit.io.LongReader;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A reader for reading values written in Elias gamma code.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see EliasGammaWriter
+ */
+public class EliasGammaReader
+        implements LongReader {
+
+    private static final class InstanceHolder {
+
+        private static final EliasGammaReader INSTANCE = new EliasGammaReader();
+
+        private InstanceHolder() {
+            throw new AssertionError(BitIoMiscellaneousConstants.MESSAGE_INSTANTIATION_IS_NOT_ALLOWED);
+        }
+    }
+
+    /**
+     * Returns the instance of this reader. The {@code EliasGammaReader} is singleton.
+     *
+     * @return the instance of this reader.
+     */
+    public static EliasGammaReader getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Reads a value in Elias gamma code.
+     *
+     * @param input the input from which the value is read.
+     * @return a positive value read.
+     * @throws IOException if an I/O error occurs.
+     */
+    static long read(final BitInput input) throws IOException {
+        final int n = input.readLeadingZeros();
+        if (n == 0) {
+            return 1L;
+        }
+        if (n >= Long.SIZE - 1) {
+            throw new IOException("too many leading zeros: " + n);
+        }
+        return (1L << n) | input.readLong(true, n);
+    }
+
+    /**
+     * Creates a new instance.
+     */
+    private EliasGammaReader() {
+        super();
+    }
+
+    @Override
+    public long readLong(final BitInput input) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        return read(input);
+    }
+}
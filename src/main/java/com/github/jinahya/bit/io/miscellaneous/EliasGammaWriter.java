@@ -0,0 +1,88 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitOutput;
+import com.github.jinahya.bit.io.LongWriter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A writer for writing positive values in Elias gamma code. A value {@code x} is written as {@code N} {@code 0} bits
+ * followed by {@code N + 1} bits of the {@code x}, where {@code N} is {@code floor(log2(x))}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see EliasGammaReader
+ * @see <a href="https://en.wikipedia.org/wiki/Elias_gamma_coding">Elias gamma coding (Wikipedia)</a>
+ */
+public class EliasGammaWriter
+        implements LongWriter {
+
+    private static final class InstanceHolder {
+
+        private static final EliasGammaWriter INSTANCE = new EliasGammaWriter();
+
+        private InstanceHolder() {
+            throw new AssertionError(BitIoMiscellaneousConstants.MESSAGE_INSTANTIATION_IS_NOT_ALLOWED);
+        }
+    }
+
+    /**
+     * Returns the instance of this writer. The {@code EliasGammaWriter} is singleton.
+     *
+     * @return the instance of this writer.
+     */
+    public static EliasGammaWriter getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Writes specified positive value in Elias gamma code.
+     *
+     * @param output the output to which the value is written.
+     * @param value  the value to write; must be positive.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void write(final BitOutput output, final long value) throws IOException {
+        final int n = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        if (n > 0) {
+            output.writeLong(true, n, 0L);
+        }
+        output.writeLong(true, n + 1, value);
+    }
+
+    /**
+     * Creates a new instance.
+     */
+    private EliasGammaWriter() {
+        super();
+    }
+
+    @Override
+    public void writeLong(final BitOutput output, final long value) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        if (value <= 0L) {
+            throw new IllegalArgumentException("non-positive value: " + value);
+        }
+        write(output, value);
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitInput;
+import com.github.jinahya.bit.io.LongReader;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A reader for reading values written in order-{@code k} Exp-Golomb code.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ExpGolombWriter
+ */
+public class ExpGolombReader
+        implements LongReader {
+
+    /**
+     * Creates a new instance with specified order.
+     *
+     * @param k the order; between {@code 0} and {@value java.lang.Long#SIZE} - 2, both inclusive.
+     */
+    public ExpGolombReader(final int k) {
+        super();
+        if (k < 0 || k > Long.SIZE - 2) {
+            throw new IllegalArgumentException("k(" + k + ") is out of range");
+        }
+        this.k = k;
+    }
+
+    @Override
+    public long readLong(final BitInput input) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        final long quotient = EliasGammaReader.read(input) - 1L;
+        if (k == 0) {
+            return quotient;
+        }
+        return (quotient << k) | input.readLong(true, k);
+    }
+
+    private final int k;
+}
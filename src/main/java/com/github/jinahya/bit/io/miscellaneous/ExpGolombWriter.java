@@ -0,0 +1,70 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitOutput;
+import com.github.jinahya.bit.io.LongWriter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A writer for writing non-negative values in order-{@code k} Exp-Golomb code. A value {@code x} is written as
+ * {@code floor(x / 2^k) + 1} in {@link EliasGammaWriter Elias gamma code} followed by lower {@code k} bits of the
+ * {@code x}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ExpGolombReader
+ * @see <a href="https://en.wikipedia.org/wiki/Exponential-Golomb_coding">Exponential-Golomb coding (Wikipedia)</a>
+ */
+public class ExpGolombWriter
+        implements LongWriter {
+
+    /**
+     * Creates a new instance with specified order.
+     *
+     * @param k the order; between {@code 0} and {@value java.lang.Long#SIZE} - 2, both inclusive.
+     */
+    public ExpGolombWriter(final int k) {
+        super();
+        if (k < 0 || k > Long.SIZE - 2) {
+            throw new IllegalArgumentException("k(" + k + ") is out of range");
+        }
+        this.k = k;
+    }
+
+    @Override
+    public void writeLong(final BitOutput output, final long value) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        if (value < 0L) {
+            throw new IllegalArgumentException("negative value: " + value);
+        }
+        if (k == 0 && value == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("value(" + value + ") is too large for k(" + k + ")");
+        }
+        EliasGammaWriter.write(output, (value >>> k) + 1L);
+        if (k > 0) {
+            output.writeLong(true, k, value);
+        }
+    }
+
+    private final int k;
+}
@@ -0,0 +1,154 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitInput;
+import com.github.jinahya.bit.io.LongReader;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A reader for reading values written in Golomb code.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see GolombWriter
+ */
+public class GolombReader
+        implements LongReader {
+
+    /**
+     * Reads a value with specified parameter.
+     *
+     * @param input  the input from which the value is read.
+     * @param m      the parameter.
+     * @param size   the value of {@code GolombWriter.size(m)}.
+     * @param cutoff the value of {@code GolombWriter.cutoff(m)}.
+     * @return the value read.
+     * @throws IOException if an I/O error occurs.
+     */
+    static long read(final BitInput input, final long m, final int size, final long cutoff) throws IOException {
+        final long quotient = RiceReader.readUnary(input);
+        long remainder = size > 1 ? input.readLong(true, size - 1) : 0L;
+        if (size > 0 && remainder >= cutoff) {
+            remainder = ((remainder << 1) | input.readLong(true, 1)) - cutoff;
+        }
+        return quotient * m + remainder;
+    }
+
+    /**
+     * Creates a new instance which reads {@code m} for each block. The result supports
+     * {@link #readBlock(BitInput, long[], int, int)} only.
+     *
+     * @return a new adaptive instance.
+     * @see GolombWriter#adaptive()
+     */
+    public static GolombReader adaptive() {
+        return new GolombReader();
+    }
+
+    /**
+     * Creates a new instance with specified parameter.
+     *
+     * @param m the parameter; must be positive.
+     */
+    public GolombReader(final long m) {
+        super();
+        if (m <= 0L) {
+            throw new IllegalArgumentException("non-positive m: " + m);
+        }
+        this.m = m;
+        this.size = GolombWriter.size(m);
+        this.cutoff = GolombWriter.cutoff(m);
+    }
+
+    private GolombReader() {
+        super();
+        this.m = 0L;
+        this.size = 0;
+        this.cutoff = 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException                   {@inheritDoc}
+     * @throws UnsupportedOperationException if this instance is {@link #adaptive() adaptive}.
+     * @see #readBlock(BitInput, long[], int, int)
+     */
+    @Override
+    public long readLong(final BitInput input) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        if (m == 0L) {
+            throw new UnsupportedOperationException("unsupported; adaptive instances read blocks only");
+        }
+        return read(input, m, size, cutoff);
+    }
+
+    /**
+     * Reads a block of specified number of values into specified array.
+     *
+     * @param input the input from which values are read.
+     * @param dst   the array into which values are read.
+     * @param off   the index in the {@code dst} at which the first value is stored.
+     * @param len   the number of values in the block.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void readBlock(final BitInput input, final long[] dst, final int off, final int len) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        Objects.requireNonNull(dst, "dst is null");
+        if (off < 0 || len < 0 || len > dst.length - off) {
+            throw new IndexOutOfBoundsException("off(" + off + ") and len(" + len + ") are out of bounds");
+        }
+        if (len == 0) {
+            return;
+        }
+        if (m != 0L) {
+            for (int i = off, end = off + len; i < end; i++) {
+                dst[i] = read(input, m, size, cutoff);
+            }
+            return;
+        }
+        final long p = EliasGammaReader.read(input);
+        final int s = GolombWriter.size(p);
+        final long c = GolombWriter.cutoff(p);
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = read(input, p, s, c);
+        }
+    }
+
+    /**
+     * The parameter; {@code 0} for adaptive.
+     */
+    private final long m;
+
+    /**
+     * The number of bits for truncated binary remainders; {@code 0} for adaptive.
+     */
+    private final int size;
+
+    /**
+     * The number of remainders written in {@code size - 1} bits; {@code 0} for adaptive.
+     */
+    private final long cutoff;
+}
@@ -0,0 +1,219 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitOutput;
+import com.github.jinahya.bit.io.LongWriter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A writer for writing non-negative values in Golomb code of parameter {@code m}. A value {@code x} is written as
+ * {@code x / m} in unary, i.e., that many {@code 0} bits followed by a {@code 1} bit, followed by {@code x % m} in
+ * truncated binary. The quotient, {@code x / m}, must not be greater than {@link Integer#MAX_VALUE}.
+ * <p>
+ * An {@link #adaptive() adaptive} instance selects {@code m} for each block of values from the mean of the block, and
+ * writes it, in {@link EliasGammaWriter Elias gamma code}, before the block. Since a header for each single value
+ * would cost more than it saves, such instances write {@link #writeBlock(BitOutput, long[], int, int) blocks} only.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see GolombReader
+ * @see RiceWriter
+ * @see <a href="https://en.wikipedia.org/wiki/Golomb_coding">Golomb coding (Wikipedia)</a>
+ */
+public class GolombWriter
+        implements LongWriter {
+
+    /**
+     * Returns the number of bits for truncated binary remainders of specified parameter.
+     *
+     * @param m the parameter.
+     * @return {@code ceil(log2(m))}.
+     */
+    static int size(final long m) {
+        return Long.SIZE - Long.numberOfLeadingZeros(m - 1L);
+    }
+
+    /**
+     * Returns the number of remainders, of specified parameter, which are written in {@code size(m) - 1} bits.
+     *
+     * @param m the parameter.
+     * @return {@code 2^size(m) - m}.
+     */
+    static long cutoff(final long m) {
+        return (1L << size(m)) - m;
+    }
+
+    /**
+     * Returns the parameter for specified mean of values.
+     *
+     * @param mean the mean of values; must not be negative.
+     * @return {@code ceil(ln(2) * mean)}, or {@code 1} for a smaller value.
+     */
+    static long m(final double mean) {
+        // m ~= ln(2) * mean; the optimal parameter for geometrically distributed values
+        return Math.max((long) Math.ceil(Math.log(2.0d) * mean), 1L);
+    }
+
+    /**
+     * Returns the parameter for specified range of non-negative values; {@link #m(double) m(mean)} raised, if
+     * required, so that no quotient is greater than {@link Integer#MAX_VALUE}.
+     *
+     * @param src the array of values.
+     * @param off the index of the first value.
+     * @param len the number of values; must be positive.
+     * @return the parameter for the values.
+     * @throws IllegalArgumentException if any value is negative.
+     */
+    static long m(final long[] src, final int off, final int len) {
+        long max = 0L;
+        for (int i = off, end = off + len; i < end; i++) {
+            max = Math.max(max, src[i]);
+        }
+        return Math.max(m(RiceWriter.mean(src, off, len)), max / Integer.MAX_VALUE + 1L);
+    }
+
+    /**
+     * Writes specified non-negative value with specified parameter.
+     *
+     * @param output the output to which the value is written.
+     * @param m      the parameter.
+     * @param size   the value of {@link #size(long) size(m)}.
+     * @param cutoff the value of {@link #cutoff(long) cutoff(m)}.
+     * @param value  the value to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void write(final BitOutput output, final long m, final int size, final long cutoff, final long value)
+            throws IOException {
+        if (value < 0L) {
+            throw new IllegalArgumentException("negative value: " + value);
+        }
+        RiceWriter.writeUnary(output, value / m);
+        final long remainder = value % m;
+        if (remainder < cutoff) {
+            if (size > 1) {
+                output.writeLong(true, size - 1, remainder);
+            }
+        } else if (size > 0) {
+            output.writeLong(true, size, remainder + cutoff);
+        }
+    }
+
+    /**
+     * Creates a new instance which selects {@code m} for each block. The result supports
+     * {@link #writeBlock(BitOutput, long[], int, int)} only.
+     *
+     * @return a new adaptive instance.
+     * @see GolombReader#adaptive()
+     */
+    public static GolombWriter adaptive() {
+        return new GolombWriter();
+    }
+
+    /**
+     * Creates a new instance with specified parameter.
+     *
+     * @param m the parameter; must be positive.
+     */
+    public GolombWriter(final long m) {
+        super();
+        if (m <= 0L) {
+            throw new IllegalArgumentException("non-positive m: " + m);
+        }
+        this.m = m;
+        this.size = size(m);
+        this.cutoff = cutoff(m);
+    }
+
+    private GolombWriter() {
+        super();
+        this.m = 0L;
+        this.size = 0;
+        this.cutoff = 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param output {@inheritDoc}
+     * @param value  {@inheritDoc}
+     * @throws IOException                   {@inheritDoc}
+     * @throws UnsupportedOperationException if this instance is {@link #adaptive() adaptive}.
+     * @see #writeBlock(BitOutput, long[], int, int)
+     */
+    @Override
+    public void writeLong(final BitOutput output, final long value) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        if (m == 0L) {
+            throw new UnsupportedOperationException("unsupported; adaptive instances write blocks only");
+        }
+        write(output, m, size, cutoff, value);
+    }
+
+    /**
+     * Writes specified range of non-negative values as a block.
+     *
+     * @param output the output to which values are written.
+     * @param src    the array of values.
+     * @param off    the index of the first value in the {@code src}.
+     * @param len    the number of values to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void writeBlock(final BitOutput output, final long[] src, final int off, final int len) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        Objects.requireNonNull(src, "src is null");
+        if (off < 0 || len < 0 || len > src.length - off) {
+            throw new IndexOutOfBoundsException("off(" + off + ") and len(" + len + ") are out of bounds");
+        }
+        if (len == 0) {
+            return;
+        }
+        if (m != 0L) {
+            for (int i = off, end = off + len; i < end; i++) {
+                write(output, m, size, cutoff, src[i]);
+            }
+            return;
+        }
+        final long p = m(src, off, len);
+        EliasGammaWriter.write(output, p);
+        final int s = size(p);
+        final long c = cutoff(p);
+        for (int i = off, end = off + len; i < end; i++) {
+            write(output, p, s, c, src[i]);
+        }
+    }
+
+    /**
+     * The parameter; {@code 0} for adaptive.
+     */
+    private final long m;
+
+    /**
+     * The value of {@link #size(long) size(m)}; {@code 0} for adaptive.
+     */
+    private final int size;
+
+    /**
+     * The value of {@link #cutoff(long) cutoff(m)}; {@code 0} for adaptive.
+     */
+    private final long cutoff;
+}
@@ -0,0 +1,278 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitInput;
+import com.github.jinahya.bit.io.BitIoConstants;
+import com.github.jinahya.bit.io.BitReader;
+import com.github.jinahya.bit.io.SeekableBitInput;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A reader for reading symbols written in canonical Huffman code.
+ * <p>
+ * Symbols are decoded through lookup tables. When the input is a {@link SeekableBitInput}, next {@value #ROOT_SIZE}
+ * bits, at most, are {@link SeekableBitInput#peekInt(int) looked ahead} and mapped, with a single lookup into a root
+ * table in which each shorter code is replicated, to a symbol and its code length; and only that many bits are
+ * consumed. Longer codes continue with the next tables as below.
+ * <p>
+ * Other inputs can't give back bits which are read ahead, so each table consumes, at once, only as many bits as the
+ * shortest code which is still possible, up to {@value #MAX_TABLE_SIZE} bits, and maps them either to a symbol or to
+ * the next table. For skewed code lengths, such as {@code 1, 2, 3, ...}, that's a single bit per table; decode from a
+ * {@link SeekableBitInput}, e.g. one {@link com.github.jinahya.bit.io.BitInputFactory#seekable(byte[]) created} on
+ * bytes of the whole stream, for multi-bit decoding.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see HuffmanWriter
+ */
+public class HuffmanReader
+        implements BitReader<Integer> {
+
+    /**
+     * The maximum number of bits for indexing a single table. The value is {@value}.
+     */
+    static final int MAX_TABLE_SIZE = 12;
+
+    /**
+     * The maximum number of bits for indexing the root table of a {@link SeekableBitInput}. The value is {@value}.
+     */
+    static final int ROOT_SIZE = 10;
+
+    private static final class Table {
+
+        private Table(final int size) {
+            super();
+            this.size = size;
+            symbols = new int[1 << size];
+            Arrays.fill(symbols, -1);
+        }
+
+        private final int size;
+
+        private final int[] symbols;
+
+        private Table[] tables;
+    }
+
+    /**
+     * Reads code lengths written by {@link HuffmanWriter#writeLengths(com.github.jinahya.bit.io.BitOutput, int[])}.
+     *
+     * @param input the input from which the lengths are read.
+     * @return an array of code lengths.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static int[] readLengths(final BitInput input) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        final int[] lengths = new int[BitIoConstants.COUNT_READER_COMPRESSED.applyAsInt(input)];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = input.readInt(true, HuffmanWriter.SIZE_LENGTH);
+        }
+        try {
+            return HuffmanWriter.requireValidLengths(lengths);
+        } catch (final IllegalArgumentException iae) {
+            throw new IOException("invalid lengths", iae);
+        }
+    }
+
+    /**
+     * Builds a table for specified range of codes sharing a prefix.
+     *
+     * @param symbols the symbols sorted by their codes aligned to the left.
+     * @param lengths the code length of each symbol.
+     * @param codes   the code of each symbol.
+     * @param from    the index of the first symbol in the range.
+     * @param to      the index of the last symbol in the range, exclusive.
+     * @param prefix  the number of leading bits shared by the codes in the range.
+     * @return a table for the range.
+     */
+    private static Table table(final int[] symbols, final int[] lengths, final int[] codes, final int from,
+                               final int to, final int prefix) {
+        int min = HuffmanWriter.MAX_LENGTH;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, lengths[symbols[i]]);
+        }
+        final int depth = prefix + Math.min(min - prefix, MAX_TABLE_SIZE);
+        final Table table = new Table(depth - prefix);
+        final int mask = (1 << table.size) - 1;
+        for (int i = from; i < to; ) {
+            final int symbol = symbols[i];
+            final int index = (codes[symbol] >>> (lengths[symbol] - depth)) & mask;
+            if (lengths[symbol] == depth) {
+                table.symbols[index] = symbol;
+                i++;
+                continue;
+            }
+            int j = i + 1;
+            while (j < to && ((codes[symbols[j]] >>> (lengths[symbols[j]] - depth)) & mask) == index) {
+                j++;
+            }
+            if (table.tables == null) {
+                table.tables = new Table[table.symbols.length];
+            }
+            table.tables[index] = table(symbols, lengths, codes, i, j, depth);
+            i = j;
+        }
+        return table;
+    }
+
+    /**
+     * Creates a new instance with specified code lengths.
+     *
+     * @param lengths the code length of each symbol; {@code 0} for symbols which never appear.
+     */
+    public HuffmanReader(final int[] lengths) {
+        super();
+        HuffmanWriter.requireValidLengths(lengths);
+        final int[] codes = HuffmanWriter.codes(lengths);
+        final long[] keys = new long[lengths.length]; // left-aligned code followed by symbol
+        int count = 0;
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            if (lengths[symbol] > 0) {
+                keys[count++] = ((long) codes[symbol] << (HuffmanWriter.MAX_LENGTH - lengths[symbol]) << Integer.SIZE)
+                                | symbol;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        final int[] symbols = new int[count];
+        for (int i = 0; i < count; i++) {
+            symbols[i] = (int) keys[i];
+        }
+        tree = table(symbols, lengths, codes, 0, count, 0);
+        int max = 0;
+        for (final int length : lengths) {
+            max = Math.max(max, length);
+        }
+        rootSize = Math.min(max, ROOT_SIZE);
+        rootSymbols = new int[1 << rootSize];
+        rootLengths = new int[rootSymbols.length];
+        rootTables = new Table[rootSymbols.length];
+        for (int i = 0; i < count; ) {
+            final int symbol = symbols[i];
+            final int length = lengths[symbol];
+            if (length <= rootSize) {
+                final int first = codes[symbol] << (rootSize - length);
+                Arrays.fill(rootSymbols, first, first + (1 << (rootSize - length)), symbol);
+                Arrays.fill(rootLengths, first, first + (1 << (rootSize - length)), length);
+                i++;
+                continue;
+            }
+            final int index = codes[symbol] >>> (length - rootSize);
+            int j = i + 1;
+            while (j < count && codes[symbols[j]] >>> (lengths[symbols[j]] - rootSize) == index) {
+                j++;
+            }
+            rootTables[index] = table(symbols, lengths, codes, i, j, rootSize);
+            i = j;
+        }
+    }
+
+    @Override
+    public Integer read(final BitInput input) throws IOException {
+        return readInt(input);
+    }
+
+    /**
+     * Reads a symbol.
+     *
+     * @param input the input from which the symbol is read.
+     * @return the symbol read.
+     * @throws IOException if an I/O error occurs.
+     */
+    public int readInt(final BitInput input) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        if (input instanceof SeekableBitInput) {
+            final int index = ((SeekableBitInput) input).peekInt(rootSize);
+            final int length = rootLengths[index];
+            if (length > 0) {
+                input.skip(length);
+                return rootSymbols[index];
+            }
+            final Table table = rootTables[index];
+            if (table == null) {
+                throw new IOException("invalid code");
+            }
+            input.skip(rootSize);
+            return readInt(input, table);
+        }
+        return readInt(input, tree);
+    }
+
+    private static int readInt(final BitInput input, final Table root) throws IOException {
+        for (Table table = root; ; ) {
+            final int index = input.readInt(true, table.size);
+            final int symbol = table.symbols[index];
+            if (symbol >= 0) {
+                return symbol;
+            }
+            if (table.tables == null || (table = table.tables[index]) == null) {
+                throw new IOException("invalid code");
+            }
+        }
+    }
+
+    /**
+     * Reads specified number of symbols into specified array.
+     *
+     * @param input the input from which symbols are read.
+     * @param dst   the array into which symbols are read.
+     * @param off   the index in the {@code dst} at which the first symbol is stored.
+     * @param len   the number of symbols to read.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void read(final BitInput input, final int[] dst, final int off, final int len) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        Objects.requireNonNull(dst, "dst is null");
+        if (off < 0 || len < 0 || len > dst.length - off) {
+            throw new IndexOutOfBoundsException("off(" + off + ") and len(" + len + ") are out of bounds");
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = readInt(input);
+        }
+    }
+
+    /**
+     * The first table for inputs which aren't seekable.
+     */
+    private final Table tree;
+
+    /**
+     * The number of bits for indexing the root table.
+     */
+    private final int rootSize;
+
+    /**
+     * The symbol of each index of the root table.
+     */
+    private final int[] rootSymbols;
+
+    /**
+     * The code length of each index of the root table; {@code 0} for those of longer codes.
+     */
+    private final int[] rootLengths;
+
+    /**
+     * The next table of each index of the root table, for longer codes.
+     */
+    private final Table[] rootTables;
+}
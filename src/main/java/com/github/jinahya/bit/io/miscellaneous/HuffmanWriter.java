@@ -0,0 +1,245 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitIoConstants;
+import com.github.jinahya.bit.io.BitOutput;
+import com.github.jinahya.bit.io.BitWriter;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * A writer for writing symbols, non-negative {@code int} values, in canonical Huffman code.
+ * <p>
+ * A code is defined by the code length of each symbol; {@code lengths[symbol]}, with {@code 0} for symbols which never
+ * appear. Codes are assigned, in order of length and then of symbol, by incrementing the previous code and shifting it
+ * left when the length grows. Hence, the lengths, written by {@link #writeLengths(BitOutput, int[])}, are all that a
+ * {@link HuffmanReader} needs.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see HuffmanReader
+ * @see <a href="https://en.wikipedia.org/wiki/Canonical_Huffman_code">Canonical Huffman code (Wikipedia)</a>
+ */
+public class HuffmanWriter
+        implements BitWriter<Integer> {
+
+    /**
+     * The maximum length of codes. The value is {@value}.
+     */
+    public static final int MAX_LENGTH = 31;
+
+    /**
+     * The number of bits for each code length in headers. The value is {@value}.
+     */
+    static final int SIZE_LENGTH = 5;
+
+    /**
+     * Computes code lengths for specified symbol frequencies. Frequencies are scaled down until no length exceeds
+     * {@value #MAX_LENGTH}.
+     *
+     * @param frequencies the frequency of each symbol; {@code 0} for symbols which never appear.
+     * @return an array of code lengths.
+     */
+    public static int[] lengths(final long[] frequencies) {
+        Objects.requireNonNull(frequencies, "frequencies is null");
+        final long[] weights = frequencies.clone();
+        for (final long weight : weights) {
+            if (weight < 0L) {
+                throw new IllegalArgumentException("negative frequency: " + weight);
+            }
+        }
+        while (true) {
+            final int[] lengths = huffman(weights);
+            int max = 0;
+            for (final int length : lengths) {
+                max = Math.max(max, length);
+            }
+            if (max <= MAX_LENGTH) {
+                return lengths;
+            }
+            for (int i = 0; i < weights.length; i++) {
+                if (weights[i] > 0L) {
+                    weights[i] = (weights[i] >> 1) | 1L;
+                }
+            }
+        }
+    }
+
+    private static int[] huffman(final long[] weights) {
+        final int[] lengths = new int[weights.length];
+        final int[] parents = new int[weights.length * 2];
+        final PriorityQueue<long[]> queue = new PriorityQueue<>(
+                (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0L) {
+                queue.add(new long[]{weights[i], i});
+            }
+        }
+        if (queue.size() == 1) {
+            lengths[(int) queue.poll()[1]] = 1;
+            return lengths;
+        }
+        for (int next = weights.length; queue.size() > 1; next++) {
+            final long[] a = queue.poll();
+            final long[] b = queue.poll();
+            parents[(int) a[1]] = next;
+            parents[(int) b[1]] = next;
+            queue.add(new long[]{a[0] + b[0], next});
+        }
+        final int root = queue.isEmpty() ? -1 : (int) queue.poll()[1];
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0L) {
+                for (int node = i; node != root; node = parents[node]) {
+                    lengths[i]++;
+                }
+            }
+        }
+        return lengths;
+    }
+
+    /**
+     * Checks specified code lengths.
+     *
+     * @param lengths the code lengths to check.
+     * @return given {@code lengths}.
+     */
+    static int[] requireValidLengths(final int[] lengths) {
+        Objects.requireNonNull(lengths, "lengths is null");
+        long kraft = 0L; // sum of 2^(MAX_LENGTH - length)
+        for (final int length : lengths) {
+            if (length < 0 || length > MAX_LENGTH) {
+                throw new IllegalArgumentException("length(" + length + ") is out of range");
+            }
+            if (length > 0) {
+                kraft += 1L << (MAX_LENGTH - length);
+            }
+        }
+        if (kraft == 0L) {
+            throw new IllegalArgumentException("no symbol has a code");
+        }
+        if (kraft > 1L << MAX_LENGTH) {
+            throw new IllegalArgumentException("lengths are not of a prefix code");
+        }
+        return lengths;
+    }
+
+    /**
+     * Assigns canonical codes for specified code lengths.
+     *
+     * @param lengths the code lengths.
+     * @return an array of codes; {@code codes[symbol]}.
+     */
+    static int[] codes(final int[] lengths) {
+        final int[] counts = new int[MAX_LENGTH + 1];
+        for (final int length : lengths) {
+            counts[length]++;
+        }
+        counts[0] = 0;
+        final int[] nexts = new int[MAX_LENGTH + 1];
+        for (int length = 1, code = 0; length <= MAX_LENGTH; length++) {
+            code = (code + counts[length - 1]) << 1;
+            nexts[length] = code;
+        }
+        final int[] codes = new int[lengths.length];
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            if (lengths[symbol] > 0) {
+                codes[symbol] = nexts[lengths[symbol]]++;
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Writes specified code lengths as a header; the number of lengths followed by each length in {@value #SIZE_LENGTH}
+     * bits.
+     *
+     * @param output  the output to which the header is written.
+     * @param lengths the code lengths to write.
+     * @throws IOException if an I/O error occurs.
+     * @see HuffmanReader#readLengths(com.github.jinahya.bit.io.BitInput)
+     */
+    public static void writeLengths(final BitOutput output, final int[] lengths) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        requireValidLengths(lengths);
+        BitIoConstants.COUNT_WRITER_COMPRESSED.accept(output, lengths.length);
+        for (final int length : lengths) {
+            output.writeInt(true, SIZE_LENGTH, length);
+        }
+    }
+
+    /**
+     * Creates a new instance with specified code lengths.
+     *
+     * @param lengths the code length of each symbol; {@code 0} for symbols which never appear.
+     * @see #lengths(long[])
+     */
+    public HuffmanWriter(final int[] lengths) {
+        super();
+        this.lengths = requireValidLengths(lengths).clone();
+        this.codes = codes(this.lengths);
+    }
+
+    @Override
+    public void write(final BitOutput output, final Integer value) throws IOException {
+        writeInt(output, value);
+    }
+
+    /**
+     * Writes specified symbol.
+     *
+     * @param output the output to which the symbol is written.
+     * @param symbol the symbol to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void writeInt(final BitOutput output, final int symbol) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        if (symbol < 0 || symbol >= lengths.length || lengths[symbol] == 0) {
+            throw new IllegalArgumentException("no code for symbol: " + symbol);
+        }
+        output.writeInt(true, lengths[symbol], codes[symbol]);
+    }
+
+    /**
+     * Writes specified range of symbols.
+     *
+     * @param output the output to which symbols are written.
+     * @param src    the array of symbols.
+     * @param off    the index of the first symbol in the {@code src}.
+     * @param len    the number of symbols to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void write(final BitOutput output, final int[] src, final int off, final int len) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        Objects.requireNonNull(src, "src is null");
+        if (off < 0 || len < 0 || len > src.length - off) {
+            throw new IndexOutOfBoundsException("off(" + off + ") and len(" + len + ") are out of bounds");
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            writeInt(output, src[i]);
+        }
+    }
+
+    private final int[] lengths;
+
+    private final int[] codes;
+}
@@ -75,6 +75,20 @@ public abstract class Leb128Writer // NOSONAR
             if (value < 0L) {
                 throw new IllegalArgumentException("negative value: " + value);
             }
+            if (value < 0x80L) { // a single group
+                output.writeInt(true, Byte.SIZE, (int) value);
+                return;
+            }
+            if (value < 0x4000L) { // two groups
+                output.writeInt(true, Byte.SIZE << 1, (int) (((0x80L | (value & 0x7FL)) << 8) | (value >> 7)));
+                return;
+            }
+            if (value < 0x200000L) { // three groups
+                output.writeInt(true, Byte.SIZE * 3, (int) (((0x80L | (value & 0x7FL)) << 16)
+                                                            | ((0x80L | ((value >> 7) & 0x7FL)) << 8)
+                                                            | (value >> 14)));
+                return;
+            }
             while (true) {
                 final int group = (int) (value & 0x7FL);
                 final boolean last = (value >>= 7) == 0L;
@@ -0,0 +1,153 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitInput;
+import com.github.jinahya.bit.io.LongReader;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A reader for reading values written in Golomb-Rice code.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see RiceWriter
+ */
+public class RiceReader
+        implements LongReader {
+
+    /**
+     * Reads a value in unary.
+     *
+     * @param input the input from which the value is read.
+     * @return the value read; not greater than {@link Integer#MAX_VALUE}.
+     * @throws IOException if an I/O error occurs.
+     * @see BitInput#readLeadingZeros()
+     */
+    static long readUnary(final BitInput input) throws IOException {
+        return input.readLeadingZeros();
+    }
+
+    /**
+     * Reads a value with specified parameter.
+     *
+     * @param input the input from which the value is read.
+     * @param k     the parameter.
+     * @return the value read.
+     * @throws IOException if an I/O error occurs.
+     */
+    static long read(final BitInput input, final int k) throws IOException {
+        final long quotient = readUnary(input);
+        return k == 0 ? quotient : (quotient << k) | input.readLong(true, k);
+    }
+
+    /**
+     * Creates a new instance which reads {@code k} for each block. The result supports
+     * {@link #readBlock(BitInput, long[], int, int)} only.
+     *
+     * @return a new adaptive instance.
+     * @see RiceWriter#adaptive()
+     */
+    public static RiceReader adaptive() {
+        return new RiceReader();
+    }
+
+    /**
+     * Creates a new instance with specified parameter.
+     *
+     * @param k the parameter; between {@code 0} and {@value RiceWriter#K_MAX}, both inclusive.
+     */
+    public RiceReader(final int k) {
+        super();
+        if (k < 0 || k > RiceWriter.K_MAX) {
+            throw new IllegalArgumentException("k(" + k + ") is out of range");
+        }
+        this.k = k;
+        this.adaptive = false;
+    }
+
+    private RiceReader() {
+        super();
+        this.k = 0;
+        this.adaptive = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws IOException                   {@inheritDoc}
+     * @throws UnsupportedOperationException if this instance is {@link #adaptive() adaptive}.
+     * @see #readBlock(BitInput, long[], int, int)
+     */
+    @Override
+    public long readLong(final BitInput input) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        if (adaptive) {
+            throw new UnsupportedOperationException("unsupported; adaptive instances read blocks only");
+        }
+        return read(input, k);
+    }
+
+    /**
+     * Reads a block of specified number of values into specified array.
+     *
+     * @param input the input from which values are read.
+     * @param dst   the array into which values are read.
+     * @param off   the index in the {@code dst} at which the first value is stored.
+     * @param len   the number of values in the block.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void readBlock(final BitInput input, final long[] dst, final int off, final int len) throws IOException {
+        Objects.requireNonNull(input, "input is null");
+        Objects.requireNonNull(dst, "dst is null");
+        if (off < 0 || len < 0 || len > dst.length - off) {
+            throw new IndexOutOfBoundsException("off(" + off + ") and len(" + len + ") are out of bounds");
+        }
+        if (len == 0) {
+            return;
+        }
+        final int p = adaptive ? readK(input) : k;
+        for (int i = off, end = off + len; i < end; i++) {
+            dst[i] = read(input, p);
+        }
+    }
+
+    private static int readK(final BitInput input) throws IOException {
+        final int k = input.readInt(true, RiceWriter.SIZE_K);
+        if (k > RiceWriter.K_MAX) {
+            throw new IOException("k(" + k + ") is out of range");
+        }
+        return k;
+    }
+
+    /**
+     * The parameter; {@code 0} for adaptive.
+     */
+    private final int k;
+
+    /**
+     * A flag for reading {@code k} for each block.
+     */
+    private final boolean adaptive;
+}
@@ -0,0 +1,227 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitOutput;
+import com.github.jinahya.bit.io.LongWriter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A writer for writing non-negative values in Golomb-Rice code of parameter {@code k}. A value {@code x} is written as
+ * {@code x >>> k} in unary, i.e., that many {@code 0} bits followed by a {@code 1} bit, followed by lower {@code k}
+ * bits of the {@code x}. The quotient, {@code x >>> k}, must not be greater than {@link Integer#MAX_VALUE}.
+ * <p>
+ * An {@link #adaptive() adaptive} instance selects {@code k} for each block of values from the mean of the block, and
+ * writes it, as a {@value #SIZE_K}-bit header, before the block. Since a header for each single value would cost more
+ * than it saves, such instances write {@link #writeBlock(BitOutput, long[], int, int) blocks} only.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see RiceReader
+ * @see <a href="https://en.wikipedia.org/wiki/Golomb_coding#Rice_coding">Rice coding (Wikipedia)</a>
+ */
+public class RiceWriter
+        implements LongWriter {
+
+    /**
+     * The number of bits for the {@code k} header of adaptive blocks. The value is {@value}.
+     */
+    static final int SIZE_K = 6;
+
+    /**
+     * The maximum value of {@code k}. The value is {@value}.
+     */
+    static final int K_MAX = Long.SIZE - 2;
+
+    /**
+     * Writes specified value in unary; {@code value} {@code 0} bits followed by a {@code 1} bit.
+     *
+     * @param output the output to which the value is written.
+     * @param value  the value to write; between {@code 0} and {@link Integer#MAX_VALUE}, both inclusive.
+     * @throws IllegalArgumentException if {@code value} is greater than {@link Integer#MAX_VALUE}, which
+     *                                  {@link RiceReader#readUnary(com.github.jinahya.bit.io.BitInput)} can't read.
+     * @throws IOException              if an I/O error occurs.
+     */
+    static void writeUnary(final BitOutput output, long value) throws IOException {
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("quotient(" + value + ") > " + Integer.MAX_VALUE);
+        }
+        for (; value >= K_MAX + 1; value -= K_MAX + 1) {
+            output.writeLong(true, K_MAX + 1, 0L);
+        }
+        output.writeLong(true, (int) value + 1, 1L);
+    }
+
+    /**
+     * Returns the mean of specified range of non-negative values.
+     *
+     * @param src the array of values.
+     * @param off the index of the first value.
+     * @param len the number of values; must be positive.
+     * @return the mean of the values.
+     * @throws IllegalArgumentException if any value is negative.
+     */
+    static double mean(final long[] src, final int off, final int len) {
+        double sum = 0.0d;
+        for (int i = off, end = off + len; i < end; i++) {
+            if (src[i] < 0L) {
+                throw new IllegalArgumentException("negative value: " + src[i]);
+            }
+            sum += src[i];
+        }
+        return sum / len;
+    }
+
+    /**
+     * Returns the parameter for specified mean of values.
+     *
+     * @param mean the mean of values; must not be negative.
+     * @return {@code floor(log2(mean))}, or {@code 0} for a mean of {@code 0}, not greater than {@value #K_MAX}.
+     */
+    static int k(final long mean) {
+        return mean == 0L ? 0 : Math.min(Long.SIZE - 1 - Long.numberOfLeadingZeros(mean), K_MAX);
+    }
+
+    /**
+     * Returns the parameter for specified range of non-negative values; {@link #k(long) k(mean)} raised, if required,
+     * so that no quotient is greater than {@link Integer#MAX_VALUE}.
+     *
+     * @param src the array of values.
+     * @param off the index of the first value.
+     * @param len the number of values; must be positive.
+     * @return the parameter for the values.
+     * @throws IllegalArgumentException if any value is negative.
+     */
+    static int k(final long[] src, final int off, final int len) {
+        long max = 0L;
+        for (int i = off, end = off + len; i < end; i++) {
+            max |= src[i];
+        }
+        final int min = Long.SIZE - Long.numberOfLeadingZeros(max) - (Integer.SIZE - 1);
+        return Math.max(k((long) mean(src, off, len)), min);
+    }
+
+    /**
+     * Writes specified non-negative value with specified parameter.
+     *
+     * @param output the output to which the value is written.
+     * @param k      the parameter.
+     * @param value  the value to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void write(final BitOutput output, final int k, final long value) throws IOException {
+        if (value < 0L) {
+            throw new IllegalArgumentException("negative value: " + value);
+        }
+        writeUnary(output, value >>> k);
+        if (k > 0) {
+            output.writeLong(true, k, value);
+        }
+    }
+
+    /**
+     * Creates a new instance which selects {@code k} for each block. The result supports
+     * {@link #writeBlock(BitOutput, long[], int, int)} only.
+     *
+     * @return a new adaptive instance.
+     * @see RiceReader#adaptive()
+     */
+    public static RiceWriter adaptive() {
+        return new RiceWriter();
+    }
+
+    /**
+     * Creates a new instance with specified parameter.
+     *
+     * @param k the parameter; between {@code 0} and {@value #K_MAX}, both inclusive.
+     */
+    public RiceWriter(final int k) {
+        super();
+        if (k < 0 || k > K_MAX) {
+            throw new IllegalArgumentException("k(" + k + ") is out of range");
+        }
+        this.k = k;
+        this.adaptive = false;
+    }
+
+    private RiceWriter() {
+        super();
+        this.k = 0;
+        this.adaptive = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param output {@inheritDoc}
+     * @param value  {@inheritDoc}
+     * @throws IOException                   {@inheritDoc}
+     * @throws UnsupportedOperationException if this instance is {@link #adaptive() adaptive}.
+     * @see #writeBlock(BitOutput, long[], int, int)
+     */
+    @Override
+    public void writeLong(final BitOutput output, final long value) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        if (adaptive) {
+            throw new UnsupportedOperationException("unsupported; adaptive instances write blocks only");
+        }
+        write(output, k, value);
+    }
+
+    /**
+     * Writes specified range of non-negative values as a block.
+     *
+     * @param output the output to which values are written.
+     * @param src    the array of values.
+     * @param off    the index of the first value in the {@code src}.
+     * @param len    the number of values to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void writeBlock(final BitOutput output, final long[] src, final int off, final int len) throws IOException {
+        Objects.requireNonNull(output, "output is null");
+        Objects.requireNonNull(src, "src is null");
+        if (off < 0 || len < 0 || len > src.length - off) {
+            throw new IndexOutOfBoundsException("off(" + off + ") and len(" + len + ") are out of bounds");
+        }
+        if (len == 0) {
+            return;
+        }
+        int p = k;
+        if (adaptive) {
+            p = k(src, off, len);
+            output.writeInt(true, SIZE_K, p);
+        }
+        for (int i = off, end = off + len; i < end; i++) {
+            write(output, p, src[i]);
+        }
+    }
+
+    /**
+     * The parameter; {@code 0} for adaptive.
+     */
+    private final int k;
+
+    /**
+     * A flag for selecting {@code k} for each block.
+     */
+    private final boolean adaptive;
+}
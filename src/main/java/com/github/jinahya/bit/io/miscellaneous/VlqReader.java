@@ -64,10 +64,10 @@ public class VlqReader
         Objects.requireNonNull(input, "input is null");
         long value = 0L;
         while (true) {
-            final int last = input.readInt(true, 1);
+            final int group = input.readInt(true, Byte.SIZE);
             value <<= 7;
-            value |= input.readLong(true, 7);
-            if (last == 0) {
+            value |= (group & 0x7FL);
+            if ((group & 0x80) == 0) {
                 break;
             }
         }
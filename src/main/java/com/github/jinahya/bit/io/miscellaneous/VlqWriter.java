@@ -65,8 +65,18 @@ public class VlqWriter
         if (value < 0L) {
             throw new IllegalArgumentException("negative value: " + value);
         }
-        if (value == 0L) {
-            output.writeLong(true, Byte.SIZE, 0L);
+        if (value < 0x80L) { // a single octet
+            output.writeInt(true, Byte.SIZE, (int) value);
+            return;
+        }
+        if (value < 0x4000L) { // two octets
+            output.writeInt(true, Byte.SIZE << 1, (int) (((0x80L | (value >> 7)) << 8) | (value & 0x7FL)));
+            return;
+        }
+        if (value < 0x200000L) { // three octets
+            output.writeInt(true, Byte.SIZE * 3, (int) (((0x80L | (value >> 14)) << 16)
+                                                        | ((0x80L | ((value >> 7) & 0x7FL)) << 8)
+                                                        | (value & 0x7FL)));
             return;
         }
         final int ones = Long.SIZE - Long.numberOfLeadingZeros(value);
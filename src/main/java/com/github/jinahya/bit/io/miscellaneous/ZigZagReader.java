@@ -0,0 +1,67 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitInput;
+import com.github.jinahya.bit.io.LongReader;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A reader for reading signed values, mapped by ZigZag encoding, using a reader of non-negative values.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ZigZagWriter
+ * @see VlqReader
+ * @see Leb128Reader.OfUnsigned
+ */
+public class ZigZagReader
+        implements LongReader {
+
+    /**
+     * Maps specified non-negative value back to a signed value.
+     *
+     * @param value the value to map.
+     * @return the mapped value; {@code (value >>> 1) ^ -(value & 1)}.
+     * @see ZigZagWriter#encode(long)
+     */
+    public static long decode(final long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    /**
+     * Creates a new instance on top of specified reader.
+     *
+     * @param delegate the reader for reading mapped values.
+     */
+    public ZigZagReader(final LongReader delegate) {
+        super();
+        this.delegate = Objects.requireNonNull(delegate, "delegate is null");
+    }
+
+    @Override
+    public long readLong(final BitInput input) throws IOException {
+        return decode(delegate.readLong(input));
+    }
+
+    private final LongReader delegate;
+}
@@ -0,0 +1,77 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitOutput;
+import com.github.jinahya.bit.io.LongWriter;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A writer for writing signed values, mapped by <a href="https://en.wikipedia.org/wiki/Variable-length_quantity#Zigzag_encoding">ZigZag
+ * encoding</a>, using a writer of non-negative values. Values of small magnitude, either positive or negative, are
+ * mapped to small non-negative values; {@code 0 -> 0}, {@code -1 -> 1}, {@code 1 -> 2}, {@code -2 -> 3}, and so on.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ZigZagReader
+ * @see VlqWriter
+ * @see Leb128Writer.OfUnsigned
+ */
+public class ZigZagWriter
+        implements LongWriter {
+
+    /**
+     * Maps specified signed value to a non-negative value.
+     *
+     * @param value the value to map.
+     * @return the mapped value; {@code (value << 1) ^ (value >> 63)}.
+     * @see ZigZagReader#decode(long)
+     */
+    public static long encode(final long value) {
+        return (value << 1) ^ (value >> (Long.SIZE - 1));
+    }
+
+    /**
+     * Creates a new instance on top of specified writer.
+     *
+     * @param delegate the writer for writing mapped values.
+     */
+    public ZigZagWriter(final LongWriter delegate) {
+        super();
+        this.delegate = Objects.requireNonNull(delegate, "delegate is null");
+    }
+
+    /**
+     * {@inheritDoc} Note that values out of {@code [-2^62, 2^62)} are mapped to negative values which the
+     * {@link VlqWriter} and the {@link Leb128Writer.OfUnsigned} reject.
+     *
+     * @param output {@inheritDoc}
+     * @param value  {@inheritDoc}
+     * @throws IOException {@inheritDoc}
+     */
+    @Override
+    public void writeLong(final BitOutput output, final long value) throws IOException {
+        delegate.writeLong(output, encode(value));
+    }
+
+    private final LongWriter delegate;
+}
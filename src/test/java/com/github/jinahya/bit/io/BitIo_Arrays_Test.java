@@ -0,0 +1,210 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A class for testing bulk methods, such as {@link BitOutput#writeInts(boolean, int, int[], int, int)} method and
+ * {@link BitInput#readInts(boolean, int, int[], int, int)} method.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class BitIo_Arrays_Test {
+
+    private static Stream<Arguments> getAdaptersAndPrecedingBitsArgumentsStream() {
+        final Function<ByteOutput, BitOutput> output = ByteOutputAdapter::new;
+        final Function<ByteOutput, BitOutput> output64 = ByteOutputAdapter64::new;
+        final Function<ByteInput, BitInput> input = ByteInputAdapter::new;
+        final Function<ByteInput, BitInput> input64 = ByteInputAdapter64::new;
+        return Stream.of(output, output64)
+                .flatMap(o -> Stream.of(input, input64).map(i -> new Object[]{o, i}))
+                .flatMap(a -> IntStream.of(0, 1, 7).mapToObj(b -> Arguments.of(a[0], a[1], b)));
+    }
+
+    @MethodSource({"getAdaptersAndPrecedingBitsArgumentsStream"})
+    @ParameterizedTest
+    void wrInts__(final Function<ByteOutput, BitOutput> outputFunction,
+                  final Function<ByteInput, BitInput> inputFunction, final int bits) throws IOException {
+        final var unsigned = current().nextBoolean();
+        final var size = BitIoRandom.nextSizeForInt(unsigned);
+        final var expected = IntStream.range(0, current().nextInt(1024))
+                .map(i -> BitIoRandom.nextValueForInt(unsigned, size)).toArray();
+        final var stream = new ByteArrayOutputStream();
+        final var output = outputFunction.apply(ByteOutputFactory.from(stream));
+        if (bits > 0) {
+            output.writeInt(true, bits, 0);
+        }
+        output.writeInts(unsigned, size, expected, 0, expected.length);
+        output.writeInt(true, 3, 0b101);
+        final var padded = output.align(1);
+        final var input = inputFunction.apply(ByteInputFactory.from(new ByteArrayInputStream(stream.toByteArray())));
+        if (bits > 0) {
+            assertThat(input.readInt(true, bits)).isZero();
+        }
+        final var actual = new int[expected.length + 2];
+        input.readInts(unsigned, size, actual, 1, expected.length);
+        assertThat(actual[0]).isZero();
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i + 1]).isEqualTo(expected[i]);
+        }
+        assertThat(actual[actual.length - 1]).isZero();
+        assertThat(input.readInt(true, 3)).isEqualTo(0b101);
+        assertThat(input.align(1)).isEqualTo(padded);
+    }
+
+    @MethodSource({"getAdaptersAndPrecedingBitsArgumentsStream"})
+    @ParameterizedTest
+    void wrLongs__(final Function<ByteOutput, BitOutput> outputFunction,
+                   final Function<ByteInput, BitInput> inputFunction, final int bits) throws IOException {
+        final var unsigned = current().nextBoolean();
+        final var size = BitIoRandom.nextSizeForLong(unsigned);
+        final var expected = IntStream.range(0, current().nextInt(1024))
+                .mapToLong(i -> BitIoRandom.nextValueForLong(unsigned, size)).toArray();
+        final var stream = new ByteArrayOutputStream();
+        final var output = outputFunction.apply(ByteOutputFactory.from(stream));
+        if (bits > 0) {
+            output.writeInt(true, bits, 0);
+        }
+        output.writeLongs(unsigned, size, expected, 0, expected.length);
+        final var padded = output.align(1);
+        final var input = inputFunction.apply(ByteInputFactory.from(new ByteArrayInputStream(stream.toByteArray())));
+        if (bits > 0) {
+            assertThat(input.readInt(true, bits)).isZero();
+        }
+        final var actual = new long[expected.length];
+        input.readLongs(unsigned, size, actual, 0, actual.length);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(input.align(1)).isEqualTo(padded);
+    }
+
+    @MethodSource({"getAdaptersAndPrecedingBitsArgumentsStream"})
+    @ParameterizedTest
+    void wrDoubles__(final Function<ByteOutput, BitOutput> outputFunction,
+                     final Function<ByteInput, BitInput> inputFunction, final int bits) throws IOException {
+        final var expected = current().doubles(current().nextInt(1024)).toArray();
+        final var stream = new ByteArrayOutputStream();
+        final var output = outputFunction.apply(ByteOutputFactory.from(stream));
+        if (bits > 0) {
+            output.writeInt(true, bits, 0);
+        }
+        output.writeDoubles(DoubleConstants.SIZE_EXPONENT, DoubleConstants.SIZE_SIGNIFICAND, expected, 0,
+                            expected.length);
+        final var padded = output.align(1);
+        final var input = inputFunction.apply(ByteInputFactory.from(new ByteArrayInputStream(stream.toByteArray())));
+        if (bits > 0) {
+            assertThat(input.readInt(true, bits)).isZero();
+        }
+        final var actual = new double[expected.length];
+        input.readDoubles(DoubleConstants.SIZE_EXPONENT, DoubleConstants.SIZE_SIGNIFICAND, actual, 0, actual.length);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(input.align(1)).isEqualTo(padded);
+    }
+
+    @MethodSource({"getAdaptersAndPrecedingBitsArgumentsStream"})
+    @ParameterizedTest
+    void readInts_IndexOutOfBoundsException_(final Function<ByteOutput, BitOutput> outputFunction,
+                                             final Function<ByteInput, BitInput> inputFunction, final int bits) {
+        final var input = inputFunction.apply(ByteInputFactory.from(new ByteArrayInputStream(new byte[0])));
+        assertThatThrownBy(() -> input.readInts(true, 1, new int[bits], 1, bits))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @MethodSource({"getAdaptersAndPrecedingBitsArgumentsStream"})
+    @ParameterizedTest
+    void wrBytes__(final Function<ByteOutput, BitOutput> outputFunction,
+                   final Function<ByteInput, BitInput> inputFunction, final int bits) throws IOException {
+        final var unsigned = current().nextBoolean();
+        final var size = BitIoRandom.nextSizeForByte(unsigned);
+        final var expected = new byte[current().nextInt(1024)];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = BitIoRandom.nextValueForByte(unsigned, size);
+        }
+        final var stream = new ByteArrayOutputStream();
+        final var output = outputFunction.apply(ByteOutputFactory.from(stream));
+        if (bits > 0) {
+            output.writeInt(true, bits, 0);
+        }
+        output.writeBytes(unsigned, size, expected, 0, expected.length);
+        final var padded = output.align(1);
+        final var input = inputFunction.apply(ByteInputFactory.from(new ByteArrayInputStream(stream.toByteArray())));
+        if (bits > 0) {
+            assertThat(input.readInt(true, bits)).isZero();
+        }
+        final var actual = new byte[expected.length];
+        input.readBytes(unsigned, size, actual, 0, actual.length);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(input.align(1)).isEqualTo(padded);
+    }
+
+    @MethodSource({"getAdaptersAndPrecedingBitsArgumentsStream"})
+    @ParameterizedTest
+    void wrShorts__CheckedOnce(final Function<ByteOutput, BitOutput> outputFunction,
+                               final Function<ByteInput, BitInput> inputFunction, final int bits) throws IOException {
+        final var unsigned = current().nextBoolean();
+        final var size = BitIoRandom.nextSizeForShort(unsigned);
+        final var expected = new short[current().nextInt(1, 1024)];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = BitIoRandom.nextValueForShort(unsigned, size);
+        }
+        final var stream = new ByteArrayOutputStream();
+        final var output = outputFunction.apply(ByteOutputFactory.from(stream));
+        if (bits > 0) {
+            output.writeInt(true, bits, 0);
+        }
+        try (MockedStatic<BitIoConstraints> constraints
+                     = Mockito.mockStatic(BitIoConstraints.class, Mockito.CALLS_REAL_METHODS)) {
+            output.writeShorts(unsigned, size, expected, 0, expected.length);
+            constraints.verify(() -> BitIoConstraints.requireValidSizeForShort(unsigned, size), Mockito.times(1));
+            constraints.verify(() -> BitIoConstraints.requireValidSizeForInt(Mockito.anyBoolean(), Mockito.anyInt()),
+                               Mockito.never());
+        }
+        output.align(1);
+        final var input = inputFunction.apply(ByteInputFactory.from(new ByteArrayInputStream(stream.toByteArray())));
+        if (bits > 0) {
+            assertThat(input.readInt(true, bits)).isZero();
+        }
+        final var actual = new short[expected.length];
+        try (MockedStatic<BitIoConstraints> constraints
+                     = Mockito.mockStatic(BitIoConstraints.class, Mockito.CALLS_REAL_METHODS)) {
+            input.readShorts(unsigned, size, actual, 0, actual.length);
+            constraints.verify(() -> BitIoConstraints.requireValidSizeForShort(unsigned, size), Mockito.times(1));
+            constraints.verify(() -> BitIoConstraints.requireValidSizeForInt(Mockito.anyBoolean(), Mockito.anyInt()),
+                               Mockito.never());
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A class for testing {@link BitOutput#writeBytes(byte[], int, int)} method and
+ * {@link BitInput#readBytes(byte[], int, int)} method.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class BitIo_Bytes_Test {
+
+    private static Stream<Arguments> getAdaptersAndPrecedingBitsArgumentsStream() {
+        final Function<ByteOutput, BitOutput> output = ByteOutputAdapter::new;
+        final Function<ByteOutput, BitOutput> output64 = ByteOutputAdapter64::new;
+        final Function<ByteInput, BitInput> input = ByteInputAdapter::new;
+        final Function<ByteInput, BitInput> input64 = ByteInputAdapter64::new;
+        return Stream.of(output, output64)
+                .flatMap(o -> Stream.of(input, input64).map(i -> new Object[]{o, i}))
+                .flatMap(a -> IntStream.range(0, Byte.SIZE << 1).mapToObj(b -> Arguments.of(a[0], a[1], b)));
+    }
+
+    @MethodSource({"getAdaptersAndPrecedingBitsArgumentsStream"})
+    @ParameterizedTest
+    void wr__(final Function<ByteOutput, BitOutput> outputFunction,
+              final Function<ByteInput, BitInput> inputFunction, final int bits) throws IOException {
+        final var expected = new byte[current().nextInt(BitIoConstants.BULK_CHUNK_SIZE << 2)];
+        current().nextBytes(expected);
+        final var stream = new ByteArrayOutputStream();
+        final var output = outputFunction.apply(ByteOutputFactory.from(stream));
+        if (bits > 0) {
+            output.writeInt(true, bits, 0);
+        }
+        output.writeBytes(expected, 0, expected.length);
+        output.writeInt(true, 3, 0b101);
+        final var padded = output.align(1);
+        final var input = inputFunction.apply(ByteInputFactory.from(new ByteArrayInputStream(stream.toByteArray())));
+        if (bits > 0) {
+            assertThat(input.readInt(true, bits)).isZero();
+        }
+        final var actual = new byte[expected.length + 2];
+        input.readBytes(actual, 1, expected.length);
+        assertThat(actual[0]).isZero();
+        assertThat(Arrays.copyOfRange(actual, 1, actual.length - 1)).isEqualTo(expected);
+        assertThat(actual[actual.length - 1]).isZero();
+        assertThat(input.readInt(true, 3)).isEqualTo(0b101);
+        assertThat(input.align(1)).isEqualTo(padded);
+    }
+
+    @MethodSource({"getAdaptersAndPrecedingBitsArgumentsStream"})
+    @ParameterizedTest
+    void readBytes_IndexOutOfBoundsException_(final Function<ByteOutput, BitOutput> outputFunction,
+                                              final Function<ByteInput, BitInput> inputFunction, final int bits) {
+        final var input = inputFunction.apply(ByteInputFactory.from(new ByteArrayInputStream(new byte[0])));
+        assertThatThrownBy(() -> input.readBytes(new byte[bits], 1, bits))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link BitInput#readLeadingZeros()} method.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class BitIo_LeadingZeros_Test {
+
+    private static Stream<Arguments> getInputsAndPrecedingBitsArgumentsStream() {
+        final Function<byte[], BitInput> input
+                = a -> new ByteInputAdapter(ByteInputFactory.from(new ByteArrayInputStream(a)));
+        final Function<byte[], BitInput> input64
+                = a -> new ByteInputAdapter64(ByteInputFactory.from(new ByteArrayInputStream(a)));
+        final Function<byte[], BitInput> seekable = BitInputFactory::seekable;
+        return Stream.of(input, input64, seekable)
+                .flatMap(i -> IntStream.range(0, Byte.SIZE).mapToObj(b -> Arguments.of(i, b)));
+    }
+
+    @MethodSource({"getInputsAndPrecedingBitsArgumentsStream"})
+    @ParameterizedTest
+    void readLeadingZeros__(final Function<byte[], BitInput> inputFunction, final int bits) throws IOException {
+        final var expected = IntStream.range(0, current().nextInt(1, 128))
+                .map(i -> current().nextBoolean() ? current().nextInt(8) : current().nextInt(256))
+                .toArray();
+        final var stream = new ByteArrayOutputStream();
+        final var output = new ByteOutputAdapter(ByteOutputFactory.from(stream));
+        if (bits > 0) {
+            output.writeInt(true, bits, 0);
+        }
+        for (final int zeros : expected) {
+            for (int i = 0; i < zeros; i++) {
+                output.writeBoolean(false);
+            }
+            output.writeBoolean(true);
+        }
+        output.writeInt(true, 3, 0b101);
+        output.align(1);
+        final var input = inputFunction.apply(stream.toByteArray());
+        if (bits > 0) {
+            assertThat(input.readInt(true, bits)).isZero();
+        }
+        for (final int zeros : expected) {
+            assertThat(input.readLeadingZeros()).isEqualTo(zeros);
+        }
+        assertThat(input.readInt(true, 3)).isEqualTo(0b101);
+    }
+}
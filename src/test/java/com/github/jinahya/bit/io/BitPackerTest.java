@@ -0,0 +1,90 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link BitPacker} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class BitPackerTest {
+
+    private static IntStream getWidthStream() {
+        return IntStream.rangeClosed(1, Long.SIZE);
+    }
+
+    private static long mask(final int width) {
+        return width == Long.SIZE ? -1L : (1L << width) - 1L;
+    }
+
+    private static long[] values(final int width) {
+        final var values = new long[BitPacker.BLOCK_SIZE * (current().nextInt(16) + 1)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = current().nextLong();
+        }
+        return values;
+    }
+
+    @MethodSource({"getWidthStream"})
+    @ParameterizedTest
+    void pack_SameAsWriteLong_(final int width) throws IOException {
+        final var mask = mask(width);
+        final var values = values(width);
+        final var blocks = values.length / BitPacker.BLOCK_SIZE;
+        final var packed = new byte[blocks * width];
+        BitPacker.pack(width, values, 0, packed, 0, blocks);
+        final var stream = new ByteArrayOutputStream();
+        final var output = new ByteOutputAdapter(ByteOutputFactory.from(stream));
+        for (final long value : values) {
+            if (width == Long.SIZE) {
+                output.writeLong(false, width, value);
+                continue;
+            }
+            output.writeLong(true, width, value & mask);
+        }
+        assertThat(output.align(1)).isZero();
+        assertThat(packed).isEqualTo(stream.toByteArray());
+    }
+
+    @MethodSource({"getWidthStream"})
+    @ParameterizedTest
+    void unpack_LowerBits_Array(final int width) {
+        final var mask = mask(width);
+        final var values = values(width);
+        final var blocks = values.length / BitPacker.BLOCK_SIZE;
+        final var packed = new byte[blocks * width + 1];
+        BitPacker.pack(width, values, 0, packed, 1, blocks);
+        final var unpacked = new long[values.length];
+        BitPacker.unpack(width, packed, 1, unpacked, 0, blocks);
+        assertThat(unpacked).isEqualTo(Arrays.stream(values).map(v -> v & mask).toArray());
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A class for testing {@link BufferBitInput} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class BufferBitInputTest {
+
+    @RepeatedTest(16)
+    void position__() throws IOException {
+        final var unsigned = new boolean[128];
+        final var sizes = new int[unsigned.length];
+        final var values = new long[unsigned.length];
+        final var positions = new long[unsigned.length];
+        final var stream = new ByteArrayOutputStream();
+        final var output = BitOutputFactory.from(stream);
+        for (int i = 0; i < values.length; i++) {
+            unsigned[i] = current().nextBoolean();
+            sizes[i] = BitIoRandom.nextSizeForLong(unsigned[i]);
+            values[i] = BitIoRandom.nextValueForLong(unsigned[i], sizes[i]);
+            positions[i] = i == 0 ? 0L : positions[i - 1] + sizes[i - 1];
+            output.writeLong(unsigned[i], sizes[i], values[i]);
+        }
+        output.align(1);
+        final var input = BitInputFactory.seekable(stream.toByteArray());
+        assertThat(input.size()).isEqualTo(stream.size() * (long) Byte.SIZE);
+        for (int j = 0; j < values.length; j++) {
+            final var i = current().nextInt(values.length);
+            input.position(positions[i]);
+            assertThat(input.readLong(unsigned[i], sizes[i])).isEqualTo(values[i]);
+            assertThat(input.position()).isEqualTo(positions[i] + sizes[i]);
+        }
+    }
+
+    @Test
+    void position__Invalid() {
+        final var input = BitInputFactory.seekable(new byte[2]);
+        assertThatThrownBy(() -> input.position(-1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> input.position(17L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void read__Remaining() throws IOException {
+        final var buffer = ByteBuffer.wrap(new byte[]{0, (byte) 0xF0, 0x0F});
+        buffer.position(1);
+        final var input = BitInputFactory.seekable(buffer);
+        assertThat(input.size()).isEqualTo(16L);
+        assertThat(input.readInt(true, 4)).isEqualTo(0xF);
+        input.position(12L);
+        assertThat(input.readInt(true, 4)).isEqualTo(0xF);
+        assertThat(input.position()).isEqualTo(input.size());
+        assertThatThrownBy(() -> input.readBoolean()).isInstanceOf(EOFException.class);
+        assertThat(buffer.position()).isEqualTo(1);
+    }
+}
@@ -29,6 +29,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -112,4 +114,85 @@ class ByteArrayTest {
     void test__five() throws IOException {
         run(randomize(new byte[5]));
     }
+
+    @MethodSource({"randomBytesStream"})
+    @ParameterizedTest
+    void read__intoArray(final byte[] expected) throws IOException {
+        final var dst = new byte[expected.length + 1];
+        final int length = BitIoTestUtils.wr1u(o -> {
+            new ByteArrayWriter(8).write(o, expected);
+            return i -> new ByteArrayReader(8).read(i, dst, 1);
+        });
+        assertThat(length).isEqualTo(expected.length);
+        assertThat(Arrays.copyOfRange(dst, 1, dst.length)).isEqualTo(expected);
+    }
+
+    @MethodSource({"randomBytesStream"})
+    @ParameterizedTest
+    void read__intoBuffer(final byte[] expected) throws IOException {
+        for (final var initial : new ByteBuffer[]{ByteBuffer.allocate(1), ByteBuffer.allocateDirect(256)}) {
+            final var buffer = BitIoTestUtils.wr1u(o -> {
+                new ByteArrayWriter(8).write(o, expected);
+                new ByteArrayWriter(8).write(o, expected);
+                return i -> {
+                    final var reader = new ByteArrayReader(8);
+                    return reader.read(i, reader.read(i, initial.put((byte) 0)));
+                };
+            });
+            buffer.flip();
+            assertThat(buffer.remaining()).isEqualTo(1 + expected.length * 2);
+            assertThat(buffer.get()).isZero();
+            final var actual = new byte[expected.length];
+            buffer.get(actual);
+            assertThat(actual).isEqualTo(expected);
+            buffer.get(actual);
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @MethodSource({"randomBytesStream"})
+    @ParameterizedTest
+    void read__intoBuffer_DstUnchangedWhenGrown(final byte[] expected) throws IOException {
+        final var dst = ByteBuffer.allocateDirect(2).put((byte) 1);
+        final var buffer = BitIoTestUtils.wr1u(o -> {
+            new ByteArrayWriter(8).write(o, expected);
+            return i -> new ByteArrayReader(8).read(i, dst);
+        });
+        if (expected.length > 1) {
+            assertThat(buffer).isNotSameAs(dst);
+            assertThat(dst.position()).isEqualTo(1);
+            assertThat(dst.limit()).isEqualTo(dst.capacity());
+        }
+        buffer.flip();
+        assertThat(buffer.get()).isEqualTo((byte) 1);
+        final var actual = new byte[expected.length];
+        buffer.get(actual);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @MethodSource({"randomBytesStream"})
+    @ParameterizedTest
+    void read__intoDirectBuffer_Reused(final byte[] expected) throws IOException {
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] &= 0x7F;
+        }
+        final var buffer = BitIoTestUtils.wr1u(o -> {
+            final var writer = ByteArrayWriter.compressedUtf8Adaptive();
+            writer.write(o, expected);
+            writer.write(o, Arrays.copyOf(expected, expected.length >> 1));
+            return i -> {
+                final var reader = ByteArrayReader.compressedUtf8Adaptive();
+                final var dst = ByteBuffer.allocateDirect(expected.length * 2);
+                return reader.read(i, reader.read(i, dst));
+            };
+        });
+        buffer.flip();
+        final var actual = new byte[expected.length];
+        buffer.get(actual);
+        assertThat(actual).isEqualTo(expected);
+        final var half = new byte[expected.length >> 1];
+        buffer.get(half);
+        assertThat(half).isEqualTo(Arrays.copyOf(expected, half.length));
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
 }
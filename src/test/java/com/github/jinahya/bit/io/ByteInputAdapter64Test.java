@@ -0,0 +1,186 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.aggregator.DefaultArgumentsAccessor;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A class for testing {@link ByteInputAdapter64} class against {@link ByteInputAdapter} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class ByteInputAdapter64Test {
+
+    private static Stream<Arguments> getUnsignedSizeAndValueArgumentsStream() {
+        return Stream.of(Boolean.TRUE, Boolean.FALSE)
+                .flatMap(u -> IntStream.range(0, 16)
+                        .map(i -> BitIoRandom.nextSizeForLong(u))
+                        .mapToObj(s -> Arguments.of(u, s))
+                )
+                .map(a -> {
+                    final var accessor = new DefaultArgumentsAccessor(a.get());
+                    final var unsigned = accessor.get(0, Boolean.class);
+                    final var size = accessor.get(1, Integer.class);
+                    return Arguments.of(unsigned, size, BitIoRandom.nextValueForLong(unsigned, size));
+                });
+    }
+
+    private static ByteInputAdapter64 input(final byte[] bytes) {
+        return new ByteInputAdapter64(ByteInputFactory.from(new ByteArrayInputStream(bytes)));
+    }
+
+    @MethodSource({"getUnsignedSizeAndValueArgumentsStream"})
+    @ParameterizedTest
+    void readLong__(final boolean unsigned, final int size, final long expected) throws IOException {
+        final var stream = new ByteArrayOutputStream();
+        final var output = BitOutputFactory.from(stream);
+        output.writeBoolean(true); // makes the value unaligned
+        output.writeLong(unsigned, size, expected);
+        final var padded = output.align(1);
+        final var input = input(stream.toByteArray());
+        assertThat(input.readBoolean()).isTrue();
+        assertThat(input.readLong(unsigned, size)).isEqualTo(expected);
+        assertThat(input.align(1)).isEqualTo(padded);
+    }
+
+    @RepeatedTest(16)
+    void readInt__() throws IOException {
+        final var count = current().nextInt(1, 128);
+        final var unsigned = new boolean[count];
+        final var sizes = new int[count];
+        final var values = new int[count];
+        final var stream = new ByteArrayOutputStream();
+        final var output = BitOutputFactory.from(stream);
+        for (int i = 0; i < count; i++) {
+            unsigned[i] = current().nextBoolean();
+            sizes[i] = BitIoRandom.nextSizeForInt(unsigned[i]);
+            values[i] = BitIoRandom.nextValueForInt(unsigned[i], sizes[i]);
+            output.writeInt(unsigned[i], sizes[i], values[i]);
+        }
+        output.align(1);
+        final var bytes = stream.toByteArray();
+        final var expected = new ByteInputAdapter(ByteInputFactory.from(new ByteArrayInputStream(bytes)));
+        final var actual = input(bytes);
+        for (int i = 0; i < count; i++) {
+            assertThat(actual.readInt(unsigned[i], sizes[i]))
+                    .isEqualTo(expected.readInt(unsigned[i], sizes[i]))
+                    .isEqualTo(values[i]);
+        }
+        assertThat(actual.align(1)).isEqualTo(expected.align(1));
+    }
+
+    @Test
+    void readLong_ReadsRequiredOctetsInBulk_() throws IOException {
+        final var bytes = new byte[Long.BYTES * 2];
+        current().nextBytes(bytes);
+        final var singles = new int[1];
+        final var bulks = new int[1];
+        final var octets = new int[1];
+        final var source = ByteInputFactory.from(new ByteArrayInputStream(bytes));
+        final var input = new ByteInputAdapter64(new ByteInput() {
+            @Override
+            public int read() throws IOException {
+                singles[0]++;
+                octets[0]++;
+                return source.read();
+            }
+
+            @Override
+            public void read(final byte[] dst, final int off, final int len) throws IOException {
+                bulks[0]++;
+                octets[0] += len;
+                source.read(dst, off, len);
+            }
+        });
+        input.readBoolean(); // 1 octet, 7 bits remaining
+        assertThat(singles[0]).isEqualTo(1);
+        input.readLong(true, 57); // 50 bits required; 7 octets with a single call
+        assertThat(bulks[0]).isEqualTo(1);
+        assertThat(octets[0]).isEqualTo(8);
+        input.readInt(true, 9); // 3 bits required; a single octet
+        assertThat(singles[0]).isEqualTo(2);
+        assertThat(bulks[0]).isEqualTo(1);
+        assertThat(input.align(Long.BYTES * 2)).isEqualTo(5L + Byte.SIZE * 7);
+        assertThat(octets[0]).isEqualTo(Long.BYTES * 2);
+    }
+
+    @RepeatedTest(16)
+    void readBytes_LeavesUnreadOctets_() throws IOException {
+        final var bytes = new byte[current().nextInt(2, 16)];
+        current().nextBytes(bytes);
+        final var stream = new ByteArrayInputStream(bytes);
+        final var input = new ByteInputAdapter64(ByteInputFactory.from(stream));
+        final var bits = current().nextInt(1, Byte.SIZE);
+        input.readInt(true, bits);
+        final var octets = new byte[current().nextInt(0, bytes.length - 1)];
+        input.readBytes(octets, 0, octets.length);
+        for (int i = 0; i < octets.length; i++) {
+            final var shifted = (bytes[i] << bits) | ((bytes[i + 1] & 0xFF) >> (Byte.SIZE - bits));
+            assertThat(octets[i]).isEqualTo((byte) shifted);
+        }
+        assertThat(stream.available()).isEqualTo(bytes.length - 1 - octets.length);
+        assertThat(input.align(1)).isEqualTo(Byte.SIZE - bits);
+        assertThat(stream.available()).isEqualTo(bytes.length - 1 - octets.length);
+    }
+
+    @RepeatedTest(16)
+    void align__() throws IOException {
+        final var stream = new ByteArrayOutputStream();
+        final var output = BitOutputFactory.from(stream);
+        final var bits = current().nextInt(1, 128);
+        output.skip(bits);
+        final var bytes = current().nextInt(1, 128);
+        final var padded = output.align(bytes);
+        final var input = input(stream.toByteArray());
+        input.skip(bits);
+        assertThat(input.align(bytes)).isEqualTo(padded);
+    }
+
+    @Test
+    void reset_IllegalStateException_NotAligned() throws IOException {
+        final var input = input(new byte[1]);
+        input.readBoolean();
+        assertThatThrownBy(input::reset).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void reset_DoesNotThrow_Aligned() throws IOException {
+        final var input = input(new byte[1]);
+        input.readInt(true, Byte.SIZE);
+        assertThatCode(input::reset).doesNotThrowAnyException();
+    }
+}
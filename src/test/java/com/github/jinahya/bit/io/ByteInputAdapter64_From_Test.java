@@ -0,0 +1,69 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.DataInput;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@code from64} factory methods defined in {@link BitInputFactory} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ByteOutputAdapter64_From_Test
+ */
+class ByteInputAdapter64_From_Test {
+
+    @Test
+    void from_ByteInputAdapter_() {
+        assertThat(BitInputFactory.from(InputStream.nullInputStream()))
+                .isInstanceOf(ByteInputAdapter.class);
+        assertThat(BitInputFactory.from(Mockito.mock(DataInput.class)))
+                .isInstanceOf(ByteInputAdapter.class);
+        assertThat(BitInputFactory.from(Mockito.mock(RandomAccessFile.class)))
+                .isInstanceOf(ByteInputAdapter.class);
+        assertThat(BitInputFactory.from(ByteBuffer.allocate(0)))
+                .isInstanceOf(ByteInputAdapter.class);
+        assertThat(BitInputFactory.from(Mockito.mock(ReadableByteChannel.class)))
+                .isInstanceOf(ByteInputAdapter.class);
+    }
+
+    @Test
+    void from64_ByteInputAdapter64_() {
+        assertThat(BitInputFactory.from64(InputStream.nullInputStream()))
+                .isInstanceOf(ByteInputAdapter64.class);
+        assertThat(BitInputFactory.from64(Mockito.mock(DataInput.class)))
+                .isInstanceOf(ByteInputAdapter64.class);
+        assertThat(BitInputFactory.from64(Mockito.mock(RandomAccessFile.class)))
+                .isInstanceOf(ByteInputAdapter64.class);
+        assertThat(BitInputFactory.from64(ByteBuffer.allocate(0)))
+                .isInstanceOf(ByteInputAdapter64.class);
+        assertThat(BitInputFactory.from64(Mockito.mock(ReadableByteChannel.class)))
+                .isInstanceOf(ByteInputAdapter64.class);
+    }
+}
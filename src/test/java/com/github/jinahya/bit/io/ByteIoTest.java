@@ -24,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,4 +54,34 @@ abstract class ByteIoTest<O extends ByteOutput, I extends ByteInput> {
         }
         assertThat(actual).isEqualTo(expected);
     }
+
+    @Test
+    void wr__Bulk() throws IOException {
+        final int count = ThreadLocalRandom.current().nextInt(1024);
+        final byte[] expected = new byte[count];
+        ThreadLocalRandom.current().nextBytes(expected);
+        final O output = newOutput(expected.length);
+        output.write(expected, 0, expected.length);
+        final I input = newInput(expected);
+        final byte[] actual = new byte[expected.length];
+        input.read(actual, 0, actual.length);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void wr__BulkBuffer() throws IOException {
+        final int count = ThreadLocalRandom.current().nextInt(1024);
+        final byte[] expected = new byte[count];
+        ThreadLocalRandom.current().nextBytes(expected);
+        final O output = newOutput(expected.length);
+        final ByteBuffer src = ByteBuffer.allocateDirect(expected.length).put(expected);
+        src.flip();
+        output.write(src);
+        assertThat(src.hasRemaining()).isFalse();
+        final I input = newInput(expected);
+        final ByteBuffer dst = ByteBuffer.allocate(expected.length);
+        input.read(dst);
+        assertThat(dst.hasRemaining()).isFalse();
+        assertThat(dst.array()).isEqualTo(expected);
+    }
 }
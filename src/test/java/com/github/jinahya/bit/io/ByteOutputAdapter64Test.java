@@ -0,0 +1,113 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A class for testing {@link ByteOutputAdapter64} class against {@link ByteOutputAdapter} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class ByteOutputAdapter64Test {
+
+    @RepeatedTest(16)
+    void write__SameBytesAsByteOutputAdapter() throws IOException {
+        final var expectedStream = new ByteArrayOutputStream();
+        final var expected = new ByteOutputAdapter(ByteOutputFactory.from(expectedStream));
+        final var actualStream = new ByteArrayOutputStream();
+        final var actual = new ByteOutputAdapter64(ByteOutputFactory.from(actualStream));
+        final var count = current().nextInt(1, 128);
+        for (int i = 0; i < count; i++) {
+            final var unsigned = current().nextBoolean();
+            switch (current().nextInt(3)) {
+                case 0:
+                    final var intSize = BitIoRandom.nextSizeForInt(unsigned);
+                    final var intValue = BitIoRandom.nextValueForInt(unsigned, intSize);
+                    expected.writeInt(unsigned, intSize, intValue);
+                    actual.writeInt(unsigned, intSize, intValue);
+                    break;
+                case 1:
+                    final var longSize = BitIoRandom.nextSizeForLong(unsigned);
+                    final var longValue = BitIoRandom.nextValueForLong(unsigned, longSize);
+                    expected.writeLong(unsigned, longSize, longValue);
+                    actual.writeLong(unsigned, longSize, longValue);
+                    break;
+                default:
+                    final var bits = current().nextInt(1, 128);
+                    expected.skip(bits);
+                    actual.skip(bits);
+                    break;
+            }
+        }
+        final var bytes = current().nextInt(1, 16);
+        assertThat(actual.align(bytes)).isEqualTo(expected.align(bytes));
+        assertThat(actualStream.toByteArray()).isEqualTo(expectedStream.toByteArray());
+    }
+
+    @RepeatedTest(16)
+    void wr__ByteInputAdapter64() throws IOException {
+        final var unsigned = current().nextBoolean();
+        final var size = BitIoRandom.nextSizeForLong(unsigned);
+        final var expected = BitIoRandom.nextValueForLong(unsigned, size);
+        final var stream = new ByteArrayOutputStream();
+        final var output = new ByteOutputAdapter64(ByteOutputFactory.from(stream));
+        output.writeLong(unsigned, size, expected);
+        final var padded = output.align(1);
+        final var input = new ByteInputAdapter64(ByteInputFactory.from(new ByteArrayInputStream(stream.toByteArray())));
+        assertThat(input.readLong(unsigned, size)).isEqualTo(expected);
+        assertThat(input.align(1)).isEqualTo(padded);
+    }
+
+    @Test
+    void align__WritesBufferedOctets() throws IOException {
+        final var stream = new ByteArrayOutputStream();
+        final var output = new ByteOutputAdapter64(ByteOutputFactory.from(stream));
+        output.writeInt(true, 12, 0xABC);
+        assertThat(stream.toByteArray()).isEmpty();
+        assertThat(output.align(1)).isEqualTo(4L);
+        assertThat(stream.toByteArray()).containsExactly(0xAB, 0xC0);
+    }
+
+    @Test
+    void reset_IllegalStateException_NotAligned() throws IOException {
+        final var output = new ByteOutputAdapter64(ByteOutputFactory.from(new ByteArrayOutputStream()));
+        output.writeBoolean(true);
+        assertThatThrownBy(output::reset).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void reset_DoesNotThrow_Aligned() throws IOException {
+        final var output = new ByteOutputAdapter64(ByteOutputFactory.from(new ByteArrayOutputStream()));
+        output.writeInt(true, Byte.SIZE, 0);
+        assertThatCode(output::reset).doesNotThrowAnyException();
+    }
+}
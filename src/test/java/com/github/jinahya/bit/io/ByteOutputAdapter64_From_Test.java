@@ -0,0 +1,69 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.DataOutput;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@code from64} factory methods defined in {@link BitOutputFactory} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see ByteInputAdapter64_From_Test
+ */
+class ByteOutputAdapter64_From_Test {
+
+    @Test
+    void from_ByteOutputAdapter_() {
+        assertThat(BitOutputFactory.from(OutputStream.nullOutputStream()))
+                .isInstanceOf(ByteOutputAdapter.class);
+        assertThat(BitOutputFactory.from(Mockito.mock(DataOutput.class)))
+                .isInstanceOf(ByteOutputAdapter.class);
+        assertThat(BitOutputFactory.from(Mockito.mock(RandomAccessFile.class)))
+                .isInstanceOf(ByteOutputAdapter.class);
+        assertThat(BitOutputFactory.from(ByteBuffer.allocate(0)))
+                .isInstanceOf(ByteOutputAdapter.class);
+        assertThat(BitOutputFactory.from(Mockito.mock(WritableByteChannel.class)))
+                .isInstanceOf(ByteOutputAdapter.class);
+    }
+
+    @Test
+    void from64_ByteOutputAdapter64_() {
+        assertThat(BitOutputFactory.from64(OutputStream.nullOutputStream()))
+                .isInstanceOf(ByteOutputAdapter64.class);
+        assertThat(BitOutputFactory.from64(Mockito.mock(DataOutput.class)))
+                .isInstanceOf(ByteOutputAdapter64.class);
+        assertThat(BitOutputFactory.from64(Mockito.mock(RandomAccessFile.class)))
+                .isInstanceOf(ByteOutputAdapter64.class);
+        assertThat(BitOutputFactory.from64(ByteBuffer.allocate(0)))
+                .isInstanceOf(ByteOutputAdapter64.class);
+        assertThat(BitOutputFactory.from64(Mockito.mock(WritableByteChannel.class)))
+                .isInstanceOf(ByteOutputAdapter64.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A class for testing {@link ChannelByteInput} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class ChannelByteInputTest {
+
+    private static Stream<Arguments> getCapacityAndDirectArgumentsStream() {
+        return IntStream.of(1, 2, 7, 8, 1024)
+                .boxed()
+                .flatMap(c -> Stream.of(Arguments.of(c, true), Arguments.of(c, false)));
+    }
+
+    private static ChannelByteInput input(final byte[] bytes, final int capacity, final boolean direct) {
+        return new ChannelByteInput(Channels.newChannel(new ByteArrayInputStream(bytes)), capacity, direct);
+    }
+
+    @MethodSource({"getCapacityAndDirectArgumentsStream"})
+    @ParameterizedTest
+    void read__(final int capacity, final boolean direct) throws IOException {
+        final var expected = new byte[current().nextInt(1024)];
+        current().nextBytes(expected);
+        final var input = input(expected, capacity, direct);
+        for (int i = 0; i < expected.length; ) {
+            if (current().nextBoolean()) {
+                assertThat((byte) input.read()).isEqualTo(expected[i++]);
+                continue;
+            }
+            final var actual = new byte[current().nextInt(expected.length - i + 1)];
+            input.read(actual, 0, actual.length);
+            assertThat(actual).isEqualTo(Arrays.copyOfRange(expected, i, i + actual.length));
+            i += actual.length;
+        }
+        assertThat(input.available()).isZero();
+        assertThatThrownBy(input::read).isInstanceOf(EOFException.class);
+    }
+
+    @MethodSource({"getCapacityAndDirectArgumentsStream"})
+    @ParameterizedTest
+    void available__(final int capacity, final boolean direct) throws IOException {
+        final var expected = new byte[capacity + 1];
+        current().nextBytes(expected);
+        final var input = input(expected, capacity, direct);
+        assertThat(input.available()).isZero();
+        input.read();
+        assertThat(input.available()).isEqualTo(capacity - 1);
+        final var rest = ByteBuffer.allocate(input.available());
+        input.read(rest);
+        assertThat(rest.array()).isEqualTo(Arrays.copyOfRange(expected, 1, capacity));
+        assertThat(input.available()).isZero();
+    }
+
+    @Test
+    void read__NeverReadsAhead() throws IOException {
+        final var stream = new ByteArrayInputStream(new byte[]{1, 2, 3});
+        final var input = new ChannelByteInput(Channels.newChannel(stream));
+        assertThat(input.read()).isEqualTo(1);
+        assertThat(input.available()).isZero();
+        assertThat(stream.available()).isEqualTo(2);
+        assertThat(input.read()).isEqualTo(2);
+        assertThat(input.read()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link ChannelByteOutput} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class ChannelByteOutputTest {
+
+    /**
+     * A gathering channel collects written bytes and counts gathering writes.
+     */
+    private static class Gathering
+            implements GatheringByteChannel {
+
+        @Override
+        public long write(final ByteBuffer[] srcs, final int offset, final int length) {
+            gatherings++;
+            long written = 0L;
+            for (int i = offset; i < offset + length; i++) {
+                written += write(srcs[i]);
+            }
+            return written;
+        }
+
+        @Override
+        public long write(final ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(final ByteBuffer src) {
+            final int written = src.remaining();
+            while (src.hasRemaining()) {
+                stream.write(src.get());
+            }
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+
+        private int gatherings;
+    }
+
+    private static Stream<Arguments> getCapacityDirectAndCountArgumentsStream() {
+        return IntStream.of(1, 2, 7, 8, 1024)
+                .boxed()
+                .flatMap(c -> Stream.of(true, false).flatMap(d -> IntStream.of(1, 2, 4).mapToObj(
+                        n -> Arguments.of(c, d, n))));
+    }
+
+    @MethodSource({"getCapacityDirectAndCountArgumentsStream"})
+    @ParameterizedTest
+    void write__(final int capacity, final boolean direct, final int count) throws IOException {
+        final var channel = new Gathering();
+        final var output = new ChannelByteOutput(channel, capacity, direct, count);
+        final var expected = new ByteArrayOutputStream();
+        final var size = current().nextInt(1024);
+        while (expected.size() < size) {
+            if (current().nextBoolean()) {
+                final var value = current().nextInt(256);
+                output.write(value);
+                expected.write(value);
+                continue;
+            }
+            final var src = new byte[current().nextInt(64)];
+            current().nextBytes(src);
+            output.write(src, 0, src.length);
+            expected.write(src, 0, src.length);
+        }
+        output.flush();
+        assertThat(channel.stream.toByteArray()).isEqualTo(expected.toByteArray());
+    }
+
+    @Test
+    void write__Gathering() throws IOException {
+        final var channel = new Gathering();
+        final var output = new ChannelByteOutput(channel, 4, false, 3);
+        for (int i = 0; i < 11; i++) {
+            output.write(i);
+        }
+        assertThat(channel.stream.size()).isZero();
+        output.write(11);
+        assertThat(channel.stream.size()).isEqualTo(12);
+        assertThat(channel.gatherings).isEqualTo(1);
+        output.write(12);
+        output.flush();
+        assertThat(channel.stream.toByteArray()).hasSize(13);
+    }
+
+    @Test
+    void write__Buffered() throws IOException {
+        final var stream = new ByteArrayOutputStream();
+        final var output = new ChannelByteOutput(Channels.newChannel(stream), 2, true);
+        output.write(1);
+        assertThat(stream.size()).isZero();
+        output.write(2);
+        assertThat(stream.toByteArray()).containsExactly(1, 2);
+        output.write(3);
+        output.flush();
+        assertThat(stream.toByteArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void write__NeverBuffers() throws IOException {
+        final var stream = new ByteArrayOutputStream();
+        final var output = new ChannelByteOutput(Channels.newChannel(stream));
+        for (int i = 1; i <= 3; i++) {
+            output.write(i);
+            assertThat(stream.size()).isEqualTo(i);
+        }
+        assertThat(stream.toByteArray()).containsExactly(1, 2, 3);
+    }
+}
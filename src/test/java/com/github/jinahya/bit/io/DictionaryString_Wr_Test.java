@@ -0,0 +1,79 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.jinahya.bit.io.BitIoTestUtils.wr1u;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link DictionaryStringWriter} and {@link DictionaryStringReader}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class DictionaryString_Wr_Test {
+
+    @ValueSource(ints = {1, 2, 3, 16, Integer.MAX_VALUE})
+    @ParameterizedTest
+    void wr__(final int maxSize) throws IOException {
+        final var expected = IntStream.range(0, current().nextInt(1024))
+                .mapToObj(i -> "tag" + current().nextInt(32))
+                .collect(Collectors.toList());
+        final var reset = current().nextInt(expected.size() + 1);
+        final List<String> actual = wr1u(o -> {
+            final var writer = new DictionaryStringWriter(StringWriter.compressedUtf8(), maxSize);
+            for (int i = 0; i < expected.size(); i++) {
+                if (i == reset) {
+                    writer.reset();
+                }
+                writer.write(o, expected.get(i));
+            }
+            return i -> {
+                final var reader = new DictionaryStringReader(StringReader.compressedUtf8(), maxSize);
+                final var list = new ArrayList<String>();
+                for (int j = 0; j < expected.size(); j++) {
+                    if (j == reset) {
+                        reader.reset();
+                    }
+                    list.add(reader.read(i));
+                }
+                return list;
+            };
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @CsvSource({"1,0", "2,1", "3,2", "4,2", "5,3", "1024,10", "1025,11", "2147483647,31"})
+    @ParameterizedTest
+    void indexSize__(final int size, final int expected) {
+        assertThat(DictionaryStringWriter.indexSize(size)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.github.jinahya.bit.io.BitIoTestUtils.wr1au;
+import static com.github.jinahya.bit.io.BitIoTestUtils.wr1u;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link DoubleWriter.CompressedXor} and {@link DoubleReader.CompressedXor}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class Double_Wr_CompressedXor_Test {
+
+    private static double[] gauge(final int length) {
+        final var values = new double[length];
+        double value = current().nextDouble(100.0d);
+        for (int i = 0; i < values.length; i++) {
+            if (current().nextInt(4) == 0) {
+                value += current().nextGaussian();
+            }
+            values[i] = Math.round(value * 100.0d) / 100.0d;
+        }
+        return values;
+    }
+
+    private static long[] bits(final double[] values) {
+        return Arrays.stream(values).mapToLong(Double::doubleToRawLongBits).toArray();
+    }
+
+    private static long[] wr(final double[] expected, final int block) throws IOException {
+        return wr1u(o -> {
+            final var writer = new DoubleWriter.CompressedXor();
+            for (int j = 0; j < expected.length; j++) {
+                if (j % block == 0) {
+                    writer.reset();
+                }
+                writer.writeDouble(o, expected[j]);
+            }
+            return i -> {
+                final var reader = new DoubleReader.CompressedXor();
+                final var actual = new long[expected.length];
+                for (int j = 0; j < actual.length; j++) {
+                    if (j % block == 0) {
+                        reader.reset();
+                    }
+                    actual[j] = Double.doubleToRawLongBits(reader.readDouble(i));
+                }
+                return actual;
+            };
+        });
+    }
+
+    @Test
+    void wr__gauge() throws IOException {
+        final var expected = gauge(current().nextInt(1, 4096));
+        assertThat(wr(expected, Integer.MAX_VALUE)).containsExactly(bits(expected));
+    }
+
+    @Test
+    void wr__special() throws IOException {
+        final var expected = new double[]{
+                0.0d, -0.0d, Double.NaN, Double.longBitsToDouble(0x7FF0000000000123L), Double.MIN_VALUE,
+                Double.MAX_VALUE, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 1.0d, 1.0d,
+                current().nextDouble(), current().nextDouble(), current().nextDouble()
+        };
+        for (final int block : new int[]{1, 2, 3, expected.length}) {
+            assertThat(wr(expected, block)).containsExactly(bits(expected));
+        }
+    }
+
+    @Test
+    void wr__constant() throws IOException {
+        final var expected = current().nextDouble();
+        final Double actual = wr1au(o -> {
+            final var writer = new DoubleWriter.CompressedXor();
+            for (int j = 0; j < 64; j++) {
+                writer.write(o, expected);
+            }
+            return (a, i) -> {
+                assertThat(a).hasSize((Long.SIZE + 63 + Byte.SIZE - 1) / Byte.SIZE);
+                final var reader = new DoubleReader.CompressedXor();
+                for (int j = 0; j < 63; j++) {
+                    assertThat(reader.read(i)).isEqualTo(expected);
+                }
+                return reader.read(i);
+            };
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+
+import static com.github.jinahya.bit.io.BitIoTestUtils.wr1u;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * A class for testing {@link DoubleWriter.Quantized} and {@link DoubleReader.Quantized}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class Double_Wr_Quantized_Test {
+
+    @CsvSource({
+            "-180.0,180.0,0.000005,26",
+            "-90.0,90.0,0.000005,25",
+            "0.0,1.0,0.5,1",
+            "0.0,1.0,0.25,2",
+            "5.0,5.0,1.0,1"
+    })
+    @ParameterizedTest
+    void size__(final double min, final double max, final double maxError, final int size) {
+        assertThat(new DoubleWriter.Quantized(min, max, maxError).getSize()).isEqualTo(size);
+    }
+
+    @CsvSource({
+            "-180.0,180.0,0.000005",
+            "-1.0,1.0,0.001",
+            "0.0,1000000.0,0.5"
+    })
+    @ParameterizedTest
+    void wr__(final double min, final double max, final double maxError) throws IOException {
+        final var expected = current().doubles(current().nextInt(2, 1024), min, max).toArray();
+        expected[0] = min;
+        expected[expected.length - 1] = max;
+        final double[] actual = wr1u(o -> {
+            final var writer = new DoubleWriter.Quantized(min, max, maxError);
+            for (final double value : expected) {
+                writer.writeDouble(o, value);
+            }
+            return i -> {
+                final var reader = new DoubleReader.Quantized(min, max, maxError);
+                final var values = new double[expected.length];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = reader.readDouble(i);
+                }
+                return values;
+            };
+        });
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(maxError));
+        }
+    }
+
+    @Test
+    void __invalid() {
+        assertThatThrownBy(() -> new DoubleWriter.Quantized(1.0d, 0.0d, 1.0d))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DoubleWriter.Quantized(0.0d, 1.0d, 0.0d))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DoubleReader.Quantized(0.0d, 1.0d, 1.0E-20d))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DoubleWriter.Quantized(1.0E+20d, 1.0E+20d, 1.0d))
+                .isInstanceOf(IllegalArgumentException.class); // ulp(1.0E+20) > 1.0
+        assertThatThrownBy(() -> wr1u(o -> {
+            new DoubleWriter.Quantized(0.0d, 1.0d, 0.1d).write(o, 2.0d);
+            return i -> null;
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @CsvSource({
+            "-180.0,180.0,0.000005",
+            "-1.0,1.0,0.001",
+            "0.0,1000000.0,0.5",
+            "1000.0,1001.0,0.000001"
+    })
+    @ParameterizedTest
+    void wr__Midpoints(final double min, final double max, final double maxError) throws IOException {
+        final var step = DoubleWriter.Quantized.step(min, max, maxError);
+        final var expected = new double[1024];
+        for (int i = 0; i < expected.length; i++) {
+            final long q = current().nextLong(DoubleWriter.Quantized.levels(min, max, maxError) + 1);
+            expected[i] = (double) Math.min(min + (q + 0.5d) * step, max);
+        }
+        final double[] actual = wr1u(o -> {
+            final var writer = new DoubleWriter.Quantized(min, max, maxError);
+            for (final double value : expected) {
+                writer.writeDouble(o, value);
+            }
+            return i -> {
+                final var reader = new DoubleReader.Quantized(min, max, maxError);
+                final var values = new double[expected.length];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = reader.readDouble(i);
+                }
+                return values;
+            };
+        });
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(maxError));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.github.jinahya.bit.io.BitIoTestUtils.wr1au;
+import static com.github.jinahya.bit.io.BitIoTestUtils.wr1u;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link FloatWriter.CompressedXor} and {@link FloatReader.CompressedXor}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class Float_Wr_CompressedXor_Test {
+
+    private static float[] gauge(final int length) {
+        final var values = new float[length];
+        float value = current().nextFloat() * 100.0f;
+        for (int i = 0; i < values.length; i++) {
+            if (current().nextInt(4) == 0) {
+                value += (float) current().nextGaussian();
+            }
+            values[i] = Math.round(value * 100.0f) / 100.0f;
+        }
+        return values;
+    }
+
+    private static int[] bits(final float[] values) {
+        final var bits = new int[values.length];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = Float.floatToRawIntBits(values[i]);
+        }
+        return bits;
+    }
+
+    private static int[] wr(final float[] expected, final int block) throws IOException {
+        return wr1u(o -> {
+            final var writer = new FloatWriter.CompressedXor();
+            for (int j = 0; j < expected.length; j++) {
+                if (j % block == 0) {
+                    writer.reset();
+                }
+                writer.writeFloat(o, expected[j]);
+            }
+            return i -> {
+                final var reader = new FloatReader.CompressedXor();
+                final var actual = new int[expected.length];
+                for (int j = 0; j < actual.length; j++) {
+                    if (j % block == 0) {
+                        reader.reset();
+                    }
+                    actual[j] = Float.floatToRawIntBits(reader.readFloat(i));
+                }
+                return actual;
+            };
+        });
+    }
+
+    @Test
+    void wr__gauge() throws IOException {
+        final var expected = gauge(current().nextInt(1, 4096));
+        assertThat(wr(expected, Integer.MAX_VALUE)).containsExactly(bits(expected));
+    }
+
+    @Test
+    void wr__special() throws IOException {
+        final var expected = new float[]{
+                0.0f, -0.0f, Float.NaN, Float.intBitsToFloat(0x7F800123), Float.MIN_VALUE,
+                Float.MAX_VALUE, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, 1.0f, 1.0f,
+                current().nextFloat(), current().nextFloat(), current().nextFloat()
+        };
+        for (final int block : new int[]{1, 2, 3, expected.length}) {
+            assertThat(wr(expected, block)).containsExactly(bits(expected));
+        }
+    }
+
+    @Test
+    void wr__constant() throws IOException {
+        final var expected = current().nextFloat();
+        final Float actual = wr1au(o -> {
+            final var writer = new FloatWriter.CompressedXor();
+            for (int j = 0; j < 64; j++) {
+                writer.write(o, expected);
+            }
+            return (a, i) -> {
+                assertThat(a).hasSize((Integer.SIZE + 63 + Byte.SIZE - 1) / Byte.SIZE);
+                final var reader = new FloatReader.CompressedXor();
+                for (int j = 0; j < 63; j++) {
+                    assertThat(reader.read(i)).isEqualTo(expected);
+                }
+                return reader.read(i);
+            };
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+
+import static com.github.jinahya.bit.io.BitIoTestUtils.wr1u;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * A class for testing {@link FloatWriter.Quantized} and {@link FloatReader.Quantized}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class Float_Wr_Quantized_Test {
+
+    @CsvSource({
+            "-180.0,180.0,0.0001,21",
+            "-40.0,125.0,0.05,11",
+            "0.0,1.0,0.5,1",
+            "0.0,1.0,0.25,2",
+            "5.0,5.0,1.0,1"
+    })
+    @ParameterizedTest
+    void size__(final float min, final float max, final float maxError, final int size) {
+        assertThat(new FloatWriter.Quantized(min, max, maxError).getSize()).isEqualTo(size);
+    }
+
+    @CsvSource({
+            "-180.0,180.0,0.0001",
+            "-1.0,1.0,0.001",
+            "0.0,1000000.0,0.5"
+    })
+    @ParameterizedTest
+    void wr__(final float min, final float max, final float maxError) throws IOException {
+        final var expected = new float[current().nextInt(2, 1024)];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = Math.min(min + current().nextFloat() * (max - min), max);
+        }
+        expected[0] = min;
+        expected[expected.length - 1] = max;
+        final float[] actual = wr1u(o -> {
+            final var writer = new FloatWriter.Quantized(min, max, maxError);
+            for (final float value : expected) {
+                writer.writeFloat(o, value);
+            }
+            return i -> {
+                final var reader = new FloatReader.Quantized(min, max, maxError);
+                final var values = new float[expected.length];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = reader.readFloat(i);
+                }
+                return values;
+            };
+        });
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(maxError));
+        }
+    }
+
+    @Test
+    void __invalid() {
+        assertThatThrownBy(() -> new FloatWriter.Quantized(1.0f, 0.0f, 1.0f))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FloatWriter.Quantized(0.0f, 1.0f, 0.0f))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FloatReader.Quantized(0.0f, 1.0f, 1.0E-20f))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new FloatWriter.Quantized(1.0E+20f, 1.0E+20f, 1.0f))
+                .isInstanceOf(IllegalArgumentException.class); // ulp(1.0E+20) > 1.0
+        assertThatThrownBy(() -> wr1u(o -> {
+            new FloatWriter.Quantized(0.0f, 1.0f, 0.1f).write(o, 2.0f);
+            return i -> null;
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @CsvSource({
+            "-180.0,180.0,0.0001",
+            "-1.0,1.0,0.001",
+            "0.0,1000000.0,0.5",
+            "1000.0,1001.0,0.0001"
+    })
+    @ParameterizedTest
+    void wr__Midpoints(final float min, final float max, final float maxError) throws IOException {
+        final var step = FloatWriter.Quantized.step(min, max, maxError);
+        final var expected = new float[1024];
+        for (int i = 0; i < expected.length; i++) {
+            final long q = current().nextLong(FloatWriter.Quantized.levels(min, max, maxError) + 1);
+            expected[i] = (float) Math.min(min + (q + 0.5d) * step, max);
+        }
+        final float[] actual = wr1u(o -> {
+            final var writer = new FloatWriter.Quantized(min, max, maxError);
+            for (final float value : expected) {
+                writer.writeFloat(o, value);
+            }
+            return i -> {
+                final var reader = new FloatReader.Quantized(min, max, maxError);
+                final var values = new float[expected.length];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = reader.readFloat(i);
+                }
+                return values;
+            };
+        });
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i]).isCloseTo(expected[i], within(maxError));
+        }
+    }
+}
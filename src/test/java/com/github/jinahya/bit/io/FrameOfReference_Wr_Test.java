@@ -0,0 +1,147 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link FrameOfReferenceIntArrayWriter}/{@link FrameOfReferenceIntArrayReader} and
+ * {@link FrameOfReferenceLongArrayWriter}/{@link FrameOfReferenceLongArrayReader}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class FrameOfReference_Wr_Test {
+
+    private static long[] clustered(final int length, final long base, final int width, final double outliers) {
+        return IntStream.range(0, length).mapToLong(i -> {
+            if (current().nextDouble() < outliers) {
+                return current().nextLong();
+            }
+            return base + (width == 0 ? 0L : current().nextLong() >>> (Long.SIZE - width));
+        }).toArray();
+    }
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void wr__long(final boolean patched) throws IOException {
+        final var expected = clustered(current().nextInt(1024), current().nextLong(), current().nextInt(64),
+                                       current().nextDouble(0.1d));
+        final long[] actual = BitIoTestUtils.wr1u(o -> {
+            new FrameOfReferenceLongArrayWriter(patched).write(o, expected);
+            return i -> new FrameOfReferenceLongArrayReader(patched).read(i);
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void wr__longExtremes(final boolean patched) throws IOException {
+        final var expected = new long[]{Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L, 1L};
+        final long[] actual = BitIoTestUtils.wr1u(o -> {
+            new FrameOfReferenceLongArrayWriter(patched).write(o, expected);
+            new FrameOfReferenceLongArrayWriter(patched).write(o, new long[]{Long.MIN_VALUE, Long.MIN_VALUE});
+            return i -> {
+                assertThat(new FrameOfReferenceLongArrayReader(patched).read(i)).isEqualTo(expected);
+                return new FrameOfReferenceLongArrayReader(patched).read(i);
+            };
+        });
+        assertThat(actual).containsExactly(Long.MIN_VALUE, Long.MIN_VALUE);
+    }
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void wr__int(final boolean patched) throws IOException {
+        final var expected = IntStream.range(0, current().nextInt(1024))
+                .map(i -> current().nextDouble() < 0.01d ? current().nextInt() : 1000 + current().nextInt(16))
+                .toArray();
+        final var dst = new int[expected.length + 1];
+        final int length = BitIoTestUtils.wr1u(o -> {
+            new FrameOfReferenceIntArrayWriter(patched).write(o, expected);
+            return i -> new FrameOfReferenceIntArrayReader(patched).read(i, dst, 1);
+        });
+        assertThat(length).isEqualTo(expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(dst[i + 1]).isEqualTo(expected[i]);
+        }
+    }
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void wr__patchedIsSmallerWithOutliers(final boolean outlier) throws IOException {
+        final var expected = clustered(1024, 1L << 40, 4, 0.0d);
+        if (outlier) {
+            expected[current().nextInt(expected.length)] = Long.MAX_VALUE;
+        }
+        final var sizes = new long[2];
+        for (final boolean patched : new boolean[]{false, true}) {
+            BitIoTestUtils.wr1au(o -> {
+                new FrameOfReferenceLongArrayWriter(patched).write(o, expected);
+                return (a, i) -> {
+                    sizes[patched ? 1 : 0] = a.length;
+                    return new FrameOfReferenceLongArrayReader(patched).read(i);
+                };
+            });
+        }
+        if (outlier) {
+            assertThat(sizes[1]).isLessThan(sizes[0] / 8);
+        } else {
+            assertThat(sizes[1]).isLessThanOrEqualTo(sizes[0] + 3);
+        }
+    }
+
+    @ValueSource(booleans = {true, false})
+    @ParameterizedTest
+    void wr__intSameAsLong(final boolean patched) throws IOException {
+        final var expected = IntStream.range(0, current().nextInt(1, 1024))
+                .map(i -> current().nextDouble() < 0.05d ? current().nextInt() : current().nextInt(1 << 12))
+                .toArray();
+        expected[current().nextInt(expected.length)] = current().nextBoolean() ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        final var bytes = new byte[2][];
+        for (final boolean ints : new boolean[]{true, false}) {
+            final long[] actual = BitIoTestUtils.wr1au(o -> {
+                final var writer = new FrameOfReferenceIntArrayWriter(patched);
+                if (ints) {
+                    writer.write(o, expected);
+                    writer.write(o, expected, 1, expected.length - 1); // reuses the scratch
+                } else {
+                    final var values = IntStream.of(expected).asLongStream().toArray();
+                    new FrameOfReferenceLongArrayWriter(patched).write(o, values);
+                    new FrameOfReferenceLongArrayWriter(patched).write(o, values, 1, values.length - 1);
+                }
+                return (a, i) -> {
+                    bytes[ints ? 0 : 1] = a;
+                    final var reader = new FrameOfReferenceIntArrayReader(patched);
+                    assertThat(reader.read(i)).isEqualTo(expected);
+                    return IntStream.of(reader.read(i)).asLongStream().toArray();
+                };
+            });
+            assertThat(actual).isEqualTo(IntStream.of(expected).skip(1).asLongStream().toArray());
+        }
+        assertThat(bytes[0]).isEqualTo(bytes[1]);
+    }
+}
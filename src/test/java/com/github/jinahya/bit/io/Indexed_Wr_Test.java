@@ -0,0 +1,108 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A class for testing {@link IndexedWriter} and {@link IndexedReader}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class Indexed_Wr_Test {
+
+    @ValueSource(ints = {1, 2, 3, 16})
+    @ParameterizedTest
+    void wr__(final int interval) throws IOException {
+        final var expected = new ArrayList<User>();
+        final var stream = new ByteArrayOutputStream();
+        final var output = BitOutputFactory.from(stream);
+        output.writeInt(true, 3, 0); // an unaligned prefix
+        final var writer = new IndexedWriter<User>(output, new UserWriter(), interval);
+        for (int i = current().nextInt(128); i > 0; i--) {
+            final var user = User.newRandomInstance();
+            writer.write(user);
+            expected.add(user);
+        }
+        writer.writeIndex();
+        assertThat(writer.count()).isEqualTo(expected.size());
+        final var reader = new IndexedReader<User>(BitInputFactory.seekable(stream.toByteArray()), new UserReader());
+        assertThat(reader.count()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            final var index = current().nextInt(expected.size());
+            assertThat(reader.read(index)).isEqualTo(expected.get(index));
+        }
+        reader.seek(0L);
+        for (final var user : expected) {
+            assertThat(reader.read()).isEqualTo(user);
+        }
+        assertThatThrownBy(reader::read).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void wr__BulkForwarded() throws IOException {
+        final var expected = new ArrayList<int[]>();
+        final var stream = new ByteArrayOutputStream();
+        final var output = Mockito.spy(BitOutputFactory.from(stream));
+        output.writeInt(true, 5, 0); // an unaligned prefix
+        final var writer = new IndexedWriter<int[]>(output, new IntArrayWriter(false, 17), 3);
+        for (int i = current().nextInt(1, 64); i > 0; i--) {
+            final var value = new int[current().nextInt(32)];
+            for (int j = 0; j < value.length; j++) {
+                value[j] = BitIoRandom.nextValueForInt(false, 17);
+            }
+            writer.write(value);
+            expected.add(value);
+        }
+        writer.writeIndex();
+        Mockito.verify(output, Mockito.times(expected.size()))
+                .writeInts(Mockito.eq(false), Mockito.eq(17), Mockito.any(), Mockito.eq(0), Mockito.anyInt());
+        final var reader = new IndexedReader<int[]>(BitInputFactory.seekable(stream.toByteArray()),
+                                                    new IntArrayReader(false, 17));
+        for (int i = 0; i < expected.size(); i++) {
+            final var index = current().nextInt(expected.size());
+            assertThat(reader.read(index)).isEqualTo(expected.get(index));
+        }
+    }
+
+    @Test
+    void seek__OutOfBounds() throws IOException {
+        final var stream = new ByteArrayOutputStream();
+        final var writer = new IndexedWriter<User>(BitOutputFactory.from(stream), new UserWriter(), 2);
+        writer.write(User.newRandomInstance());
+        writer.writeIndex();
+        final var reader = new IndexedReader<User>(BitInputFactory.seekable(stream.toByteArray()), new UserReader());
+        assertThatThrownBy(() -> reader.seek(-1L)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> reader.seek(2L)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
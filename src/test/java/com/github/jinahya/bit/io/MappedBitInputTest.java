@@ -0,0 +1,116 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A class for testing {@link MappedBitInput} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class MappedBitInputTest {
+
+    @ValueSource(ints = {1, 2, 7, 8, 9, 1024})
+    @ParameterizedTest
+    void read__(final int window, @TempDir final Path tempDir) throws IOException {
+        final var unsigned = new boolean[128];
+        final var sizes = new int[unsigned.length];
+        final var values = new long[unsigned.length];
+        final var stream = new ByteArrayOutputStream();
+        final var output = BitOutputFactory.from(stream);
+        for (int i = 0; i < values.length; i++) {
+            unsigned[i] = current().nextBoolean();
+            sizes[i] = BitIoRandom.nextSizeForLong(unsigned[i]);
+            values[i] = BitIoRandom.nextValueForLong(unsigned[i], sizes[i]);
+            output.writeLong(unsigned[i], sizes[i], values[i]);
+        }
+        output.align(1);
+        final var prefix = current().nextInt(16);
+        final var path = Files.createTempFile(tempDir, null, null);
+        Files.write(path, new byte[prefix]);
+        Files.write(path, stream.toByteArray(), StandardOpenOption.APPEND);
+        try (FileChannel channel = FileChannel.open(path)) {
+            final var input = new MappedBitInput(channel, prefix, stream.size(), window);
+            for (int i = 0; i < values.length; i++) {
+                assertThat(input.readLong(unsigned[i], sizes[i])).isEqualTo(values[i]);
+            }
+            input.align(1);
+            assertThatThrownBy(() -> input.readInt(true, 1)).isInstanceOf(EOFException.class);
+        }
+    }
+
+    @RepeatedTest(16)
+    void readBytes__(@TempDir final Path tempDir) throws IOException {
+        final var expected = new byte[current().nextInt(1024)];
+        current().nextBytes(expected);
+        final var path = Files.createTempFile(tempDir, null, null);
+        Files.write(path, expected);
+        try (FileChannel channel = FileChannel.open(path)) {
+            final var input = new MappedBitInput(channel, 0L, expected.length, current().nextInt(1, 128));
+            final var actual = new byte[expected.length];
+            input.readBytes(actual, 0, actual.length);
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void from__Path(@TempDir final Path tempDir) throws IOException {
+        final var path = Files.createTempFile(tempDir, null, null);
+        Files.write(path, new byte[]{(byte) 0b1010_0101, 0x7F});
+        try (MappedBitInput input = BitInputFactory.from(path)) {
+            assertThat(input.readInt(true, 4)).isEqualTo(0b1010);
+            input.skip(4);
+            assertThat(input.readByte(false, 8)).isEqualTo((byte) 0x7F);
+            assertThat(input.align(1)).isZero();
+        }
+    }
+
+    @Test
+    void position__(@TempDir final Path tempDir) throws IOException {
+        final var path = Files.createTempFile(tempDir, null, null);
+        Files.write(path, new byte[]{0x01, 0x23, 0x45, 0x67, (byte) 0x89});
+        try (MappedBitInput input = BitInputFactory.from(path)) {
+            assertThat(input.size()).isEqualTo(40L);
+            input.position(28L);
+            assertThat(input.readInt(true, 8)).isEqualTo(0x78);
+            input.position(4L);
+            assertThat(input.readInt(true, 12)).isEqualTo(0x123);
+            assertThat(input.position()).isEqualTo(16L);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * A class for testing {@link MappedBitOutput} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class MappedBitOutputTest {
+
+    @ValueSource(ints = {1, 2, 7, 8, 9, 1024})
+    @ParameterizedTest
+    void wr__(final int chunk, @TempDir final Path tempDir) throws IOException {
+        final var unsigned = new boolean[128];
+        final var sizes = new int[unsigned.length];
+        final var values = new long[unsigned.length];
+        final var path = Files.createTempFile(tempDir, null, null);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var output = new MappedBitOutput(channel, 0L, chunk);
+            try (output) {
+                for (int i = 0; i < values.length; i++) {
+                    unsigned[i] = current().nextBoolean();
+                    sizes[i] = BitIoRandom.nextSizeForLong(unsigned[i]);
+                    values[i] = BitIoRandom.nextValueForLong(unsigned[i], sizes[i]);
+                    output.writeLong(unsigned[i], sizes[i], values[i]);
+                }
+            }
+        }
+        final var bits = Arrays.stream(sizes).asLongStream().sum();
+        assertThat(Files.size(path)).isEqualTo((bits + Byte.SIZE - 1) / Byte.SIZE);
+        try (InputStream stream = Files.newInputStream(path)) {
+            final var input = BitInputFactory.from(stream);
+            for (int i = 0; i < values.length; i++) {
+                assertThat(input.readLong(unsigned[i], sizes[i])).isEqualTo(values[i]);
+            }
+        }
+    }
+
+    @Test
+    void writeBytes__(@TempDir final Path tempDir) throws IOException {
+        final var expected = new byte[current().nextInt(1024)];
+        current().nextBytes(expected);
+        final var path = Files.createTempFile(tempDir, null, null);
+        try (MappedBitOutput output = BitOutputFactory.from(path)) {
+            output.writeBytes(expected, 0, expected.length);
+        }
+        assertThat(Files.readAllBytes(path)).isEqualTo(expected);
+    }
+
+    @Test
+    void close__Truncate_Owned(@TempDir final Path tempDir) throws IOException {
+        final var path = Files.createTempFile(tempDir, null, null);
+        Files.write(path, new byte[]{1, 2, 3, 4, 5});
+        try (MappedBitOutput output = BitOutputFactory.from(path)) {
+            output.writeInt(true, 4, 0b1010);
+        }
+        assertThat(Files.readAllBytes(path)).containsExactly(0b1010_0000);
+    }
+
+    @Test
+    void close__Truncate_NotOwned(@TempDir final Path tempDir) throws IOException {
+        final var expected = new byte[current().nextInt(1, 16)];
+        current().nextBytes(expected);
+        final var path = Files.createTempFile(tempDir, null, null);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var output = BitOutputFactory.from(channel, 0L);
+            try (output) {
+                output.writeBytes(expected, 0, expected.length);
+            }
+            assertThat(channel.isOpen()).isTrue();
+            assertThat(output.end()).isEqualTo(expected.length);
+            assertThat(channel.size()).isEqualTo(expected.length);
+        }
+        assertThat(Files.readAllBytes(path)).isEqualTo(expected);
+    }
+
+    @Test
+    void close__DoesNotTruncateBelowOriginalSize_NotOwned(@TempDir final Path tempDir) throws IOException {
+        final var path = Files.createTempFile(tempDir, null, null);
+        Files.write(path, new byte[]{1, 2, 3, 4, 5});
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final var output = BitOutputFactory.from(channel, 1L);
+            try (output) {
+                output.writeInt(true, 4, 0b1010);
+            }
+            assertThat(channel.isOpen()).isTrue();
+            assertThat(output.end()).isEqualTo(2L);
+        }
+        assertThat(Files.readAllBytes(path)).containsExactly(1, 0b1010_0000, 3, 4, 5);
+    }
+
+    @Test
+    void close__Idempotent(@TempDir final Path tempDir) throws IOException {
+        final var path = Files.createTempFile(tempDir, null, null);
+        final var output = BitOutputFactory.from(path);
+        output.writeInt(true, 4, 0b1010);
+        output.close();
+        assertThatCode(output::close).doesNotThrowAnyException();
+        assertThat(Files.readAllBytes(path)).containsExactly(0b1010_0000);
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import static com.github.jinahya.bit.io.BitIoConstants.COUNT_READER_COMPRESSED;
+import static com.github.jinahya.bit.io.BitIoConstants.COUNT_WRITER_COMPRESSED;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link IntArrayWriter}/{@link IntArrayReader}, {@link LongArrayWriter}/{@link LongArrayReader},
+ * and {@link DoubleArrayWriter}/{@link DoubleArrayReader}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class PrimitiveArray_Wr_Test {
+
+    @Test
+    void wr__int() throws IOException {
+        final var unsigned = current().nextBoolean();
+        final var size = BitIoRandom.nextSizeForInt(unsigned);
+        final var expected = IntStream.range(0, current().nextInt(1024))
+                .map(i -> BitIoRandom.nextValueForInt(unsigned, size)).toArray();
+        final int[] actual = BitIoTestUtils.wr1u(o -> {
+            new IntArrayWriter(unsigned, size).write(o, expected);
+            return i -> new IntArrayReader(unsigned, size).read(i);
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void wr__long() throws IOException {
+        final var unsigned = current().nextBoolean();
+        final var size = BitIoRandom.nextSizeForLong(unsigned);
+        final var expected = IntStream.range(0, current().nextInt(1024))
+                .mapToLong(i -> BitIoRandom.nextValueForLong(unsigned, size)).toArray();
+        final long[] actual = BitIoTestUtils.wr1u(o -> {
+            new LongArrayWriter(unsigned, size).countWriter(COUNT_WRITER_COMPRESSED).write(o, expected);
+            return i -> new LongArrayReader(unsigned, size).countReader(COUNT_READER_COMPRESSED).read(i);
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void wr__double() throws IOException {
+        final var expected = current().doubles(current().nextInt(1024)).toArray();
+        final double[] actual = BitIoTestUtils.wr1u(o -> {
+            new DoubleArrayWriter().write(o, expected);
+            return i -> new DoubleArrayReader().read(i);
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void wr__intInto() throws IOException {
+        final var expected = IntStream.range(0, current().nextInt(1024)).map(i -> current().nextInt()).toArray();
+        final var dst = new int[expected.length + 2];
+        final int length = BitIoTestUtils.wr1u(o -> {
+            new IntArrayWriter(false, Integer.SIZE).write(o, expected);
+            return i -> new IntArrayReader(false, Integer.SIZE).read(i, dst, 1);
+        });
+        assertThat(length).isEqualTo(expected.length);
+        assertThat(dst[0]).isZero();
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(dst[i + 1]).isEqualTo(expected[i]);
+        }
+        assertThat(dst[dst.length - 1]).isZero();
+    }
+
+    @Test
+    void wr__longRangeInto() throws IOException {
+        final var src = IntStream.range(0, current().nextInt(1, 1024)).mapToLong(i -> current().nextLong()).toArray();
+        final var off = current().nextInt(src.length);
+        final var len = current().nextInt(src.length - off + 1);
+        final var dst = new long[len];
+        final int length = BitIoTestUtils.wr1u(o -> {
+            new LongArrayWriter(false, Long.SIZE).write(o, src, off, len);
+            return i -> new LongArrayReader(false, Long.SIZE).read(i, dst, 0);
+        });
+        assertThat(length).isEqualTo(len);
+        for (int i = 0; i < len; i++) {
+            assertThat(dst[i]).isEqualTo(src[off + i]);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link StringCache} class.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class StringCacheTest {
+
+    private static String get(final StringCache cache, final String value) {
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        return cache.get(StringCache.hash(bytes, 0, bytes.length), bytes, 0, bytes.length);
+    }
+
+    private static void put(final StringCache cache, final String value) {
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        cache.put(StringCache.hash(bytes, 0, bytes.length), bytes, 0, bytes.length, value);
+    }
+
+    @Test
+    void get_Null_Missing() {
+        final var cache = new StringCache(1);
+        assertThat(get(cache, "a")).isNull();
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.getMissCount()).isOne();
+    }
+
+    @Test
+    void put_EvictsUnreferenced_Full() {
+        final var cache = new StringCache(2);
+        put(cache, "a");
+        put(cache, "b");
+        assertThat(get(cache, "a")).isEqualTo("a"); // referenced
+        put(cache, "c"); // evicts "b"
+        assertThat(get(cache, "b")).isNull();
+        assertThat(get(cache, "a")).isEqualTo("a");
+        assertThat(get(cache, "c")).isEqualTo("c");
+        assertThat(cache.getHitCount()).isEqualTo(3L);
+        assertThat(cache.getMissCount()).isOne();
+    }
+
+    @ValueSource(ints = {1, 2, 3, 1 << 29, (1 << 29) + 1, Integer.MAX_VALUE})
+    @ParameterizedTest
+    void buckets_PowerOfTwoNotGreaterThanMax_(final int capacity) {
+        final var buckets = StringCache.buckets(capacity);
+        assertThat(buckets).isPositive().isLessThanOrEqualTo(StringCache.BUCKETS_MAX);
+        assertThat(Integer.bitCount(buckets)).isOne();
+        assertThat(buckets).isGreaterThanOrEqualTo(Math.min(capacity, StringCache.BUCKETS_MAX));
+    }
+}
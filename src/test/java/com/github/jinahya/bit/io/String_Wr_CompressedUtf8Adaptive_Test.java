@@ -0,0 +1,69 @@
+package com.github.jinahya.bit.io;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static com.github.jinahya.bit.io.BitIoTestUtils.wr1u;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A class for testing {@link StringWriter#compressedUtf8Adaptive()} and {@link StringReader#compressedUtf8Adaptive()}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+class String_Wr_CompressedUtf8Adaptive_Test {
+
+    private static Stream<String> randomValueStream() {
+        return Stream.of(
+                ByteArray_Wr_CompressedAscii_Test.randomValueStream()
+                        .map(b -> new String(b, StandardCharsets.US_ASCII)),
+                ByteArray_Wr_CompressedUtf8_Test.randomValueStream()
+                        .map(b -> new String(b, StandardCharsets.UTF_8)),
+                Stream.of("", "a", "abcdefg", "abcdefgh", "abcdefghi", "abcdefghé", "éabcdefgh")
+        ).flatMap(s -> s);
+    }
+
+    @MethodSource({"randomValueStream"})
+    @ParameterizedTest
+    void wr__(final String expected) throws IOException {
+        final var actual = wr1u(o -> {
+            StringWriter.compressedUtf8Adaptive().write(o, expected);
+            return i -> StringReader.compressedUtf8Adaptive().read(i);
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @MethodSource({"randomValueStream"})
+    @ParameterizedTest
+    void wr__nullable(final String expected) throws IOException {
+        final var actual = wr1u(o -> {
+            StringWriter.compressedUtf8Adaptive().nullable().write(o, expected);
+            return i -> StringReader.compressedUtf8Adaptive().nullable().read(i);
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+}
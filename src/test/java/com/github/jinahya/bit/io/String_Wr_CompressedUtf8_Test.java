@@ -25,6 +25,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 
@@ -83,4 +84,52 @@ class String_Wr_CompressedUtf8_Test {
         });
         assertThat(actual).isEqualTo(expected);
     }
+
+    @MethodSource({"randomValueStream"})
+    @ParameterizedTest
+    void wr__readIntoStringBuilder(final String expected) throws IOException {
+        final var builder = new StringBuilder("prefix");
+        final int length = wr1u(o -> {
+            StringWriter.compressedUtf8().write(o, expected);
+            return i -> StringReader.compressedUtf8().read(i, builder);
+        });
+        assertThat(length).isEqualTo(expected.length());
+        assertThat(builder.toString()).isEqualTo("prefix" + expected);
+    }
+
+    @MethodSource({"randomValueStream"})
+    @ParameterizedTest
+    void wr__readIntoCharBuffer(final String expected) throws IOException {
+        final var buffer = CharBuffer.allocate(expected.length() * 2);
+        final var actual = wr1u(o -> {
+            final var writer = StringWriter.compressedUtf8();
+            writer.write(o, expected);
+            writer.write(o, expected);
+            return i -> {
+                final var reader = StringReader.compressedUtf8();
+                assertThat(reader.read(i, buffer)).isEqualTo(expected.length());
+                assertThat(reader.read(i, buffer)).isEqualTo(expected.length());
+                return buffer.flip().toString();
+            };
+        });
+        assertThat(actual).isEqualTo(expected + expected);
+    }
+
+    @MethodSource({"randomValueStream"})
+    @ParameterizedTest
+    void wr__cached(final String expected) throws IOException {
+        final var reader = StringReader.compressedUtf8().cacheCapacity(2);
+        final String[] actual = wr1u(o -> {
+            final var writer = StringWriter.compressedUtf8();
+            writer.write(o, expected);
+            writer.write(o, "other");
+            writer.write(o, expected);
+            return i -> new String[]{reader.read(i), reader.read(i), reader.read(i)};
+        });
+        assertThat(actual[0]).isEqualTo(expected);
+        assertThat(actual[1]).isEqualTo("other");
+        assertThat(actual[2]).isSameAs(actual[0]);
+        assertThat(reader.getCacheHitCount()).isEqualTo(expected.equals("other") ? 2L : 1L);
+        assertThat(reader.getCacheMissCount()).isEqualTo(expected.equals("other") ? 1L : 2L);
+    }
 }
@@ -0,0 +1,100 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitIoTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaOfDelta_Wr_Test {
+
+    private static long[] timestamps(final int length) {
+        final var values = new long[length];
+        long timestamp = System.currentTimeMillis();
+        for (int i = 0; i < values.length; i++) {
+            timestamp += 1000L;
+            if (current().nextInt(10) == 0) {
+                timestamp += current().nextInt(-100, 100);
+            }
+            if (current().nextInt(100) == 0) {
+                timestamp += current().nextInt(100000);
+            }
+            values[i] = timestamp;
+        }
+        return values;
+    }
+
+    @Test
+    void wr__regular() throws IOException {
+        final var expected = IntStream.range(0, 1024).mapToLong(i -> 1000L * i).toArray();
+        final long[] actual = BitIoTestUtils.wr1au(o -> {
+            final var writer = new DeltaOfDeltaWriter();
+            for (final long value : expected) {
+                writer.writeLong(o, value);
+            }
+            return (a, i) -> {
+                // 64 + (4 + 12) + 1022
+                assertThat(a).hasSize((64 + 16 + 1022 + 7) / 8);
+                final var reader = new DeltaOfDeltaReader();
+                final var values = new long[expected.length];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = reader.readLong(i);
+                }
+                return values;
+            };
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void wr__reset() throws IOException {
+        final var expected = timestamps(current().nextInt(1, 4096));
+        expected[current().nextInt(expected.length)] = Long.MIN_VALUE;
+        expected[current().nextInt(expected.length)] = Long.MAX_VALUE;
+        final var block = current().nextInt(1, 128);
+        final long[] actual = BitIoTestUtils.wr1u(o -> {
+            final var writer = new DeltaOfDeltaWriter();
+            for (int j = 0; j < expected.length; j++) {
+                if (j % block == 0) {
+                    writer.reset();
+                }
+                writer.writeLong(o, expected[j]);
+            }
+            return i -> {
+                final var reader = new DeltaOfDeltaReader();
+                final var values = new long[expected.length];
+                for (int j = 0; j < values.length; j++) {
+                    if (j % block == 0) {
+                        reader.reset();
+                    }
+                    values[j] = reader.readLong(i);
+                }
+                return values;
+            };
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitIoRandom;
+import com.github.jinahya.bit.io.BitIoTestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EliasDelta_Wr_Test {
+
+    private static Stream<Arguments> testVector() {
+        return Stream.of(
+                Arguments.of(1L, new int[]{0b1000_0000}),
+                Arguments.of(2L, new int[]{0b0100_0000}),
+                Arguments.of(3L, new int[]{0b0101_0000}),
+                Arguments.of(4L, new int[]{0b0110_0000}),
+                Arguments.of(17L, new int[]{0b0010_1000, 0b1000_0000})
+        );
+    }
+
+    private static long[] _longs() {
+        return Arrays.stream(BitIoRandom.nextUnsignedLongArray()).map(v -> Math.max(v, 1L)).toArray();
+    }
+
+    @MethodSource({"testVector"})
+    @ParameterizedTest
+    void wr__TestVector(final long expected, final int[] bytes) throws IOException {
+        final long actual = BitIoTestUtils.wr1au(o -> {
+            EliasDeltaWriter.getInstance().writeLong(o, expected);
+            return (a, i) -> {
+                assertThat(a).containsExactly(bytes);
+                return EliasDeltaReader.getInstance().readLong(i);
+            };
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @MethodSource({"_longs"})
+    @ParameterizedTest
+    void wr__random(final long expected) throws IOException {
+        final long actual = BitIoTestUtils.wr1au(o -> {
+            EliasDeltaWriter.getInstance().writeLong(o, expected);
+            return (a, i) -> EliasDeltaReader.getInstance().readLong(i);
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void wr__max() throws IOException {
+        final long actual = BitIoTestUtils.wr1au(o -> {
+            EliasDeltaWriter.getInstance().writeLong(o, Long.MAX_VALUE);
+            return (a, i) -> EliasDeltaReader.getInstance().readLong(i);
+        });
+        assertThat(actual).isEqualTo(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitIoRandom;
+import com.github.jinahya.bit.io.BitIoTestUtils;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpGolomb_Wr_Test {
+
+    private static Stream<Arguments> testVector() {
+        return Stream.of(
+                Arguments.of(0, 0L, new int[]{0b1000_0000}),
+                Arguments.of(0, 3L, new int[]{0b0010_0000}),
+                Arguments.of(2, 5L, new int[]{0b0100_1000}),
+                Arguments.of(2, 0L, new int[]{0b1000_0000})
+        );
+    }
+
+    private static Stream<Arguments> randomArguments() {
+        return IntStream.of(0, 1, 2, 3, 7, 31, 62).boxed()
+                .flatMap(k -> Arrays.stream(BitIoRandom.nextUnsignedLongArray())
+                        .map(v -> Math.min(v, Long.MAX_VALUE - 1L))
+                        .mapToObj(v -> Arguments.of(k, v)));
+    }
+
+    @MethodSource({"testVector"})
+    @ParameterizedTest
+    void wr__TestVector(final int k, final long expected, final int[] bytes) throws IOException {
+        final long actual = BitIoTestUtils.wr1au(o -> {
+            new ExpGolombWriter(k).writeLong(o, expected);
+            return (a, i) -> {
+                assertThat(a).containsExactly(bytes);
+                return new ExpGolombReader(k).readLong(i);
+            };
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @MethodSource({"randomArguments"})
+    @ParameterizedTest
+    void wr__random(final int k, final long expected) throws IOException {
+        final long actual = BitIoTestUtils.wr1au(o -> {
+            new ExpGolombWriter(k).writeLong(o, expected);
+            return (a, i) -> new ExpGolombReader(k).readLong(i);
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+}
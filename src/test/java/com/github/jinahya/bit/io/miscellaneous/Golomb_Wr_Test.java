@@ -0,0 +1,124 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitIoTestUtils;
+import com.github.jinahya.bit.io.BitOutput;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Golomb_Wr_Test {
+
+    private static Stream<Arguments> testVector() {
+        return Stream.of(
+                Arguments.of(1L, 2L, new int[]{0b0010_0000}),
+                Arguments.of(3L, 0L, new int[]{0b1000_0000}),
+                Arguments.of(3L, 4L, new int[]{0b0110_0000}),
+                Arguments.of(5L, 7L, new int[]{0b0110_0000}),
+                Arguments.of(5L, 9L, new int[]{0b0111_1000})
+        );
+    }
+
+    private static Stream<Arguments> randomArguments() {
+        return LongStream.of(1L, 2L, 3L, 5L, 10L, 1000L, Long.MAX_VALUE).boxed()
+                .flatMap(m -> current().longs(16, 0L, m < 1L << 50 ? m << 10 : Long.MAX_VALUE)
+                        .mapToObj(v -> Arguments.of(m, v)));
+    }
+
+    @MethodSource({"testVector"})
+    @ParameterizedTest
+    void wr__TestVector(final long m, final long expected, final int[] bytes) throws IOException {
+        final long actual = BitIoTestUtils.wr1au(o -> {
+            new GolombWriter(m).writeLong(o, expected);
+            return (a, i) -> {
+                assertThat(a).containsExactly(bytes);
+                return new GolombReader(m).readLong(i);
+            };
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @MethodSource({"randomArguments"})
+    @ParameterizedTest
+    void wr__random(final long m, final long expected) throws IOException {
+        final long actual = BitIoTestUtils.wr1au(o -> {
+            new GolombWriter(m).writeLong(o, expected);
+            return (a, i) -> new GolombReader(m).readLong(i);
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ValueSource(longs = {1L, 10L, 1000L, 1L << 20, 1L << 40})
+    @ParameterizedTest
+    void wr__adaptive(final long bound) throws IOException {
+        final var expected = current().longs(current().nextInt(1, 128), 0L, bound).toArray();
+        final var actual = new long[expected.length];
+        BitIoTestUtils.wr1u(o -> {
+            final var writer = GolombWriter.adaptive();
+            writer.writeBlock(o, expected, 0, expected.length);
+            assertThatThrownBy(() -> writer.writeLong(o, bound))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            return i -> {
+                final var reader = GolombReader.adaptive();
+                reader.readBlock(i, actual, 0, actual.length);
+                assertThatThrownBy(() -> reader.readLong(i))
+                        .isInstanceOf(UnsupportedOperationException.class);
+                return null;
+            };
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void write__IllegalArgumentException_QuotientGreaterThanIntegerMax() {
+        final var output = Mockito.mock(BitOutput.class);
+        assertThatThrownBy(() -> new GolombWriter(1L).writeLong(output, Integer.MAX_VALUE + 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        Mockito.verifyNoInteractions(output);
+    }
+
+    @Test
+    void wr__adaptiveQuotientsNotGreaterThanIntegerMax() throws IOException {
+        final var expected = new long[current().nextInt(2, 128)];
+        expected[current().nextInt(expected.length)] = Long.MAX_VALUE;
+        final var actual = new long[expected.length];
+        BitIoTestUtils.wr1u(o -> {
+            GolombWriter.adaptive().writeBlock(o, expected, 0, expected.length);
+            return i -> {
+                GolombReader.adaptive().readBlock(i, actual, 0, actual.length);
+                return null;
+            };
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+}
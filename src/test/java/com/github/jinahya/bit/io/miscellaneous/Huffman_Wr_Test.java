@@ -0,0 +1,167 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitInputFactory;
+import com.github.jinahya.bit.io.BitIoTestUtils;
+import com.github.jinahya.bit.io.BitOutputFactory;
+import com.github.jinahya.bit.io.ByteInputAdapter;
+import com.github.jinahya.bit.io.ByteInputFactory;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Huffman_Wr_Test {
+
+    private static int[] symbols(final long[] frequencies, final int length) {
+        final var present = IntStream.range(0, frequencies.length).filter(i -> frequencies[i] > 0L).toArray();
+        return IntStream.range(0, length).map(i -> present[current().nextInt(present.length)]).toArray();
+    }
+
+    private static void wr(final long[] frequencies) throws IOException {
+        final var lengths = HuffmanWriter.lengths(frequencies);
+        for (final int length : lengths) {
+            assertThat(length).isBetween(0, HuffmanWriter.MAX_LENGTH);
+        }
+        final var expected = symbols(frequencies, current().nextInt(1, 1024));
+        final var actual = new int[expected.length + 1];
+        final Integer last = BitIoTestUtils.wr1u(o -> {
+            HuffmanWriter.writeLengths(o, lengths);
+            final var writer = new HuffmanWriter(lengths);
+            writer.write(o, expected, 0, expected.length);
+            writer.write(o, expected[0]);
+            return i -> {
+                final var reader = new HuffmanReader(HuffmanReader.readLengths(i));
+                reader.read(i, actual, 1, expected.length);
+                return reader.read(i);
+            };
+        });
+        for (int i = 0; i < expected.length; i++) {
+            assertThat(actual[i + 1]).isEqualTo(expected[i]);
+        }
+        assertThat(last).isEqualTo(expected[0]);
+    }
+
+    @Test
+    void wr__canonical() throws IOException {
+        // 0 -> 10, 1 -> 0, 2 -> 110, 3 -> 111
+        final var lengths = new int[]{2, 1, 3, 3};
+        final int[] actual = BitIoTestUtils.wr1au(o -> {
+            final var writer = new HuffmanWriter(lengths);
+            for (int symbol = 0; symbol < lengths.length; symbol++) {
+                writer.writeInt(o, symbol);
+            }
+            return (a, i) -> {
+                assertThat(a).containsExactly(0b1001_1011, 0b1000_0000);
+                final var reader = new HuffmanReader(lengths);
+                final var symbols = new int[lengths.length];
+                reader.read(i, symbols, 0, symbols.length);
+                return symbols;
+            };
+        });
+        assertThat(actual).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    void wr__random() throws IOException {
+        final var frequencies = new long[current().nextInt(1, 1024)];
+        for (int i = 0; i < frequencies.length; i++) {
+            frequencies[i] = current().nextInt(4) == 0 ? 0L : current().nextLong(1L, 1L << current().nextInt(1, 40));
+        }
+        frequencies[current().nextInt(frequencies.length)] = 1L;
+        wr(frequencies);
+    }
+
+    @Test
+    void wr__single() throws IOException {
+        final var frequencies = new long[current().nextInt(1, 16)];
+        frequencies[current().nextInt(frequencies.length)] = current().nextLong(1L, Long.MAX_VALUE);
+        wr(frequencies);
+    }
+
+    @Test
+    void wr__deep() throws IOException {
+        // Fibonacci frequencies yield codes longer than MAX_LENGTH unless scaled
+        final var frequencies = new long[64];
+        frequencies[0] = frequencies[1] = 1L;
+        for (int i = 2; i < frequencies.length; i++) {
+            frequencies[i] = frequencies[i - 1] + frequencies[i - 2];
+        }
+        wr(frequencies);
+    }
+
+    @Test
+    void lengths__notPrefixCode() {
+        assertThatThrownBy(() -> new HuffmanWriter(new int[]{1, 1, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HuffmanReader(new int[]{0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void readInt_PeeksOnceAndConsumesCodeLength_Skewed() throws IOException {
+        // 0 -> 0, 1 -> 10, 2 -> 110, ..., 12 -> 1111111111110, 13 -> 11111111111110, 14 -> 11111111111111
+        final var lengths = IntStream.rangeClosed(1, 15).map(i -> Math.min(i, 14)).toArray();
+        final var expected = IntStream.range(0, current().nextInt(1, 1024))
+                .map(i -> Math.min(Integer.numberOfTrailingZeros(current().nextInt() | 1 << 14), lengths.length - 1))
+                .toArray();
+        final var stream = new ByteArrayOutputStream();
+        final var output = BitOutputFactory.from(stream);
+        new HuffmanWriter(lengths).write(output, expected, 0, expected.length);
+        output.align(1);
+        final var bytes = stream.toByteArray();
+        final var reader = new HuffmanReader(lengths);
+        { // seekable
+            final var input = Mockito.spy(BitInputFactory.seekable(bytes));
+            long position = 0L;
+            for (final int symbol : expected) {
+                assertThat(reader.readInt(input)).isEqualTo(symbol);
+                assertThat(input.position()).isEqualTo(position += lengths[symbol]);
+            }
+            Mockito.verify(input, Mockito.times(expected.length)).peekInt(HuffmanReader.ROOT_SIZE);
+            // codes no longer than the root table are decoded without any read; longer ones continue, bit by bit,
+            // with the next tables of the ladder
+            final var reads = Arrays.stream(expected).map(s -> Math.max(lengths[s] - HuffmanReader.ROOT_SIZE, 0)).sum();
+            Mockito.verify(input, Mockito.times(reads)).readInt(ArgumentMatchers.eq(true), ArgumentMatchers.anyInt());
+        }
+        { // not seekable; no octet is read ahead
+            final var trailer = current().nextInt(1, 16);
+            final var source = new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length + trailer));
+            final var input = new ByteInputAdapter(ByteInputFactory.from(source));
+            final var actual = new int[expected.length];
+            reader.read(input, actual, 0, actual.length);
+            assertThat(actual).isEqualTo(expected);
+            assertThat(input.align(1)).isEqualTo(bytes.length * (long) Byte.SIZE - Arrays.stream(expected)
+                    .mapToLong(symbol -> lengths[symbol]).sum());
+            assertThat(source.available()).isEqualTo(trailer);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.jinahya.bit.io.miscellaneous;
+
+/*-
+ * #%L
+ * bit-io2
+ * %%
+ * Copyright (C) 2020 - 2022 Jinahya, Inc.
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.github.jinahya.bit.io.BitIoTestUtils;
+import com.github.jinahya.bit.io.LongReader;
+import com.github.jinahya.bit.io.LongWriter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZigZag_Wr_Test {
+
+    private static Stream<Arguments> delegates() {
+        return Stream.of(
+                Arguments.of(VlqWriter.getInstance(), VlqReader.getInstance()),
+                Arguments.of(Leb128Writer.getInstanceUnsigned(), Leb128Reader.getInstanceUnsigned())
+        );
+    }
+
+    private static Stream<Arguments> randomArguments() {
+        return delegates().flatMap(d -> LongStream.concat(
+                LongStream.of(0L, -1L, 1L, -64L, 63L, -65L, 64L, -8192L, 8192L, Long.MAX_VALUE >> 1, Long.MIN_VALUE >> 1),
+                current().longs(16).map(v -> v >> current().nextInt(1, Long.SIZE))
+        ).mapToObj(v -> Arguments.of(d.get()[0], d.get()[1], v)));
+    }
+
+    @CsvSource({
+            "0,0",
+            "-1,1",
+            "1,2",
+            "-2,3",
+            "2147483647,4294967294",
+            "-2147483648,4294967295",
+            "9223372036854775807,-2",
+            "-9223372036854775808,-1"
+    })
+    @ParameterizedTest
+    void encode__(final long value, final long encoded) {
+        assertThat(ZigZagWriter.encode(value)).isEqualTo(encoded);
+        assertThat(ZigZagReader.decode(encoded)).isEqualTo(value);
+    }
+
+    @MethodSource({"randomArguments"})
+    @ParameterizedTest
+    void wr__(final LongWriter writer, final LongReader reader, final long expected) throws IOException {
+        final long actual = BitIoTestUtils.wr1au(o -> {
+            new ZigZagWriter(writer).writeLong(o, expected);
+            return (a, i) -> {
+                if (expected >= -64L && expected < 64L) {
+                    assertThat(a).hasSize(1);
+                }
+                return new ZigZagReader(reader).readLong(i);
+            };
+        });
+        assertThat(actual).isEqualTo(expected);
+    }
+}